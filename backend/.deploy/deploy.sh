@@ -6,17 +6,20 @@ ACTIVE=""
 INACTIVE=""
 ACTIVE_PORT=""
 INACTIVE_PORT=""
+INACTIVE_MANAGEMENT_PORT=""
 
 if sudo docker ps --format '{{.Names}}' | grep -q 'app-blue'; then
   ACTIVE=blue
   INACTIVE=green
   ACTIVE_PORT=8080
   INACTIVE_PORT=8081
+  INACTIVE_MANAGEMENT_PORT=8091
 else
   ACTIVE=green
   INACTIVE=blue
   ACTIVE_PORT=8081
   INACTIVE_PORT=8080
+  INACTIVE_MANAGEMENT_PORT=8090
 fi
 
 echo "현재 활성 서비스: $ACTIVE"
@@ -35,7 +38,8 @@ RETRY_INTERVAL=3
 SUCCESS=false
 
 for i in $(seq 1 $MAX_RETRIES); do
-  if curl -fs http://localhost:${INACTIVE_PORT}/actuator/health > /dev/null; then
+  # actuator는 서비스 포트가 아닌 내부 관리 포트에서만 응답함
+  if curl -fs http://localhost:${INACTIVE_MANAGEMENT_PORT}/actuator/health > /dev/null; then
     echo "✅ Health check 성공: $INACTIVE 서비스가 정상입니다."
     SUCCESS=true
     break
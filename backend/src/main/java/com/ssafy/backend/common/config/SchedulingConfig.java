@@ -0,0 +1,40 @@
+package com.ssafy.backend.common.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+/**
+ * 스케줄링 설정 클래스
+ * write-behind 플러시, 만료 토큰 정리 등 @Scheduled 작업을 활성화함
+ *
+ * @Scheduled 작업은 전용 스레드 풀에서 실행함
+ * (스레드가 하나면 수 초 걸리는 만료 토큰 정리 동안 수십 ms 주기의 마우스/브로드캐스트 플러시가 모두 멈춤,
+ * STOMP 설정이 등록하는 브로커용 TaskScheduler와도 섞이지 않게 직접 지정)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig implements SchedulingConfigurer {
+
+    @Value("${scheduling.pool-size:4}")
+    private int poolSize;
+
+    @Bean
+    public ThreadPoolTaskScheduler scheduledTaskScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix("scheduling-");
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(10);
+        return scheduler;
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        taskRegistrar.setTaskScheduler(scheduledTaskScheduler());
+    }
+}
@@ -1,13 +1,21 @@
 package com.ssafy.backend.common.config;
 
 import com.ssafy.backend.common.interceptor.StompChannelInterceptor;
+import com.ssafy.backend.common.websocket.BinaryPayloadCodec;
+import com.ssafy.backend.common.websocket.CborMessageConverter;
+import com.ssafy.backend.common.websocket.SlowConsumerGuard;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.converter.MessageConverter;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+
+import java.util.List;
 
 /**
  * WebSocket 설정 클래스
@@ -21,6 +29,44 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     // 클라이언트에서 들어오는 메시지를 가로채기 위한 커스텀 인터셉터
     private final StompChannelInterceptor stompChannelInterceptor;
 
+    // CBOR 바이너리 페이로드 코덱
+    private final BinaryPayloadCodec binaryPayloadCodec;
+
+    // 느린 세션 송신 정책 (outbound 채널 인터셉터 + 세션 데코레이터)
+    private final SlowConsumerGuard slowConsumerGuard;
+
+    // 세션별 송신 버퍼 한도 (초과 시 세션 종료)
+    @Value("${websocket.transport.send-buffer-size-limit:524288}")
+    private int sendBufferSizeLimit;
+
+    // 소켓 쓰기 하나에 허용하는 최대 시간 (초과 시 세션 종료)
+    @Value("${websocket.transport.send-time-limit-ms:10000}")
+    private int sendTimeLimit;
+
+    // 수신 메시지 최대 크기
+    @Value("${websocket.transport.message-size-limit:65536}")
+    private int messageSizeLimit;
+
+    // inbound 채널 스레드 풀 (파싱, 인증, 마우스 커서 중계만 처리하고 나머지 액션은 PlanExecutionLanes로 넘김)
+    @Value("${websocket.inbound.core-pool-size:4}")
+    private int inboundCorePoolSize;
+
+    @Value("${websocket.inbound.max-pool-size:8}")
+    private int inboundMaxPoolSize;
+
+    @Value("${websocket.inbound.queue-capacity:1000}")
+    private int inboundQueueCapacity;
+
+    // outbound 채널 스레드 풀 (세션별 프레임 전송)
+    @Value("${websocket.outbound.core-pool-size:4}")
+    private int outboundCorePoolSize;
+
+    @Value("${websocket.outbound.max-pool-size:8}")
+    private int outboundMaxPoolSize;
+
+    @Value("${websocket.outbound.queue-capacity:1000}")
+    private int outboundQueueCapacity;
+
     /**
      * 메시지 브로커 구성
      * 클라이언트와 서버 간의 메시지 라우팅 경로를 설정함
@@ -29,11 +75,15 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     public void configureMessageBroker(MessageBrokerRegistry registry) {
         // 서버 → 클라이언트 방향 메시지를 전달할 브로커의 prefix
         // 예: /topic/mouse/1 → 클라이언트는 해당 주소를 구독
-        registry.enableSimpleBroker("/topic");
+        // /queue는 사용자별 메시지용 (예: 권한 회수 알림 /user/queue/plan-access)
+        registry.enableSimpleBroker("/topic", "/queue");
 
         // 클라이언트 → 서버로 메시지를 보낼 때 사용할 prefix
         // 예: 클라이언트가 /app/mouse/move/1 주소로 메시지를 전송
         registry.setApplicationDestinationPrefixes("/app");
+
+        // 사용자 destination prefix (CONNECT 시 지정한 userId 기준으로 그 사용자의 모든 세션에 전달)
+        registry.setUserDestinationPrefix("/user");
     }
 
     /**
@@ -46,6 +96,48 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
                 .setAllowedOriginPatterns("*") // 모든 도메인 허용 (CORS 설정)
                 .withSockJS(); // SockJS를 사용하여 WebSocket 미지원 브라우저 호환성 제공
         // 최종 연결 주소: ws://localhost:8080/ws
+
+        // 바이너리(CBOR) 프레임을 사용하는 클라이언트용 순수 WebSocket 엔드포인트 (SockJS는 바이너리 미지원)
+        registry.addEndpoint("/ws-binary")
+                .setAllowedOriginPatterns("*");
+
+        // 같은 세션에서 보낸 메시지는 inbound 스레드 풀에서도 보낸 순서대로 처리 (플랜 레인 제출 순서 보장)
+        registry.setPreserveReceiveOrder(true);
+    }
+
+    /**
+     * 메시지 컨버터 등록
+     * content-type: application/cbor 프레임은 CBOR로, 그 외는 기본 JSON 컨버터로 처리함
+     */
+    @Override
+    public boolean configureMessageConverters(List<MessageConverter> messageConverters) {
+        messageConverters.add(new CborMessageConverter(binaryPayloadCodec));
+        return true; // 기본 컨버터(JSON 등)도 함께 등록
+    }
+
+    /**
+     * WebSocket 전송 설정
+     * 세션별 송신 버퍼/시간 한도는 SlowConsumerGuard로도 따라잡지 못한 세션을 최종적으로 끊는 안전장치
+     */
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registry) {
+        registry.setSendBufferSizeLimit(sendBufferSizeLimit)
+                .setSendTimeLimit(sendTimeLimit)
+                .setMessageSizeLimit(messageSizeLimit)
+                .addDecoratorFactory(slowConsumerGuard::decorate);
+    }
+
+    /**
+     * 서버 → 클라이언트로 나가는 채널에 인터셉터 등록
+     * 느린 세션에는 droppable 메시지를 버리고, 한도를 넘으면 재동기화 요청 후 연결을 끊음
+     */
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor()
+                .corePoolSize(outboundCorePoolSize)
+                .maxPoolSize(outboundMaxPoolSize)
+                .queueCapacity(outboundQueueCapacity);
+        registration.interceptors(slowConsumerGuard);
     }
 
     /**
@@ -54,6 +146,10 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
      */
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor()
+                .corePoolSize(inboundCorePoolSize)
+                .maxPoolSize(inboundMaxPoolSize)
+                .queueCapacity(inboundQueueCapacity);
         registration.interceptors(stompChannelInterceptor); // JWT 인증 등 가로채기 가능
     }
 }
@@ -1,11 +1,9 @@
 package com.ssafy.backend.common.interceptor;
 
-import com.ssafy.backend.plan.exception.UserNotExistException;
+import com.ssafy.backend.common.websocket.PlanSessionGrants;
 import com.ssafy.backend.security.util.JwtUtil;
 import com.ssafy.backend.security.dto.JwtUserInfo;
-import com.ssafy.backend.security.entity.TokenType;
-import com.ssafy.backend.user.entity.User;
-import com.ssafy.backend.user.repository.UserRepository;
+import com.ssafy.backend.user.service.UserProfileCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.Message;
@@ -13,9 +11,11 @@ import org.springframework.messaging.MessageChannel;
 import org.springframework.messaging.simp.stomp.StompCommand;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.stereotype.Component;
 
-import java.util.Optional;
+import java.util.List;
 
 @Component
 @RequiredArgsConstructor
@@ -23,13 +23,17 @@ import java.util.Optional;
 public class StompChannelInterceptor implements ChannelInterceptor {
 
     private final JwtUtil jwtUtil;
-    private final UserRepository userRepository;
+    private final UserProfileCache userProfileCache;
+    private final PlanSessionGrants planSessionGrants;
 
     @Override
     public Message<?> preSend(Message<?> message, MessageChannel channel) {
-        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null) {
+            accessor = StompHeaderAccessor.wrap(message);
+        }
 
-        // CONNECT 프레임일 때만 JWT 검증
+        // CONNECT 프레임일 때 JWT 검증
         if (StompCommand.CONNECT.equals(accessor.getCommand())) {
             String bearerToken = accessor.getFirstNativeHeader("Authorization");
             if (bearerToken == null || !bearerToken.startsWith("Bearer ")) {
@@ -39,24 +43,34 @@ public class StompChannelInterceptor implements ChannelInterceptor {
 
             String token = jwtUtil.extractToken(bearerToken);
 
-            if (!jwtUtil.validateToken(token, TokenType.ACCESS)) {
-//                log.warn("유효하지 않은 JWT 토큰입니다.");
-                throw new IllegalArgumentException("유효하지 않은 JWT 토큰입니다.");
-            }
-
-            JwtUserInfo userInfo = jwtUtil.getUserInfoFromToken(token);
-
-            User user = validateUserExistence(userInfo.getUserId());
+            // 서명된 claim을 그대로 사용 (재연결이 몰려도 DB 조회 없음), 발급 이후 바뀐 프로필만 캐시로 보정
+            JwtUserInfo userInfo = jwtUtil.verifyAccessToken(token)
+                    .orElseThrow(() -> new IllegalArgumentException("유효하지 않은 JWT 토큰입니다."));
+            String userName = userProfileCache.resolveUserName(userInfo);
 
             accessor.getSessionAttributes().put("userId", userInfo.getUserId());
-            accessor.getSessionAttributes().put("userName", user.getUserName());
+            accessor.getSessionAttributes().put("userName", userName);
             accessor.getSessionAttributes().put("email", userInfo.getGoogleEmail());
+
+            // 사용자 큐(/user/queue/...)로 보낼 수 있도록 세션 사용자 지정, 플랜 권한은 구독 시점에 채움
+            accessor.setUser(new UsernamePasswordAuthenticationToken(String.valueOf(userInfo.getUserId()), null, List.of()));
+            planSessionGrants.bind(accessor.getSessionId(), userInfo.getUserId(), accessor.getSessionAttributes());
+        }
+
+        // 구독은 사용자 큐와 승인된 플랜 topic만 가능 (확인된 planId는 세션에 보관)
+        if (StompCommand.SUBSCRIBE.equals(accessor.getCommand())) {
+            planSessionGrants.authorizeSubscription(accessor.getSessionAttributes(), userIdOf(accessor), accessor.getDestination());
+        }
+
+        // 전송은 플랜 destination만 가능하며 세션에 보관된 권한만 확인 (구독 전이면 이 시점에 한 번 확인)
+        if (StompCommand.SEND.equals(accessor.getCommand())) {
+            planSessionGrants.authorizeSend(accessor.getSessionAttributes(), userIdOf(accessor), accessor.getDestination());
         }
 
         return message;
     }
-    private User validateUserExistence(Long userId) {
-        return userRepository.findById(userId)
-                .orElseThrow(() -> new UserNotExistException("존재하지 않는 사용자입니다. userId=" + userId));
+
+    private Long userIdOf(StompHeaderAccessor accessor) {
+        return (Long) accessor.getSessionAttributes().get("userId");
     }
 }
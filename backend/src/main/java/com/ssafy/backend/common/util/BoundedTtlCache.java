@@ -0,0 +1,220 @@
+package com.ssafy.backend.common.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.BiPredicate;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * 최대 개수가 정해진 메모리 TTL 캐시
+ * 항목마다 만료 시각을 따로 두며, 최대 개수에 도달하면 만료된 항목을 먼저 지우고 그래도 자리가 없으면 고정되지 않은 항목 하나를 지움
+ * 모든 항목이 고정(pinned) 대상이면 새 항목을 넣지 않고 put이 false를 반환함
+ *
+ * DB에서 적재하는 도중 같은 키에 invalidate/update가 일어나면 그 적재 결과는 저장하지 않음
+ * 키의 해시로 고른 버전 칸(STRIPES개)을 무효화할 때 올리고, 저장 전후로 적재 시작 때의 버전과 비교함
+ * (무효화는 버전을 올린 뒤 지우고, 저장은 저장한 뒤 버전을 다시 확인해 바뀌었으면 되돌리므로 둘이 겹쳐도 낡은 값이 남지 않음)
+ * 다른 키의 무효화는 같은 칸을 쓰는 드문 경우에만 적재를 버리게 하고, 락 없이 동작함
+ */
+public class BoundedTtlCache<K, V> {
+
+    // 2의 거듭제곱 (해시 하위 비트로 칸을 고름)
+    private static final int STRIPES = 256;
+
+    private final int maxEntries;
+    private final Predicate<V> pinned;
+    private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+
+    private final AtomicLongArray versions = new AtomicLongArray(STRIPES);
+
+    private Counter hitCounter;
+    private Counter missCounter;
+
+    public BoundedTtlCache(int maxEntries) {
+        this(maxEntries, value -> false);
+    }
+
+    /**
+     * @param pinned 최대 개수에 도달해도 만료 전에는 지우면 안 되는 항목 (예: 삭제 표시, 폐기 목록)
+     */
+    public BoundedTtlCache(int maxEntries, Predicate<V> pinned) {
+        this.maxEntries = maxEntries;
+        this.pinned = pinned;
+    }
+
+    /**
+     * {name}.size 게이지와 {name}.requests{result=hit|miss} 카운터 등록
+     */
+    public BoundedTtlCache<K, V> registerMetrics(MeterRegistry meterRegistry, String name,
+                                                 String sizeDescription, String requestDescription) {
+        Gauge.builder(name + ".size", entries, Map::size)
+                .description(sizeDescription)
+                .register(meterRegistry);
+        this.hitCounter = Counter.builder(name + ".requests")
+                .description(requestDescription)
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder(name + ".requests")
+                .description(requestDescription)
+                .tag("result", "miss")
+                .register(meterRegistry);
+        return this;
+    }
+
+    /**
+     * 만료되지 않은 값 조회 (적중/미적중 지표 기록)
+     *
+     * @return 없거나 만료되었으면 null
+     */
+    public V get(K key) {
+        V value = peek(key);
+        Counter counter = value != null ? hitCounter : missCounter;
+        if (counter != null) {
+            counter.increment();
+        }
+        return value;
+    }
+
+    /**
+     * 만료되지 않은 값 조회 (지표 기록 없음)
+     */
+    public V peek(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt <= System.currentTimeMillis()) {
+            entries.remove(key, entry);
+            return null;
+        }
+        return entry.value;
+    }
+
+    /**
+     * key를 DB에서 적재하기 직전에 받아 두는 버전 ({@link #putIfNotInvalidated}에 전달)
+     */
+    public long loadStamp(K key) {
+        return versions.get(stripe(key));
+    }
+
+    /**
+     * 적재를 시작한 뒤로 같은 키(또는 전체)에 invalidate/update가 없었을 때만 저장
+     *
+     * @return 저장했으면 true
+     */
+    public boolean putIfNotInvalidated(K key, V value, long expiresAt, long stamp) {
+        int stripe = stripe(key);
+        if (versions.get(stripe) != stamp) {
+            return false;
+        }
+        Entry<V> entry = new Entry<>(value, expiresAt);
+        if (!putEntry(key, entry)) {
+            return false;
+        }
+        // 확인과 저장 사이에 무효화가 끼어들었으면 저장한 값을 되돌림 (그 뒤의 무효화는 저장된 값을 직접 지움)
+        if (versions.get(stripe) != stamp) {
+            entries.remove(key, entry);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * @return 최대 개수에 도달했고 지울 수 있는 항목이 없어 저장하지 못했으면 false
+     */
+    public boolean put(K key, V value, long expiresAt) {
+        return putEntry(key, new Entry<>(value, expiresAt));
+    }
+
+    private boolean putEntry(K key, Entry<V> entry) {
+        if (!entries.containsKey(key) && entries.size() >= maxEntries && !makeRoom()) {
+            return false;
+        }
+        entries.put(key, entry);
+        return true;
+    }
+
+    /**
+     * 캐시된 값이 있으면 바꿈 (만료 시각은 유지, 같은 키의 진행 중인 적재 결과는 버림)
+     */
+    public void update(K key, UnaryOperator<V> updater) {
+        versions.incrementAndGet(stripe(key));
+        entries.computeIfPresent(key, (k, entry) -> new Entry<>(updater.apply(entry.value), entry.expiresAt));
+    }
+
+    /**
+     * @return 지운 항목이 있으면 true
+     */
+    public boolean invalidate(K key) {
+        versions.incrementAndGet(stripe(key));
+        return entries.remove(key) != null;
+    }
+
+    /**
+     * 조건에 맞는 항목 삭제 (어떤 키가 맞을지 미리 알 수 없으므로 진행 중인 적재는 모두 버림)
+     *
+     * @return 지운 항목 수
+     */
+    public int invalidateIf(BiPredicate<K, V> condition) {
+        bumpAll();
+        int[] removed = {0};
+        entries.entrySet().removeIf(entry -> {
+            boolean matched = condition.test(entry.getKey(), entry.getValue().value);
+            if (matched) {
+                removed[0]++;
+            }
+            return matched;
+        });
+        return removed[0];
+    }
+
+    public void invalidateAll() {
+        bumpAll();
+        entries.clear();
+    }
+
+    /**
+     * 만료된 항목 정리 (만료는 값의 변경이 아니므로 진행 중인 적재는 그대로 둠)
+     */
+    public void removeExpired() {
+        long now = System.currentTimeMillis();
+        entries.values().removeIf(entry -> entry.expiresAt <= now);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private static int stripe(Object key) {
+        int hash = key.hashCode();
+        return (hash ^ (hash >>> 16)) & (STRIPES - 1);
+    }
+
+    private void bumpAll() {
+        for (int i = 0; i < STRIPES; i++) {
+            versions.incrementAndGet(i);
+        }
+    }
+
+    // 만료된 항목을 먼저 지우고, 없으면 고정되지 않은 항목 하나를 지움
+    private boolean makeRoom() {
+        removeExpired();
+        if (entries.size() < maxEntries) {
+            return true;
+        }
+        for (Map.Entry<K, Entry<V>> entry : entries.entrySet()) {
+            if (!pinned.test(entry.getValue().value) && entries.remove(entry.getKey(), entry.getValue())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+}
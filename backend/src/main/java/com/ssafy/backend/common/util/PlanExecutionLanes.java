@@ -0,0 +1,142 @@
+package com.ssafy.backend.common.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 플랜별 직렬 실행 레인 (striped single-thread executor)
+ * 같은 planId의 작업은 항상 같은 단일 스레드 레인에서 들어온 순서대로 실행되고,
+ * 서로 다른 플랜은 레인 수(기본: CPU 코어 수)만큼 병렬로 실행됨
+ *
+ * DB를 거치는 소켓 액션(CREATE/MODIFY/DELETE/UPDATE_* 등)을 inbound 스레드에서 분리하기 위해 사용함
+ * MOVE도 같은 플랜의 앞선 액션보다 먼저 나가지 않도록 이 레인을 거쳐 중계함 (마우스 커서는 순서와 무관하므로 inbound 스레드에서 바로 처리)
+ *
+ * 같은 plan의 일정/여행지 순서 변경이 이 레인에서만 실행되므로 DB 비관적 Lock 없이도 순서가 꼬이지 않고,
+ * 트랜잭션은 레인 스레드에서 실제 수정하는 동안만 커넥션을 잡음
+ * (단일 인스턴스 기준, SimpleBroker와 동일한 전제)
+ */
+@Slf4j
+@Component
+public class PlanExecutionLanes {
+
+    private final Lane[] lanes;
+
+    private final Timer waitTimer;
+    private final Timer executionTimer;
+    private final Counter rejectedCounter;
+
+    public PlanExecutionLanes(MeterRegistry meterRegistry,
+                              @Value("${plan.lanes.count:0}") int laneCount,
+                              @Value("${plan.lanes.queue-capacity:1000}") int queueCapacity) {
+        int count = laneCount > 0 ? laneCount : Runtime.getRuntime().availableProcessors();
+        this.lanes = new Lane[count];
+        for (int i = 0; i < count; i++) {
+            lanes[i] = new Lane(i, queueCapacity);
+            Gauge.builder("plan.lane.queue", lanes[i].executor, executor -> executor.getQueue().size())
+                    .description("레인별 대기 작업 수")
+                    .tag("lane", String.valueOf(i))
+                    .register(meterRegistry);
+        }
+
+        this.waitTimer = Timer.builder("plan.lane.wait")
+                .description("작업이 레인 큐에서 대기한 시간")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.executionTimer = Timer.builder("plan.lane.execution")
+                .description("레인에서 작업을 실행한 시간")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("plan.lane.rejected")
+                .description("레인 큐가 가득 차 거절된 작업 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 결과가 필요 없는 작업 실행 (예외는 로그로만 남김)
+     */
+    public void execute(Long planId, Runnable task) {
+        submit(planId, () -> {
+            task.run();
+            return null;
+        }).whenComplete((result, ex) -> {
+            if (ex != null) {
+                log.error("[PlanLane] 작업 실패 planId={}", planId, ex);
+            }
+        });
+    }
+
+    /**
+     * 플랜 레인에 작업 제출
+     *
+     * @throws RejectedExecutionException 레인 큐가 가득 찬 경우
+     */
+    public <T> CompletableFuture<T> submit(Long planId, Callable<T> task) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        long enqueuedAt = System.nanoTime();
+        try {
+            laneOf(planId).executor.execute(() -> {
+                long startedAt = System.nanoTime();
+                waitTimer.record(startedAt - enqueuedAt, TimeUnit.NANOSECONDS);
+                try {
+                    future.complete(task.call());
+                } catch (Throwable e) {
+                    future.completeExceptionally(e);
+                } finally {
+                    executionTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            log.warn("[PlanLane] 레인 큐 초과로 작업 거절 planId={}", planId);
+            throw e;
+        }
+        return future;
+    }
+
+    private Lane laneOf(Long planId) {
+        return lanes[Math.floorMod(Long.hashCode(planId), lanes.length)];
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        // 이미 받은 작업은 끝까지 실행
+        for (Lane lane : lanes) {
+            lane.executor.shutdown();
+        }
+        for (Lane lane : lanes) {
+            if (!lane.executor.awaitTermination(10, TimeUnit.SECONDS)) {
+                log.warn("[PlanLane] 종료 대기 시간 초과 lane={}, 남은 작업={}", lane.index, lane.executor.getQueue().size());
+            }
+        }
+    }
+
+    private static class Lane {
+        private final int index;
+        private final ThreadPoolExecutor executor;
+
+        Lane(int index, int queueCapacity) {
+            this.index = index;
+            this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(queueCapacity),
+                    runnable -> {
+                        Thread thread = new Thread(runnable, "plan-lane-" + index);
+                        thread.setDaemon(true);
+                        return thread;
+                    },
+                    new ThreadPoolExecutor.AbortPolicy());
+        }
+    }
+}
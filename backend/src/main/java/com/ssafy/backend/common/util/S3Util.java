@@ -3,7 +3,7 @@ package com.ssafy.backend.common.util;
 import io.awspring.cloud.s3.ObjectMetadata;
 import io.awspring.cloud.s3.S3Resource;
 import io.awspring.cloud.s3.S3Template;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -17,13 +17,31 @@ import java.time.Duration;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class S3Util {
 
     @Value("${spring.cloud.aws.s3.bucket}")
     private String bucketName;
     private final S3Template s3Template;
 
+    // presigned URL 유효 시간, 그중 캐시에서 재사용하는 시간 (응답에 나가는 URL은 항상 유효 시간 - 재사용 시간 이상 남음)
+    private final Duration urlExpiration;
+    private final long reuseMillis;
+
+    // object key -> 서명된 URL (재사용 시간까지 보관)
+    private final BoundedTtlCache<String, String> signedUrls;
+
+    public S3Util(S3Template s3Template,
+                  MeterRegistry meterRegistry,
+                  @Value("${s3.presigned-url.expiration-minutes:60}") long expirationMinutes,
+                  @Value("${s3.presigned-url.reuse-minutes:30}") long reuseMinutes,
+                  @Value("${s3.presigned-url.max-entries:10000}") int maxEntries) {
+        this.s3Template = s3Template;
+        this.urlExpiration = Duration.ofMinutes(expirationMinutes);
+        this.reuseMillis = Duration.ofMinutes(Math.min(reuseMinutes, expirationMinutes)).toMillis();
+        this.signedUrls = new BoundedTtlCache<String, String>(maxEntries)
+                .registerMetrics(meterRegistry, "s3.presigned_url_cache", "캐시된 presigned URL 수", "presigned URL 캐시 조회 수");
+    }
+
     public boolean putObject(String key, InputStream inputStream, String contentType) {
         try {
             ObjectMetadata objectMetadata = ObjectMetadata.builder()
@@ -60,6 +78,7 @@ public class S3Util {
     public boolean deleteObject(String key) {
         try {
             s3Template.deleteObject(bucketName, key);
+            signedUrls.invalidate(key);
             return true;
         } catch (Exception e) {
             log.error("S3 delete failed for key: {}", key, e);
@@ -67,11 +86,29 @@ public class S3Util {
         }
     }
 
+    /**
+     * presigned GET URL (같은 key는 재사용 시간 동안 한 번만 서명)
+     */
     public String getUrl(String key) {
+        if (key == null) {
+            return sign(null);
+        }
+        String cached = signedUrls.get(key);
+        if (cached != null) {
+            return cached;
+        }
 
-        Duration expiration = Duration.ofHours(1);
+        // 서명하는 동안 객체가 삭제되었으면 그 URL은 캐시하지 않음
+        long stamp = signedUrls.loadStamp(key);
+        String url = sign(key);
+        if (reuseMillis > 0) {
+            signedUrls.putIfNotInvalidated(key, url, System.currentTimeMillis() + reuseMillis, stamp);
+        }
+        return url;
+    }
 
-        URL signedUrl = s3Template.createSignedGetURL(bucketName, key, expiration);
+    private String sign(String key) {
+        URL signedUrl = s3Template.createSignedGetURL(bucketName, key, urlExpiration);
         return signedUrl.toString();
     }
 }
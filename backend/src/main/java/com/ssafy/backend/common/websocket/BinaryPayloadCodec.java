@@ -0,0 +1,73 @@
+package com.ssafy.backend.common.websocket;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+
+import java.io.IOException;
+
+/**
+ * 바이너리(CBOR) 소켓 페이로드 코덱
+ * 필드명 반복과 null 필드(objectInfo, whiteBoardPlace 등)를 제거해 JSON보다 작은 프레임을 만듦
+ *
+ * 협상 방식: 바이너리를 원하는 세션은 SockJS 없는 /ws-binary로 연결해 "{destination}.cbor"를 구독함
+ * (SockJS는 텍스트 프레임만 지원하므로 바이너리 전송 불가)
+ */
+@Component
+public class BinaryPayloadCodec {
+
+    public static final MimeType CBOR = new MimeType("application", "cbor");
+
+    // 바이너리 구독 destination 접미사
+    public static final String DESTINATION_SUFFIX = ".cbor";
+
+    // 바이너리 STOMP 프레임은 octet-stream이어야 BinaryMessage로 전송되므로 실제 포맷은 별도 헤더로 표시
+    public static final String FORMAT_HEADER = "payload-format";
+    public static final String FORMAT_VALUE = "cbor";
+
+    private final ObjectMapper cborMapper;
+
+    public BinaryPayloadCodec(Jackson2ObjectMapperBuilder jackson2ObjectMapperBuilder) {
+        // 애플리케이션 Jackson 설정(모듈 등)은 그대로 따르고 포맷만 CBOR로 변경
+        this.cborMapper = jackson2ObjectMapperBuilder
+                .factory(new CBORFactory())
+                .serializationInclusion(JsonInclude.Include.NON_NULL)
+                .failOnUnknownProperties(false)
+                .build();
+    }
+
+    public byte[] encode(Object payload) {
+        try {
+            return cborMapper.writeValueAsBytes(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("CBOR 인코딩에 실패했습니다.", e);
+        }
+    }
+
+    public <T> T decode(byte[] body, Class<T> type) {
+        try {
+            return cborMapper.readValue(body, type);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("CBOR 디코딩에 실패했습니다.", e);
+        }
+    }
+
+    /**
+     * 바이너리 구독자에게 보낼 메시지 헤더 (메시지마다 새로 생성)
+     */
+    public MessageHeaders createHeaders() {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_OCTET_STREAM);
+        accessor.setNativeHeader(FORMAT_HEADER, FORMAT_VALUE);
+        accessor.setLeaveMutable(true);
+        return accessor.getMessageHeaders();
+    }
+}
@@ -0,0 +1,40 @@
+package com.ssafy.backend.common.websocket;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.converter.AbstractMessageConverter;
+
+/**
+ * content-type: application/cbor 로 들어오는 STOMP SEND 프레임을 @Payload DTO로 변환
+ * 등록된 다른 컨버터(JSON 등)보다 앞에 두며, content-type이 맞지 않으면 기본 JSON 컨버터로 넘어감
+ */
+public class CborMessageConverter extends AbstractMessageConverter {
+
+    private final BinaryPayloadCodec binaryPayloadCodec;
+
+    public CborMessageConverter(BinaryPayloadCodec binaryPayloadCodec) {
+        super(BinaryPayloadCodec.CBOR);
+        this.binaryPayloadCodec = binaryPayloadCodec;
+        // content-type 헤더가 없으면 JSON 컨버터가 처리하도록 함
+        setStrictContentTypeMatch(true);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return true;
+    }
+
+    @Override
+    protected Object convertFromInternal(Message<?> message, Class<?> targetClass, Object conversionHint) {
+        Object payload = message.getPayload();
+        if (!(payload instanceof byte[] body)) {
+            return null;
+        }
+        return binaryPayloadCodec.decode(body, targetClass);
+    }
+
+    @Override
+    protected Object convertToInternal(Object payload, MessageHeaders headers, Object conversionHint) {
+        return binaryPayloadCodec.encode(payload);
+    }
+}
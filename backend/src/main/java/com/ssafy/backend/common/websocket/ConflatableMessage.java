@@ -0,0 +1,14 @@
+package com.ssafy.backend.common.websocket;
+
+/**
+ * 전송 빈도가 높은 일시적(transient) 메시지를 표시하는 인터페이스
+ * conflationKey()가 null이 아니면 SocketBroadcaster가 같은 키의 마지막 메시지만 주기적으로 내보냄
+ * (getter 형식이 아니므로 직렬화 대상에 포함되지 않음)
+ */
+public interface ConflatableMessage {
+
+    /**
+     * 같은 destination 안에서 덮어쓸 기준 키, 즉시 전송해야 하는 메시지면 null
+     */
+    Object conflationKey();
+}
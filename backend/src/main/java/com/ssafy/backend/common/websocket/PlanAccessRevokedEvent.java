@@ -0,0 +1,15 @@
+package com.ssafy.backend.common.websocket;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 플랜 참여 권한이 회수되었을 때(거절/강퇴/나가기/플랜 삭제/회원 탈퇴) 커밋 이후 발행되는 이벤트
+ * planId가 null이면 사용자의 모든 플랜, userId가 null이면 플랜의 모든 사용자가 대상
+ */
+@Getter
+@RequiredArgsConstructor
+public class PlanAccessRevokedEvent {
+    private final Long planId;
+    private final Long userId;
+}
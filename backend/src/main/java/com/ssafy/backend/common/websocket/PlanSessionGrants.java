@@ -0,0 +1,199 @@
+package com.ssafy.backend.common.websocket;
+
+import com.ssafy.backend.notification.service.NotificationPusher;
+import com.ssafy.backend.plan.service.PlanMembershipCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * STOMP 세션별 플랜 접근 권한
+ * 플랜 destination을 SUBSCRIBE할 때 한 번 승인된 참여자인지 확인하고, 확인된 planId를 세션 속성에 보관함
+ * 이후 같은 플랜으로의 SEND는 세션에 보관된 권한만 확인하므로 메시지마다 조회하지 않음
+ * 플랜 destination(숫자 planId)과 사용자 큐 외의 destination은 구독/전송 모두 거부함 (와일드카드 구독 포함)
+ *
+ * 참여 권한이 회수되면(PlanAccessRevokedEvent) 해당 세션의 권한과 그 플랜의 구독을 제거하고
+ * 사용자 큐(/user/queue/plan-access)로 회수 알림을 보냄
+ */
+@Slf4j
+@Component
+public class PlanSessionGrants {
+
+    public static final String GRANTS_ATTRIBUTE = "grantedPlanIds";
+    public static final String PLAN_ACCESS_QUEUE = "/queue/plan-access";
+
+    // 플랜 단위 destination (구독은 /topic, 전송은 /app), 바이너리 구독은 ".cbor" 접미사
+    private static final List<String> PLAN_TOPIC_PREFIXES = List.of(
+            "/topic/whiteboard/", "/topic/dayPlace/", "/topic/daySchedule/", "/topic/bookmark/", "/topic/mouse/");
+    private static final List<String> PLAN_SEND_PREFIXES = List.of(
+            "/app/whiteboard/", "/app/dayPlace/", "/app/daySchedule/", "/app/bookmark/", "/app/mouse/move/");
+    private static final String BINARY_SUFFIX = ".cbor";
+    // 플랜과 무관하게 구독할 수 있는 사용자 큐 (브로커에는 세션별 큐로 변환되어 전달됨)
+    private static final Set<String> USER_QUEUES = Set.of(
+            "/user" + NotificationPusher.NOTIFICATION_QUEUE, "/user" + PLAN_ACCESS_QUEUE);
+
+    private final PlanMembershipCache planMembershipCache;
+    private final StompSubscriptionRegistry stompSubscriptionRegistry;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final Counter revokedCounter;
+
+    // sessionId -> 세션 사용자와 확인된 planId 집합 (집합은 세션 속성과 같은 객체)
+    private final Map<String, SessionGrant> sessions = new ConcurrentHashMap<>();
+
+    // 인바운드 인터셉터가 이 빈을 사용하므로 메시징 템플릿은 지연 주입 (브로커 설정과의 순환 참조 방지)
+    public PlanSessionGrants(PlanMembershipCache planMembershipCache,
+                             StompSubscriptionRegistry stompSubscriptionRegistry,
+                             @Lazy SimpMessagingTemplate messagingTemplate,
+                             MeterRegistry meterRegistry) {
+        this.planMembershipCache = planMembershipCache;
+        this.stompSubscriptionRegistry = stompSubscriptionRegistry;
+        this.messagingTemplate = messagingTemplate;
+        this.revokedCounter = Counter.builder("websocket.plan_grant.revoked")
+                .description("참여 권한 변경으로 회수된 세션 권한 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * CONNECT 시 세션에 빈 권한 집합을 연결
+     */
+    public void bind(String sessionId, Long userId, Map<String, Object> sessionAttributes) {
+        Set<Long> planIds = ConcurrentHashMap.newKeySet();
+        sessionAttributes.put(GRANTS_ATTRIBUTE, planIds);
+        sessions.put(sessionId, new SessionGrant(userId, planIds));
+    }
+
+    /**
+     * 세션에 planId 권한이 없으면 승인된 참여자인지 확인한 뒤 권한을 보관
+     *
+     * @throws RuntimeException 참여자가 아니거나 승인 대기 중인 경우 (PlanMembershipCache 예외 그대로)
+     */
+    @SuppressWarnings("unchecked")
+    public void authorize(Map<String, Object> sessionAttributes, Long userId, Long planId) {
+        Set<Long> planIds = (Set<Long>) sessionAttributes.get(GRANTS_ATTRIBUTE);
+        if (planIds == null) {
+            throw new IllegalStateException("인증되지 않은 세션입니다.");
+        }
+        if (planIds.contains(planId)) {
+            return;
+        }
+        planMembershipCache.validateApprovedParticipant(planId, userId);
+        planIds.add(planId);
+    }
+
+    /**
+     * SUBSCRIBE 허용 여부 확인: 사용자 큐는 그대로 허용, 플랜 topic은 승인된 참여자만 허용, 그 외는 거부
+     *
+     * @throws IllegalArgumentException 허용되지 않은 destination인 경우
+     */
+    public void authorizeSubscription(Map<String, Object> sessionAttributes, Long userId, String destination) {
+        if (USER_QUEUES.contains(destination)) {
+            return;
+        }
+        Long planId = planIdOfSubscription(destination);
+        if (planId == null) {
+            throw new IllegalArgumentException("구독할 수 없는 destination입니다: " + destination);
+        }
+        authorize(sessionAttributes, userId, planId);
+    }
+
+    /**
+     * SEND 허용 여부 확인: 플랜 destination만 허용하며 브로커(/topic, /queue)로 직접 보내는 메시지는 거부
+     *
+     * @throws IllegalArgumentException 허용되지 않은 destination인 경우
+     */
+    public void authorizeSend(Map<String, Object> sessionAttributes, Long userId, String destination) {
+        Long planId = planIdOfSend(destination);
+        if (planId == null) {
+            throw new IllegalArgumentException("전송할 수 없는 destination입니다: " + destination);
+        }
+        authorize(sessionAttributes, userId, planId);
+    }
+
+    /**
+     * "/topic/whiteboard/12", "/topic/whiteboard/12.cbor" 와 같은 구독 destination의 planId (플랜 destination이 아니면 null)
+     */
+    public static Long planIdOfSubscription(String destination) {
+        if (destination != null && destination.endsWith(BINARY_SUFFIX)) {
+            destination = destination.substring(0, destination.length() - BINARY_SUFFIX.length());
+        }
+        return planIdOf(destination, PLAN_TOPIC_PREFIXES);
+    }
+
+    /**
+     * "/app/whiteboard/12" 와 같은 전송 destination의 planId (플랜 destination이 아니면 null)
+     */
+    public static Long planIdOfSend(String destination) {
+        return planIdOf(destination, PLAN_SEND_PREFIXES);
+    }
+
+    private static Long planIdOf(String destination, List<String> prefixes) {
+        for (String prefix : prefixes) {
+            Long planId = StompSubscriptionRegistry.extractPlanId(destination, prefix);
+            if (planId != null) {
+                return planId;
+            }
+        }
+        return null;
+    }
+
+    @EventListener
+    public void onRevoked(PlanAccessRevokedEvent event) {
+        // 한 사용자의 여러 세션은 사용자 큐 하나를 공유하므로 (userId, planId)당 알림은 한 번만 보냄
+        Set<Map.Entry<Long, Long>> notified = new HashSet<>();
+        sessions.forEach((sessionId, grant) -> {
+            if (event.getUserId() != null && !event.getUserId().equals(grant.userId())) {
+                return;
+            }
+            for (Long planId : List.copyOf(grant.planIds())) {
+                if ((event.getPlanId() == null || event.getPlanId().equals(planId)) && grant.planIds().remove(planId)) {
+                    unsubscribe(sessionId, planId);
+                    if (notified.add(Map.entry(grant.userId(), planId))) {
+                        notifyRevoked(grant.userId(), planId);
+                    }
+                }
+            }
+        });
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        sessions.remove(event.getSessionId());
+    }
+
+    // 브로커에서 세션의 그 플랜 구독을 해제
+    private void unsubscribe(String sessionId, Long planId) {
+        revokedCounter.increment();
+        stompSubscriptionRegistry.subscriptionsOf(sessionId).forEach((subscriptionId, destination) -> {
+            if (planId.equals(planIdOfSubscription(destination))) {
+                SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.UNSUBSCRIBE);
+                accessor.setSessionId(sessionId);
+                accessor.setSubscriptionId(subscriptionId);
+                messagingTemplate.getMessageChannel().send(MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()));
+                stompSubscriptionRegistry.remove(sessionId, subscriptionId);
+            }
+        });
+        log.info("[WS] 플랜 접근 권한 회수 sessionId={}, planId={}", sessionId, planId);
+    }
+
+    private void notifyRevoked(Long userId, Long planId) {
+        messagingTemplate.convertAndSendToUser(String.valueOf(userId), PLAN_ACCESS_QUEUE,
+                Map.of("action", "REVOKED", "planId", planId));
+    }
+
+    private record SessionGrant(Long userId, Set<Long> planIds) {
+    }
+}
@@ -0,0 +1,13 @@
+package com.ssafy.backend.common.websocket;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 어떤 destination의 마지막 구독자가 빠졌을 때 발행되는 이벤트
+ */
+@Getter
+@RequiredArgsConstructor
+public class RoomClosedEvent {
+    private final String destination;
+}
@@ -0,0 +1,13 @@
+package com.ssafy.backend.common.websocket;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 어떤 destination에 첫 구독자가 생겼을 때 발행되는 이벤트
+ */
+@Getter
+@RequiredArgsConstructor
+public class RoomOpenedEvent {
+    private final String destination;
+}
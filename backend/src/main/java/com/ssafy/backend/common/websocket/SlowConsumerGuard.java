@@ -0,0 +1,244 @@
+package com.ssafy.backend.common.websocket;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 느린 세션(모바일 등)이 방 전체 전송을 막지 않도록 하는 세션별 송신 정책
+ *
+ * 세션 상태는 두 가지로 판단함
+ * - 대기 프레임 수: 브로커가 넘겼지만 아직 outbound 스레드가 처리하지 않은 프레임 수
+ * - 전송 정체 시간: 소켓 쓰기 하나가 끝나지 않고 있는 시간 (이 동안 이후 프레임은 세션 버퍼에 쌓임)
+ *
+ * 1단계(drop): droppable 메시지(MOVE, 마우스 커서)를 버림
+ * 2단계(resync): STOMP ERROR(resync 헤더)를 보내고 연결을 끊음 → 클라이언트는 재연결 후 전체 상태를 다시 받음
+ * 그래도 밀리는 경우는 WebSocketConfig의 송신 버퍼/시간 제한이 최종적으로 세션을 종료함
+ */
+@Slf4j
+@Component
+public class SlowConsumerGuard implements ExecutorChannelInterceptor {
+
+    public static final String RESYNC_HEADER = "resync";
+
+    private final int dropPendingFrames;
+    private final int resyncPendingFrames;
+    private final long dropStallMillis;
+    private final long resyncStallMillis;
+    private final MeterRegistry meterRegistry;
+
+    // WebSocket 세션 id(= simpSessionId) -> 송신 상태
+    private final Map<String, SessionState> sessions = new ConcurrentHashMap<>();
+
+    // destination 종류(whiteboard, mouse ...)별 버린 프레임 수
+    private final Map<String, Counter> droppedCounters = new ConcurrentHashMap<>();
+
+    private final DistributionSummary pendingFramesSummary;
+    private final Counter resyncCounter;
+
+    public SlowConsumerGuard(MeterRegistry meterRegistry,
+                             @Value("${websocket.slow-consumer.drop-pending-frames:32}") int dropPendingFrames,
+                             @Value("${websocket.slow-consumer.resync-pending-frames:256}") int resyncPendingFrames,
+                             @Value("${websocket.slow-consumer.drop-stall-ms:500}") long dropStallMillis,
+                             @Value("${websocket.slow-consumer.resync-stall-ms:5000}") long resyncStallMillis) {
+        this.meterRegistry = meterRegistry;
+        this.dropPendingFrames = dropPendingFrames;
+        this.resyncPendingFrames = resyncPendingFrames;
+        this.dropStallMillis = dropStallMillis;
+        this.resyncStallMillis = resyncStallMillis;
+
+        Gauge.builder("websocket.outbound.pending", sessions, SlowConsumerGuard::totalPending)
+                .description("전체 세션의 outbound 대기 프레임 수")
+                .register(meterRegistry);
+        Gauge.builder("websocket.outbound.stalled", sessions, this::countStalled)
+                .description("전송이 drop 기준 이상 정체된 세션 수")
+                .register(meterRegistry);
+        this.pendingFramesSummary = DistributionSummary.builder("websocket.outbound.session.depth")
+                .description("프레임 적재 시점의 세션별 대기 프레임 수")
+                .register(meterRegistry);
+        this.resyncCounter = Counter.builder("websocket.outbound.resync")
+                .description("느린 세션으로 판단되어 재동기화 요청 후 끊은 횟수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * WebSocketConfig의 decorator factory로 등록 (세션 연결/종료 추적 및 소켓 쓰기 정체 측정)
+     */
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                SessionState state = new SessionState();
+                sessions.put(session.getId(), state);
+                super.afterConnectionEstablished(new StallTrackingSession(session, state));
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                sessions.remove(session.getId());
+                super.afterConnectionClosed(session, closeStatus);
+            }
+        };
+    }
+
+    // 브로커 스레드에서 세션별 프레임을 outbound 채널에 넣기 직전
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        // 구독자 수만큼 호출되므로 accessor를 새로 만들지 않고 헤더만 읽음
+        MessageHeaders headers = message.getHeaders();
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(headers);
+        SessionState state = sessionId != null ? sessions.get(sessionId) : null;
+        if (state == null) {
+            return message;
+        }
+        if (state.resyncRequested) {
+            // 재동기화 요청 후에는 연결이 끊길 때까지 더 보내지 않음
+            countDropped(SimpMessageHeaderAccessor.getDestination(headers));
+            return null;
+        }
+
+        Message<?> toSend = message;
+        if (SimpMessageType.MESSAGE.equals(SimpMessageHeaderAccessor.getMessageType(headers))) {
+            int pending = state.pending.get();
+            long stalled = state.stalledMillis(System.currentTimeMillis());
+            pendingFramesSummary.record(pending);
+
+            if (pending >= resyncPendingFrames || stalled >= resyncStallMillis) {
+                toSend = requestResync(sessionId, state, pending, stalled);
+            } else if (Boolean.TRUE.equals(headers.get(SocketBroadcaster.DROPPABLE_HEADER))
+                    && (pending >= dropPendingFrames || stalled >= dropStallMillis)) {
+                countDropped(SimpMessageHeaderAccessor.getDestination(headers));
+                return null;
+            }
+        }
+
+        state.pending.incrementAndGet();
+        return toSend;
+    }
+
+    // outbound 스레드가 세션 핸들러 처리를 마친 뒤 (예외 여부와 무관하게 호출됨)
+    @Override
+    public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler, Exception ex) {
+        release(message);
+    }
+
+    // 실행기가 작업을 거절(큐가 가득 참)하는 등 outbound 스레드에 넘기지 못한 프레임은 afterMessageHandled가 호출되지 않으므로 여기서 뺌
+    // (outbound 채널의 구독자는 세션 핸들러 하나뿐이라 넘긴 프레임과 못 넘긴 프레임이 겹치지 않음)
+    @Override
+    public void afterSendCompletion(Message<?> message, MessageChannel channel, boolean sent, Exception ex) {
+        if (!sent || ex != null) {
+            release(message);
+        }
+    }
+
+    private void release(Message<?> message) {
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+        SessionState state = sessionId != null ? sessions.get(sessionId) : null;
+        if (state != null) {
+            state.pending.decrementAndGet();
+        }
+    }
+
+    private Message<?> requestResync(String sessionId, SessionState state, int pending, long stalled) {
+        state.resyncRequested = true;
+        resyncCounter.increment();
+        log.warn("[WebSocket] 느린 세션 재동기화 요청 후 종료 sessionId={}, pending={}, stalledMs={}", sessionId, pending, stalled);
+
+        // ERROR 프레임을 보내면 STOMP 핸들러가 전송 후 세션을 닫음
+        StompHeaderAccessor error = StompHeaderAccessor.create(StompCommand.ERROR);
+        error.setSessionId(sessionId);
+        error.setMessage("slow consumer");
+        error.setNativeHeader(RESYNC_HEADER, "true");
+        error.setLeaveMutable(true);
+        return MessageBuilder.createMessage("resync".getBytes(StandardCharsets.UTF_8), error.getMessageHeaders());
+    }
+
+    private void countDropped(String destination) {
+        String type = destinationType(destination);
+        droppedCounters.computeIfAbsent(type, key -> Counter.builder("websocket.outbound.dropped")
+                        .description("느린 세션에서 버린 프레임 수")
+                        .tag("destination", key)
+                        .register(meterRegistry))
+                .increment();
+    }
+
+    /**
+     * "/topic/whiteboard/1.cbor" -> "whiteboard" (태그 종류가 방 수만큼 늘지 않도록 두 번째 구간만 사용)
+     */
+    static String destinationType(String destination) {
+        if (destination == null) {
+            return "unknown";
+        }
+        String[] segments = destination.split("/");
+        return segments.length > 2 ? segments[2] : "unknown";
+    }
+
+    private static double totalPending(Map<String, SessionState> sessions) {
+        return sessions.values().stream().mapToInt(state -> state.pending.get()).sum();
+    }
+
+    private double countStalled(Map<String, SessionState> sessions) {
+        long now = System.currentTimeMillis();
+        return sessions.values().stream().filter(state -> state.stalledMillis(now) >= dropStallMillis).count();
+    }
+
+    private static class SessionState {
+        private final AtomicInteger pending = new AtomicInteger();
+        private volatile long sendStartedAt;
+        private volatile boolean resyncRequested;
+
+        long stalledMillis(long now) {
+            long startedAt = sendStartedAt;
+            return startedAt == 0 ? 0 : now - startedAt;
+        }
+    }
+
+    /**
+     * 실제 소켓 쓰기 시작/종료 시각 기록
+     * (Spring의 ConcurrentWebSocketSessionDecorator가 이 세션을 감싸므로 쓰기는 한 스레드씩만 진입함)
+     */
+    private static class StallTrackingSession extends WebSocketSessionDecorator {
+        private final SessionState state;
+
+        StallTrackingSession(WebSocketSession session, SessionState state) {
+            super(session);
+            this.state = state;
+        }
+
+        @Override
+        public void sendMessage(WebSocketMessage<?> message) throws IOException {
+            state.sendStartedAt = System.currentTimeMillis();
+            try {
+                super.sendMessage(message);
+            } finally {
+                state.sendStartedAt = 0;
+            }
+        }
+    }
+}
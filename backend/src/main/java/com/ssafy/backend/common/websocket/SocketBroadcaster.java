@@ -0,0 +1,224 @@
+package com.ssafy.backend.common.websocket;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 소켓 컨트롤러 공용 브로드캐스트 단계
+ * MOVE 같은 transient 메시지는 (destination, 키)별 마지막 것만 남겨 일정 주기로 내보내고,
+ * CREATE/DELETE/UPDATE_* 같은 일반 메시지는 대기 중인 transient를 먼저 비운 뒤 즉시 전송해 순서를 보장함
+ * "{destination}.cbor" 구독자가 있으면 같은 메시지를 CBOR로도 전송함
+ *
+ * 페이로드는 포맷별로 한 번만 byte[]로 직렬화해 전송하며, SimpleBroker는 이 byte[]를 모든 구독 세션에 그대로 공유함
+ * 단, 세션으로 내보낼 때 StompEncoder가 헤더와 페이로드를 합친 프레임을 세션마다 새로 만들므로 프레임 복사는 세션 수만큼 발생함
+ * (구독자 수와 무관하게 1회로 줄어드는 것은 직렬화 비용)
+ *
+ * transient 메시지에는 DROPPABLE_HEADER를 붙여, 느린 세션에서는 SlowConsumerGuard가 먼저 버릴 수 있게 함
+ */
+@Component
+public class SocketBroadcaster {
+
+    // 느린 세션에서 버려도 되는 메시지 표시 (native 헤더가 아니므로 클라이언트로는 전송되지 않음)
+    public static final String DROPPABLE_HEADER = "droppable";
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final StompSubscriptionRegistry stompSubscriptionRegistry;
+    private final BinaryPayloadCodec binaryPayloadCodec;
+    private final ObjectMapper objectMapper;
+
+    // destination -> 대기 중인 transient 메시지
+    private final Map<String, TransientQueue> queues = new ConcurrentHashMap<>();
+
+    private final Counter transientReceivedCounter;
+    private final Counter transientSentCounter;
+    private final Timer jsonEncodeTimer;
+    private final Timer cborEncodeTimer;
+    private final DistributionSummary jsonPayloadBytes;
+    private final DistributionSummary cborPayloadBytes;
+
+    public SocketBroadcaster(SimpMessagingTemplate messagingTemplate,
+                             StompSubscriptionRegistry stompSubscriptionRegistry,
+                             BinaryPayloadCodec binaryPayloadCodec,
+                             ObjectMapper objectMapper,
+                             MeterRegistry meterRegistry) {
+        this.messagingTemplate = messagingTemplate;
+        this.stompSubscriptionRegistry = stompSubscriptionRegistry;
+        this.binaryPayloadCodec = binaryPayloadCodec;
+        this.objectMapper = objectMapper;
+        this.jsonEncodeTimer = encodeTimer(meterRegistry, "json");
+        this.cborEncodeTimer = encodeTimer(meterRegistry, "cbor");
+        this.jsonPayloadBytes = payloadBytes(meterRegistry, "json");
+        this.cborPayloadBytes = payloadBytes(meterRegistry, "cbor");
+        this.transientReceivedCounter = Counter.builder("websocket.transient.received")
+                .description("conflation 단계로 들어온 transient 메시지 수")
+                .register(meterRegistry);
+        this.transientSentCounter = Counter.builder("websocket.transient.sent")
+                .description("conflation 후 실제로 전송한 transient 메시지 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * ConflatableMessage의 키 유무에 따라 transient / 일반 전송을 선택
+     */
+    public void broadcast(String destination, Object payload) {
+        if (payload instanceof ConflatableMessage message && message.conflationKey() != null) {
+            sendTransient(destination, message.conflationKey(), payload);
+        } else {
+            send(destination, payload);
+        }
+    }
+
+    /**
+     * 일반 메시지 전송 (같은 destination의 대기 중인 transient를 먼저 전송)
+     */
+    public void send(String destination, Object payload) {
+        TransientQueue queue = queues.get(destination);
+        if (queue == null) {
+            publish(destination, payload, false);
+            return;
+        }
+        synchronized (queue) {
+            flush(destination, queue);
+            publish(destination, payload, false);
+        }
+    }
+
+    /**
+     * 이미 conflation된 transient 메시지 즉시 전송 (마우스 커서 등, 느린 세션에서는 버려질 수 있음)
+     */
+    public void sendDroppable(String destination, Object payload) {
+        publish(destination, payload, true);
+    }
+
+    /**
+     * transient 메시지 적재 (같은 키의 이전 메시지는 덮어씀)
+     */
+    public void sendTransient(String destination, Object key, Object payload) {
+        transientReceivedCounter.increment();
+        queues.compute(destination, (dest, queue) -> {
+            if (queue == null) {
+                queue = new TransientQueue();
+            }
+            queue.put(key, payload);
+            return queue;
+        });
+    }
+
+    @Scheduled(fixedRateString = "${websocket.conflation.flush-ms:50}")
+    public void flushAll() {
+        queues.forEach((destination, queue) -> {
+            synchronized (queue) {
+                flush(destination, queue);
+            }
+        });
+    }
+
+    /**
+     * 구독자가 모두 나간 destination의 빈 큐 정리
+     */
+    @EventListener
+    public void onRoomClosed(RoomClosedEvent event) {
+        queues.computeIfPresent(event.getDestination(), (dest, queue) -> queue.isEmpty() ? null : queue);
+    }
+
+    // 호출 측에서 queue 락을 잡은 상태여야 함
+    private void flush(String destination, TransientQueue queue) {
+        for (Object payload : queue.drain()) {
+            publish(destination, payload, true);
+            transientSentCounter.increment();
+        }
+    }
+
+    // JSON 구독자에게 전송하고, 바이너리 구독자가 있을 때만 CBOR로 한 번 더 인코딩해 전송
+    private void publish(String destination, Object payload, boolean droppable) {
+        byte[] json = jsonEncodeTimer.record(() -> encodeJson(payload));
+        jsonPayloadBytes.record(json.length);
+        messagingTemplate.send(destination, MessageBuilder.createMessage(json, markDroppable(jsonHeaders(), droppable)));
+
+        String binaryDestination = destination + BinaryPayloadCodec.DESTINATION_SUFFIX;
+        if (stompSubscriptionRegistry.countSubscribers(binaryDestination) > 0) {
+            byte[] cbor = cborEncodeTimer.record(() -> binaryPayloadCodec.encode(payload));
+            cborPayloadBytes.record(cbor.length);
+            messagingTemplate.send(binaryDestination, MessageBuilder.createMessage(cbor, markDroppable(binaryPayloadCodec.createHeaders(), droppable)));
+        }
+    }
+
+    private byte[] encodeJson(Object payload) {
+        try {
+            return objectMapper.writeValueAsBytes(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("소켓 메시지 직렬화에 실패했습니다.", e);
+        }
+    }
+
+    // 메시지마다 새로 생성 (전송 시 destination이 설정됨)
+    private static MessageHeaders jsonHeaders() {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setLeaveMutable(true);
+        return accessor.getMessageHeaders();
+    }
+
+    // 아직 mutable인 헤더에 표시만 추가
+    private static MessageHeaders markDroppable(MessageHeaders headers, boolean droppable) {
+        if (droppable) {
+            MessageHeaderAccessor.getAccessor(headers, SimpMessageHeaderAccessor.class).setHeader(DROPPABLE_HEADER, true);
+        }
+        return headers;
+    }
+
+    private static Timer encodeTimer(MeterRegistry meterRegistry, String format) {
+        return Timer.builder("websocket.broadcast.encode")
+                .description("브로드캐스트 1건당 페이로드 직렬화 시간 (구독자 수와 무관하게 1회)")
+                .tag("format", format)
+                .register(meterRegistry);
+    }
+
+    private static DistributionSummary payloadBytes(MeterRegistry meterRegistry, String format) {
+        return DistributionSummary.builder("websocket.broadcast.payload")
+                .description("브로드캐스트 페이로드 크기")
+                .baseUnit("bytes")
+                .tag("format", format)
+                .register(meterRegistry);
+    }
+
+    private static class TransientQueue {
+        private Map<Object, Object> pending = new LinkedHashMap<>();
+
+        synchronized void put(Object key, Object payload) {
+            pending.put(key, payload);
+        }
+
+        synchronized boolean isEmpty() {
+            return pending.isEmpty();
+        }
+
+        synchronized Iterable<Object> drain() {
+            if (pending.isEmpty()) {
+                return List.of();
+            }
+            Map<Object, Object> drained = pending;
+            pending = new LinkedHashMap<>();
+            return drained.values();
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.ssafy.backend.common.websocket;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * STOMP 구독 현황을 destination 단위로 추적하는 레지스트리
+ * 첫 구독 / 마지막 구독 해제 시점에 RoomOpenedEvent, RoomClosedEvent를 발행함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StompSubscriptionRegistry {
+
+    // Long 범위를 넘지 않는 자릿수
+    private static final int MAX_PLAN_ID_DIGITS = 18;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    // destination -> 구독 키(sessionId:subscriptionId) 집합
+    private final Map<String, Set<String>> subscribersByDestination = new ConcurrentHashMap<>();
+
+    // sessionId -> (subscriptionId -> destination)
+    private final Map<String, Map<String, String>> subscriptionsBySession = new ConcurrentHashMap<>();
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+        String sessionId = accessor.getSessionId();
+        String subscriptionId = accessor.getSubscriptionId();
+        String destination = accessor.getDestination();
+        if (sessionId == null || subscriptionId == null || destination == null) {
+            return;
+        }
+
+        subscriptionsBySession.computeIfAbsent(sessionId, id -> new ConcurrentHashMap<>())
+                .put(subscriptionId, destination);
+
+        boolean[] opened = {false};
+        subscribersByDestination.compute(destination, (key, subscribers) -> {
+            if (subscribers == null) {
+                subscribers = ConcurrentHashMap.newKeySet();
+                opened[0] = true;
+            }
+            subscribers.add(subscriptionKey(sessionId, subscriptionId));
+            return subscribers;
+        });
+
+        if (opened[0]) {
+            log.debug("[WS] 첫 구독 destination={}", destination);
+            eventPublisher.publishEvent(new RoomOpenedEvent(destination));
+        }
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+        String sessionId = accessor.getSessionId();
+        String subscriptionId = accessor.getSubscriptionId();
+        if (sessionId == null || subscriptionId == null) {
+            return;
+        }
+
+        Map<String, String> subscriptions = subscriptionsBySession.get(sessionId);
+        if (subscriptions == null) {
+            return;
+        }
+        String destination = subscriptions.remove(subscriptionId);
+        if (destination != null) {
+            release(destination, sessionId, subscriptionId);
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        Map<String, String> subscriptions = subscriptionsBySession.remove(event.getSessionId());
+        if (subscriptions == null) {
+            return;
+        }
+        subscriptions.forEach((subscriptionId, destination) ->
+                release(destination, event.getSessionId(), subscriptionId));
+    }
+
+    /**
+     * 현재 destination을 구독 중인 구독 수
+     */
+    public int countSubscribers(String destination) {
+        Set<String> subscribers = subscribersByDestination.get(destination);
+        return subscribers == null ? 0 : subscribers.size();
+    }
+
+    /**
+     * 세션의 현재 구독 (subscriptionId -> destination) 복사본
+     */
+    public Map<String, String> subscriptionsOf(String sessionId) {
+        Map<String, String> subscriptions = subscriptionsBySession.get(sessionId);
+        return subscriptions == null ? Map.of() : Map.copyOf(subscriptions);
+    }
+
+    /**
+     * 서버가 직접 해제한 구독 반영 (권한 회수 등, 클라이언트 UNSUBSCRIBE 이벤트가 없는 경우)
+     */
+    public void remove(String sessionId, String subscriptionId) {
+        Map<String, String> subscriptions = subscriptionsBySession.get(sessionId);
+        if (subscriptions == null) {
+            return;
+        }
+        String destination = subscriptions.remove(subscriptionId);
+        if (destination != null) {
+            release(destination, sessionId, subscriptionId);
+        }
+    }
+
+    /**
+     * "/topic/whiteboard/12" 와 같은 destination에서 prefix 뒤의 planId를 추출
+     * prefix 뒤가 숫자로만 이루어져 있지 않으면 (부호, 와일드카드, 추가 경로 포함) null 반환
+     */
+    public static Long extractPlanId(String destination, String prefix) {
+        if (destination == null || !destination.startsWith(prefix)) {
+            return null;
+        }
+        String id = destination.substring(prefix.length());
+        if (id.isEmpty() || id.length() > MAX_PLAN_ID_DIGITS) {
+            return null;
+        }
+        for (int i = 0; i < id.length(); i++) {
+            if (id.charAt(i) < '0' || id.charAt(i) > '9') {
+                return null;
+            }
+        }
+        return Long.valueOf(id);
+    }
+
+    private void release(String destination, String sessionId, String subscriptionId) {
+        boolean[] closed = {false};
+        subscribersByDestination.computeIfPresent(destination, (key, subscribers) -> {
+            subscribers.remove(subscriptionKey(sessionId, subscriptionId));
+            if (subscribers.isEmpty()) {
+                closed[0] = true;
+                return null;
+            }
+            return subscribers;
+        });
+
+        if (closed[0]) {
+            log.debug("[WS] 마지막 구독 해제 destination={}", destination);
+            eventPublisher.publishEvent(new RoomClosedEvent(destination));
+        }
+    }
+
+    private static String subscriptionKey(String sessionId, String subscriptionId) {
+        return sessionId + ":" + subscriptionId;
+    }
+}
@@ -0,0 +1,117 @@
+package com.ssafy.backend.mouse;
+
+import com.ssafy.backend.common.websocket.SocketBroadcaster;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 방 단위 마우스 커서 conflation
+ * 사용자별 마지막 위치만 보관했다가 tick마다 변경된 커서만 묶어서 한 프레임으로 브로드캐스트함
+ * 움직이지 않은 사용자는 프레임에 포함되지 않음
+ */
+@Slf4j
+@Component
+public class MouseConflator {
+
+    private static final String MOUSE_TOPIC_PREFIX = "/topic/mouse/";
+
+    private final SocketBroadcaster socketBroadcaster;
+    private final long roomIdleMillis;
+
+    // planId -> 방별 대기 커서
+    private final Map<String, Room> rooms = new ConcurrentHashMap<>();
+
+    // 방 수만큼 지표가 늘지 않도록 planId 태그 없이 전체 합계로만 집계
+    private final Counter inCounter;
+    private final Counter outCounter;
+
+    public MouseConflator(SocketBroadcaster socketBroadcaster,
+                          MeterRegistry meterRegistry,
+                          @Value("${mouse.conflation.room-idle-ms:60000}") long roomIdleMillis) {
+        this.socketBroadcaster = socketBroadcaster;
+        this.roomIdleMillis = roomIdleMillis;
+
+        this.inCounter = Counter.builder("mouse.messages.in")
+                .description("들어온 커서 메시지 수")
+                .register(meterRegistry);
+        this.outCounter = Counter.builder("mouse.messages.out")
+                .description("내보낸 묶음 프레임 수")
+                .register(meterRegistry);
+        Gauge.builder("mouse.rooms.active", rooms, Map::size)
+                .description("커서를 중계 중인 방 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 커서 위치 적재 (같은 사용자의 이전 위치는 덮어씀)
+     */
+    public void submit(String planId, MousePositionDTO dto) {
+        if (dto.getUserId() == null) {
+            return;
+        }
+        rooms.compute(planId, (id, room) -> {
+            if (room == null) {
+                room = new Room(id);
+            }
+            room.pending.put(dto.getUserId(), dto);
+            room.lastActivityAt = System.currentTimeMillis();
+            return room;
+        });
+        inCounter.increment();
+    }
+
+    @Scheduled(fixedRateString = "${mouse.conflation.tick-ms:40}")
+    public void flush() {
+        long now = System.currentTimeMillis();
+        for (Room room : rooms.values()) {
+            List<MousePositionDTO> changed = new ArrayList<>(room.pending.size());
+            for (Long userId : room.pending.keySet()) {
+                MousePositionDTO dto = room.pending.remove(userId);
+                if (dto != null) {
+                    changed.add(dto);
+                }
+            }
+
+            if (!changed.isEmpty()) {
+                socketBroadcaster.sendDroppable(MOUSE_TOPIC_PREFIX + room.planId, changed);
+                outCounter.increment();
+            } else if (now - room.lastActivityAt > roomIdleMillis) {
+                removeIfIdle(room.planId, now);
+            }
+        }
+    }
+
+    private void removeIfIdle(String planId, long now) {
+        boolean[] removed = {false};
+        rooms.computeIfPresent(planId, (id, room) -> {
+            if (room.pending.isEmpty() && now - room.lastActivityAt > roomIdleMillis) {
+                removed[0] = true;
+                return null;
+            }
+            return room;
+        });
+        if (removed[0]) {
+            log.debug("[Mouse] idle 방 정리 planId={}", planId);
+        }
+    }
+
+    private static class Room {
+        private final String planId;
+        private final Map<Long, MousePositionDTO> pending = new ConcurrentHashMap<>();
+        private volatile long lastActivityAt = System.currentTimeMillis();
+
+        Room(String planId) {
+            this.planId = planId;
+        }
+    }
+}
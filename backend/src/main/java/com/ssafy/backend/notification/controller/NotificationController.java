@@ -3,6 +3,7 @@ package com.ssafy.backend.notification.controller;
 import com.ssafy.backend.common.dto.response.CommonResponse;
 import com.ssafy.backend.common.dto.response.SuccessResponseDTO;
 import com.ssafy.backend.notification.dto.NotificationResponseDTO;
+import com.ssafy.backend.notification.dto.UnreadCountResponseDTO;
 import com.ssafy.backend.notification.entity.Notification;
 import com.ssafy.backend.notification.repository.NotificationRepository;
 import com.ssafy.backend.notification.service.NotificationService;
@@ -10,6 +11,7 @@ import com.ssafy.backend.security.dto.JwtUserInfo;
 import com.ssafy.backend.user.entity.User;
 import com.ssafy.backend.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -18,7 +20,9 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Controller
@@ -28,11 +32,25 @@ import java.util.List;
 public class NotificationController {
     private final NotificationService notificationService;
     @GetMapping
-    public CommonResponse<List<NotificationResponseDTO>> retrieveMessage(@AuthenticationPrincipal JwtUserInfo jwtUserInfo) {
-        List<NotificationResponseDTO> messages = notificationService.retrieveMessage(jwtUserInfo.getUserId());
+    public CommonResponse<List<NotificationResponseDTO>> retrieveMessage(@AuthenticationPrincipal JwtUserInfo jwtUserInfo,
+                                                                       @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorCreatedAt,
+                                                                       @RequestParam(required = false) Long cursorId,
+                                                                       @RequestParam(defaultValue = "50") int size) {
+        List<NotificationResponseDTO> messages = notificationService.retrieveMessage(jwtUserInfo.getUserId(), cursorCreatedAt, cursorId, size);
 
         return new CommonResponse<>(messages, HttpStatus.OK);
     }
+    @GetMapping("/unread-count")
+    public CommonResponse<UnreadCountResponseDTO> countUnread(@AuthenticationPrincipal JwtUserInfo jwtUserInfo) {
+        long unreadCount = notificationService.countUnread(jwtUserInfo.getUserId());
+
+        return new CommonResponse<>(new UnreadCountResponseDTO(unreadCount), HttpStatus.OK);
+    }
+    @PatchMapping("/read-all")
+    public CommonResponse<SuccessResponseDTO> updateAllRead(@AuthenticationPrincipal JwtUserInfo jwtUserInfo) {
+        notificationService.updateAllRead(jwtUserInfo.getUserId());
+        return new CommonResponse<>(new SuccessResponseDTO(true),HttpStatus.OK);
+    }
     @PatchMapping("/{notificationId}")
     public CommonResponse<SuccessResponseDTO> updateRead(@AuthenticationPrincipal JwtUserInfo jwtUserInfo, @PathVariable Long notificationId
     ) {
@@ -0,0 +1,19 @@
+package com.ssafy.backend.notification.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 알림 목록 조회용 projection (알림 + 이미지 사용자의 프로필 이미지 키)
+ */
+@Getter
+@AllArgsConstructor
+public class NotificationQueryDTO {
+    private Long notificationId;
+    private String message;
+    private Boolean isRead;
+    private LocalDateTime createdAt;
+    private String imageUserProfileImage;
+}
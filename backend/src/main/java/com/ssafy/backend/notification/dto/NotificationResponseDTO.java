@@ -3,6 +3,8 @@ package com.ssafy.backend.notification.dto;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.time.LocalDateTime;
+
 @Getter
 @Builder
 public class NotificationResponseDTO {
@@ -10,4 +12,5 @@ public class NotificationResponseDTO {
     private String message;
     private String userImgUrl;
     private Boolean isRead;
+    private LocalDateTime createdAt; // 다음 페이지 커서 (notificationId와 함께 사용)
 }
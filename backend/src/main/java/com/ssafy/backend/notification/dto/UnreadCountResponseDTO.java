@@ -0,0 +1,10 @@
+package com.ssafy.backend.notification.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class UnreadCountResponseDTO {
+    private long unreadCount;
+}
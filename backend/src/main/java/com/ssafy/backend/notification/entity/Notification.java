@@ -9,6 +9,12 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
+@Table(indexes = {
+        // 사용자별 최신순 keyset 페이지네이션 (user_id 조건 + created_at, notification_id 정렬/커서를 인덱스만으로 처리)
+        @Index(name = "idx_notification_user_created", columnList = "user_id, created_at, notification_id"),
+        // 읽지 않은 알림 수 COUNT / 모두 읽음 UPDATE
+        @Index(name = "idx_notification_user_read", columnList = "user_id, is_read")
+})
 @Getter
 @Builder
 @NoArgsConstructor
@@ -0,0 +1,104 @@
+package com.ssafy.backend.notification.repository;
+
+import com.ssafy.backend.notification.service.NotificationWriteQueue.PendingNotification;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 알림을 JDBC batch INSERT로 저장하는 레포지토리
+ * 알림 쓰기 큐의 플러시 경로와 기동 시 인덱스 확인에서만 사용함
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationJdbcRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO notification (user_id, type, image_user_id, message, is_read, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, false, ?, ?)";
+
+    private static final String CREATE_INDEX_SQL = "CREATE INDEX %s ON notification (%s)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 알림 묶음을 한 번의 batch로 저장 (묶음 단위로 커밋)
+     *
+     * @return 생성된 notification_id (입력 순서와 같음)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public List<Long> batchInsert(List<PendingNotification> notifications) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        PendingNotification notification = notifications.get(i);
+                        Timestamp requestedAt = Timestamp.valueOf(notification.requestedAt());
+                        ps.setObject(1, notification.receiverUserId());
+                        // Notification.type은 ORDINAL로 저장됨
+                        ps.setObject(2, notification.type() == null ? null : notification.type().ordinal());
+                        ps.setObject(3, notification.imageUserId());
+                        ps.setString(4, notification.message());
+                        ps.setTimestamp(5, requestedAt);
+                        ps.setTimestamp(6, requestedAt);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return notifications.size();
+                    }
+                },
+                keyHolder);
+
+        List<Long> ids = new ArrayList<>(notifications.size());
+        for (Map<String, Object> keys : keyHolder.getKeyList()) {
+            ids.add(((Number) keys.values().iterator().next()).longValue());
+        }
+        return ids;
+    }
+
+    /**
+     * notification 테이블에 같은 이름의 인덱스가 있는지
+     */
+    public boolean hasIndex(String indexName) {
+        return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            // DB마다 식별자 대소문자 저장 방식이 달라서 두 경우 모두 확인
+            for (String table : List.of("notification", "NOTIFICATION")) {
+                try (ResultSet indexes = metaData.getIndexInfo(connection.getCatalog(), null, table, false, true)) {
+                    while (indexes.next()) {
+                        if (indexName.equalsIgnoreCase(indexes.getString("INDEX_NAME"))) {
+                            return true;
+                        }
+                    }
+                }
+            }
+            return false;
+        }));
+    }
+
+    /**
+     * notification 테이블에 보조 인덱스 생성 (이름/컬럼은 코드에 고정된 값만 사용)
+     */
+    public void createIndex(String indexName, String columns) {
+        jdbcTemplate.execute(String.format(CREATE_INDEX_SQL, indexName, columns));
+    }
+}
@@ -1,9 +1,12 @@
 package com.ssafy.backend.notification.repository;
 
-import com.ssafy.backend.notification.entity.Notification;
+import com.ssafy.backend.notification.dto.NotificationQueryDTO;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface NotificationQueryRepository {
-    List<Notification> findRecent50ByUserId(Long userId);
+    List<NotificationQueryDTO> findPageByUserId(Long userId, LocalDateTime cursorCreatedAt, Long cursorId, int size);
+
+    long markAllReadByUserId(Long userId);
 }
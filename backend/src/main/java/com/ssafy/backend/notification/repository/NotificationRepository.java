@@ -6,4 +6,6 @@ import org.springframework.data.jpa.repository.JpaRepository;
 public interface NotificationRepository extends JpaRepository<Notification, Long>,NotificationQueryRepository {
 
     void deleteByImageUserId(Long userId);
+
+    long countByUser_UserIdAndIsReadFalse(Long userId);
 }
@@ -1,11 +1,14 @@
 package com.ssafy.backend.notification.repository;
 
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
-import com.ssafy.backend.notification.entity.Notification;
+import com.ssafy.backend.notification.dto.NotificationQueryDTO;
 import com.ssafy.backend.notification.entity.QNotification;
 import com.ssafy.backend.user.entity.QUser;
 import lombok.RequiredArgsConstructor;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RequiredArgsConstructor
@@ -14,18 +17,54 @@ public class NotificationRepositoryImpl implements NotificationQueryRepository {
     private final JPAQueryFactory queryFactory;
 
 
+    /**
+     * 알림 한 페이지와 이미지 사용자의 프로필 이미지 키를 한 번의 쿼리로 조회
+     * (created_at, notification_id) 내림차순 keyset 페이지네이션이며, 커서가 없으면 첫 페이지
+     * idx_notification_user_created 인덱스를 역순으로 읽으므로 앞 페이지 수와 상관없이 size만큼만 읽음
+     * (이미지 사용자가 없으면 프로필 이미지 키는 null)
+     */
     @Override
-    public List<Notification> findRecent50ByUserId(Long userId) {
+    public List<NotificationQueryDTO> findPageByUserId(Long userId, LocalDateTime cursorCreatedAt, Long cursorId, int size) {
         QNotification n = QNotification.notification;
-        QUser u = QUser.user;
+        QUser imageUser = new QUser("imageUser");
         return queryFactory
-                .selectFrom(n)
-                .join(n.user,u).fetchJoin()
-                .where(u.userId.eq(userId))
+                .select(Projections.constructor(NotificationQueryDTO.class,
+                        n.notificationId,
+                        n.message,
+                        n.isRead,
+                        n.createdAt,
+                        imageUser.profileImage))
+                .from(n)
+                .leftJoin(imageUser).on(imageUser.userId.eq(n.imageUserId))
+                .where(n.user.userId.eq(userId),
+                        before(n, cursorCreatedAt, cursorId))
                 .orderBy(
-                    n.createdAt.desc()
+                    n.createdAt.desc(),
+                    n.notificationId.desc()
                 )
-                .limit(50)
+                .limit(size)
                 .fetch();
     }
+
+    /**
+     * 읽지 않은 알림을 한 번의 UPDATE로 모두 읽음 처리
+     */
+    @Override
+    public long markAllReadByUserId(Long userId) {
+        QNotification n = QNotification.notification;
+        return queryFactory.update(n)
+                .set(n.isRead, true)
+                .where(n.user.userId.eq(userId),
+                        n.isRead.isFalse())
+                .execute();
+    }
+
+    // 커서보다 뒤(오래된) 알림 (created_at이 같으면 notification_id로 구분)
+    private BooleanExpression before(QNotification n, LocalDateTime cursorCreatedAt, Long cursorId) {
+        if (cursorCreatedAt == null || cursorId == null) {
+            return null;
+        }
+        return n.createdAt.lt(cursorCreatedAt)
+                .or(n.createdAt.eq(cursorCreatedAt).and(n.notificationId.lt(cursorId)));
+    }
 }
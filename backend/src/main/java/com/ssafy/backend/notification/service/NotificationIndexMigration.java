@@ -0,0 +1,59 @@
+package com.ssafy.backend.notification.service;
+
+import com.ssafy.backend.notification.entity.Notification;
+import com.ssafy.backend.notification.repository.NotificationJdbcRepository;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Notification 엔티티에 선언된 인덱스가 없으면 만드는 기동 시 마이그레이션
+ * ddl-auto 설정(validate/none, 인덱스를 만들지 않는 버전)과 무관하게 keyset 페이지네이션/읽지 않은 수 COUNT가 인덱스를 타도록 함
+ *
+ * 없는 인덱스를 추가만 하고 기존 인덱스/데이터는 건드리지 않으므로 여러 번, 여러 인스턴스에서 실행해도 안전함
+ * (MySQL 8은 보조 인덱스를 온라인으로 만들어 생성 중에도 읽기/쓰기를 막지 않음)
+ * 직접 적용하려면 엔티티의 @Index와 같은 DDL을 실행하고 notification.index-migration.enabled=false로 끔
+ *   CREATE INDEX idx_notification_user_created ON notification (user_id, created_at, notification_id);
+ *   CREATE INDEX idx_notification_user_read ON notification (user_id, is_read);
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "notification.index-migration.enabled", havingValue = "true", matchIfMissing = true)
+public class NotificationIndexMigration implements ApplicationRunner {
+
+    private final NotificationJdbcRepository notificationJdbcRepository;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        migrate();
+    }
+
+    /**
+     * @return 새로 만든 인덱스 수
+     */
+    public int migrate() {
+        int created = 0;
+        for (Index index : Notification.class.getAnnotation(Table.class).indexes()) {
+            if (notificationJdbcRepository.hasIndex(index.name())) {
+                continue;
+            }
+            // 다른 인스턴스가 먼저 만들었으면 실패하지만, 이미 인덱스가 있으므로 기동은 계속함
+            try {
+                notificationJdbcRepository.createIndex(index.name(), index.columnList());
+                created++;
+                log.info("[Notification] 인덱스 생성: {} ({})", index.name(), index.columnList());
+            } catch (RuntimeException e) {
+                if (!notificationJdbcRepository.hasIndex(index.name())) {
+                    throw e;
+                }
+            }
+        }
+        return created;
+    }
+}
@@ -0,0 +1,111 @@
+package com.ssafy.backend.notification.service;
+
+import com.ssafy.backend.common.util.S3Util;
+import com.ssafy.backend.notification.dto.NotificationResponseDTO;
+import com.ssafy.backend.notification.service.NotificationWriteQueue.PendingNotification;
+import com.ssafy.backend.user.entity.User;
+import com.ssafy.backend.user.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 저장된 알림을 수신자의 사용자 큐(/user/queue/notifications)로 전송
+ * 클라이언트는 접속 시 한 번 목록과 읽지 않은 수를 조회하고, 이후에는 이 큐로 새 알림을 받음 (폴링 불필요)
+ *
+ * 저장 묶음 단위로 호출되며, 이미지 사용자 프로필은 묶음당 한 번만 조회함
+ * 전송에 실패해도 이미 저장된 알림에는 영향이 없음
+ */
+@Slf4j
+@Component
+public class NotificationPusher {
+
+    public static final String NOTIFICATION_QUEUE = "/queue/notifications";
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final UserRepository userRepository;
+    private final S3Util s3Util;
+    private final NotificationUnreadCounter notificationUnreadCounter;
+    private final Counter pushedCounter;
+    private final Counter failedCounter;
+
+    public NotificationPusher(SimpMessagingTemplate messagingTemplate,
+                              UserRepository userRepository,
+                              S3Util s3Util,
+                              NotificationUnreadCounter notificationUnreadCounter,
+                              MeterRegistry meterRegistry) {
+        this.messagingTemplate = messagingTemplate;
+        this.userRepository = userRepository;
+        this.s3Util = s3Util;
+        this.notificationUnreadCounter = notificationUnreadCounter;
+        this.pushedCounter = Counter.builder("notification.push.sent")
+                .description("사용자 큐로 전송한 알림 수")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("notification.push.failed")
+                .description("사용자 큐 전송에 실패한 알림 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 저장된 알림 묶음 전송 (ids는 batch INSERT로 생성된 notification_id, 입력 순서와 같음)
+     */
+    public void push(List<PendingNotification> notifications, List<Long> ids) {
+        Set<Long> receivers = new HashSet<>();
+        for (PendingNotification notification : notifications) {
+            receivers.add(notification.receiverUserId());
+        }
+        receivers.forEach(notificationUnreadCounter::changed);
+
+        Map<Long, String> imageUrlByUserId = imageUrls(notifications);
+        for (int i = 0; i < notifications.size(); i++) {
+            PendingNotification notification = notifications.get(i);
+            NotificationResponseDTO payload = NotificationResponseDTO.builder()
+                    .notificationId(i < ids.size() ? ids.get(i) : null)
+                    .message(notification.message())
+                    .userImgUrl(imageUrlByUserId.get(notification.imageUserId()))
+                    .isRead(false)
+                    .createdAt(notification.requestedAt())
+                    .build();
+            try {
+                messagingTemplate.convertAndSendToUser(String.valueOf(notification.receiverUserId()), NOTIFICATION_QUEUE, payload);
+                pushedCounter.increment();
+            } catch (Exception e) {
+                failedCounter.increment();
+                log.warn("[Notification] 알림 전송 실패 receiverUserId={}", notification.receiverUserId(), e);
+            }
+        }
+    }
+
+    // 묶음 안의 이미지 사용자 프로필을 한 번에 조회 (URL 서명은 S3Util 캐시를 거침)
+    private Map<Long, String> imageUrls(List<PendingNotification> notifications) {
+        Set<Long> imageUserIds = new HashSet<>();
+        for (PendingNotification notification : notifications) {
+            if (notification.imageUserId() != null) {
+                imageUserIds.add(notification.imageUserId());
+            }
+        }
+        Map<Long, String> imageUrlByUserId = new HashMap<>();
+        if (imageUserIds.isEmpty()) {
+            return imageUrlByUserId;
+        }
+        try {
+            for (User user : userRepository.findAllById(imageUserIds)) {
+                if (user.getProfileImage() != null) {
+                    imageUrlByUserId.put(user.getUserId(), s3Util.getUrl(user.getProfileImage()));
+                }
+            }
+        } catch (Exception e) {
+            // 이미지 없이도 알림은 전송
+            log.warn("[Notification] 알림 이미지 조회 실패 imageUserIds={}", imageUserIds, e);
+        }
+        return imageUrlByUserId;
+    }
+}
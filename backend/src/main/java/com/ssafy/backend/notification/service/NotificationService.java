@@ -1,52 +1,74 @@
 package com.ssafy.backend.notification.service;
 
 import com.ssafy.backend.common.util.S3Util;
+import com.ssafy.backend.notification.dto.NotificationQueryDTO;
 import com.ssafy.backend.notification.dto.NotificationResponseDTO;
 import com.ssafy.backend.notification.entity.Notification;
+import com.ssafy.backend.notification.entity.NotificationType;
 import com.ssafy.backend.notification.exception.NotificationAccessDeniedException;
 import com.ssafy.backend.notification.exception.NotificationNotFoundException;
 import com.ssafy.backend.notification.repository.NotificationRepository;
-import com.ssafy.backend.plan.exception.UserNotExistException;
-import com.ssafy.backend.user.entity.User;
-import com.ssafy.backend.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class NotificationService {
-    private final UserRepository userRepository;
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final NotificationRepository notificationRepository;
     private final S3Util s3Util;
-    @Transactional
-    public void create(Long receiverUserId, Long imageUserId, String message) {
-        User receiver = userRepository.getReferenceById(receiverUserId);
-        notificationRepository.save(Notification.builder()
-                .user(receiver)
-                .imageUserId(imageUserId)
-                .message(message)
-                .build());
+    private final NotificationWriteQueue notificationWriteQueue;
+    private final NotificationUnreadCounter notificationUnreadCounter;
+
+    /**
+     * 알림 생성 (호출한 트랜잭션이 커밋된 뒤 비동기로 저장되고, 저장 후 수신자의 /user/queue/notifications로 전송됨)
+     */
+    public void create(Long receiverUserId, Long imageUserId, NotificationType type, String message) {
+        notificationWriteQueue.enqueueAfterCommit(receiverUserId, imageUserId, type, message);
     }
 
-    public List<NotificationResponseDTO> retrieveMessage(Long userId) {
-        User user = validateUserExistence(userId);
-        List<Notification> notifications  = notificationRepository.findRecent50ByUserId(user.getUserId());
+    /**
+     * 알림 최신순 조회 (커서가 없으면 첫 페이지, 다음 페이지는 마지막 항목의 createdAt과 notificationId를 커서로 사용)
+     * 알림 수와 상관없이 쿼리 1회, URL 서명은 응답 안에서 프로필 이미지 키별 1회
+     */
+    public List<NotificationResponseDTO> retrieveMessage(Long userId, LocalDateTime cursorCreatedAt, Long cursorId, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        List<NotificationQueryDTO> notifications =
+                notificationRepository.findPageByUserId(userId, cursorCreatedAt, cursorId, pageSize);
+        Map<String, String> urlByImageKey = new HashMap<>();
         return notifications.stream()
-                .map(n -> {
-                    User imageUser = validateUserExistence(n.getImageUserId());
-                    return NotificationResponseDTO.builder()
-                            .notificationId(n.getNotificationId())
-                            .message(n.getMessage())
-                            .userImgUrl(s3Util.getUrl(imageUser.getProfileImage())) // User의 프로필 이미지
-                            .isRead(n.isRead()) // 알림 읽음 여부
-                            .build();
-                })
+                .map(n -> NotificationResponseDTO.builder()
+                        .notificationId(n.getNotificationId())
+                        .message(n.getMessage())
+                        .userImgUrl(signedUrl(n.getImageUserProfileImage(), urlByImageKey)) // User의 프로필 이미지
+                        .isRead(n.getIsRead()) // 알림 읽음 여부
+                        .createdAt(n.getCreatedAt())
+                        .build())
                 .toList();
     }
+
+    /**
+     * 읽지 않은 알림 수 (캐시된 카운터, 처음 조회할 때만 COUNT 쿼리)
+     */
+    public long countUnread(Long userId) {
+        return notificationUnreadCounter.get(userId);
+    }
+
+    private String signedUrl(String imageKey, Map<String, String> urlByImageKey) {
+        if (imageKey == null) {
+            return null;
+        }
+        return urlByImageKey.computeIfAbsent(imageKey, s3Util::getUrl);
+    }
+
     @Transactional
     public void updateRead(Long notificationId, Long userId) {
         Notification notification = validateNotificationExistence(notificationId);
@@ -57,13 +79,23 @@ public class NotificationService {
                     "notificationId=" + notificationId + ", userId=" + userId);
         }
 
-        notification.setReadTrue();
+        if (!notification.isRead()) {
+            notification.setReadTrue();
+            notificationUnreadCounter.changed(userId);
+        }
     }
 
-    private User validateUserExistence(Long userId) {
-        return userRepository.findById(userId)
-                .orElseThrow(() -> new UserNotExistException("존재하지 않는 사용자입니다. userId=" + userId));
+    /**
+     * 읽지 않은 알림을 한 번의 UPDATE로 모두 읽음 처리
+     */
+    @Transactional
+    public void updateAllRead(Long userId) {
+        long updated = notificationRepository.markAllReadByUserId(userId);
+        if (updated > 0) {
+            notificationUnreadCounter.changed(userId);
+        }
     }
+
     private Notification validateNotificationExistence(Long notificationId) {
         return notificationRepository.findById(notificationId)
                 .orElseThrow(()-> new NotificationNotFoundException("알림이 존재하지 않습니다. id=" + notificationId));
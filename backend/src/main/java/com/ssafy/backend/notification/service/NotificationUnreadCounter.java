@@ -0,0 +1,76 @@
+package com.ssafy.backend.notification.service;
+
+import com.ssafy.backend.common.util.BoundedTtlCache;
+import com.ssafy.backend.notification.repository.NotificationRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 사용자별 읽지 않은 알림 수
+ * COUNT 쿼리 결과를 캐시하고, 알림 저장/읽음 처리가 커밋되면 그 사용자의 값만 지워서 다음 조회 때 한 번 다시 셈
+ * (커밋 이후 값을 직접 증감하면, 커밋과 증감 사이에 새 행까지 센 적재 결과에 증감이 한 번 더 더해짐)
+ *
+ * 적재 도중 값이 바뀌면 그 적재 결과는 저장하지 않으며 (확인과 저장 사이에 끼어든 변경도 잃지 않음),
+ * 다른 인스턴스에서 바뀐 값은 ttl-ms 이후 다시 적재될 때 반영됨
+ */
+@Component
+public class NotificationUnreadCounter {
+
+    private final NotificationRepository notificationRepository;
+    private final long ttlMillis;
+
+    // userId -> 읽지 않은 알림 수
+    private final BoundedTtlCache<Long, Long> entries;
+
+    public NotificationUnreadCounter(NotificationRepository notificationRepository,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${notification.unread-count.ttl-ms:300000}") long ttlMillis,
+                                     @Value("${notification.unread-count.max-entries:10000}") int maxEntries) {
+        this.notificationRepository = notificationRepository;
+        this.ttlMillis = ttlMillis;
+        this.entries = new BoundedTtlCache<Long, Long>(maxEntries)
+                .registerMetrics(meterRegistry, "notification.unread_count", "캐시된 읽지 않은 알림 수 항목 수", "읽지 않은 알림 수 조회 수");
+    }
+
+    public long get(Long userId) {
+        Long cached = entries.get(userId);
+        if (cached != null) {
+            return cached;
+        }
+
+        long stamp = entries.loadStamp(userId);
+        long count = notificationRepository.countByUser_UserIdAndIsReadFalse(userId);
+        entries.putIfNotInvalidated(userId, count, System.currentTimeMillis() + ttlMillis, stamp);
+        return count;
+    }
+
+    /**
+     * 알림이 저장되었거나 읽음 처리된 경우 (트랜잭션 안이면 커밋 이후 반영)
+     */
+    public void changed(Long userId) {
+        afterCommit(() -> entries.invalidate(userId));
+    }
+
+    /**
+     * 여러 사용자의 알림이 한꺼번에 지워진 경우 (회원 탈퇴 등, 커밋 이후 반영)
+     */
+    public void evictAll() {
+        afterCommit(entries::invalidateAll);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
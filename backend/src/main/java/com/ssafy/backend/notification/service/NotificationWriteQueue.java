@@ -0,0 +1,241 @@
+package com.ssafy.backend.notification.service;
+
+import com.ssafy.backend.notification.entity.NotificationType;
+import com.ssafy.backend.notification.repository.NotificationJdbcRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 알림 비동기 저장 큐
+ * 참여 요청/승인/거절 트랜잭션 안에서 INSERT하지 않고, 커밋 이후 큐에 적재한 뒤 주기적으로 batch INSERT함
+ * (롤백된 트랜잭션의 알림은 적재되지 않음)
+ *
+ * 큐가 가득 차면 호출한 스레드에서 바로 저장하고, 저장에 실패한 알림은 max-attempts까지 다음 주기에 재시도함
+ * 저장된 알림은 NotificationPusher로 수신자의 사용자 큐에 전송함
+ *
+ * 종료 시에는 진행 중인 플러시를 기다린 뒤 큐가 빌 때까지(또는 shutdown-timeout-ms까지) 저장하고,
+ * 그 뒤로 들어오는 알림과 재시도는 호출한 스레드에서 바로 저장함 (시간 안에 저장하지 못한 알림은 로그와 abandoned 지표로 남김)
+ */
+@Slf4j
+@Component
+public class NotificationWriteQueue {
+
+    private final NotificationJdbcRepository notificationJdbcRepository;
+    private final NotificationPusher notificationPusher;
+    private final BlockingQueue<PendingNotification> queue;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long shutdownTimeoutNanos;
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private final Counter insertedCounter;
+    private final Counter overflowCounter;
+    private final Counter retriedCounter;
+    private final Counter failedCounter;
+    private final Counter abandonedCounter;
+    private final Timer flushTimer;
+
+    private volatile boolean closed;
+
+    public NotificationWriteQueue(NotificationJdbcRepository notificationJdbcRepository,
+                                  NotificationPusher notificationPusher,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${notification.write.queue-capacity:10000}") int queueCapacity,
+                                  @Value("${notification.write.batch-size:500}") int batchSize,
+                                  @Value("${notification.write.max-attempts:3}") int maxAttempts,
+                                  @Value("${notification.write.shutdown-timeout-ms:10000}") long shutdownTimeoutMillis) {
+        this.notificationJdbcRepository = notificationJdbcRepository;
+        this.notificationPusher = notificationPusher;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.shutdownTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(shutdownTimeoutMillis);
+
+        Gauge.builder("notification.write.pending", queue, BlockingQueue::size)
+                .description("저장 대기 중인 알림 수")
+                .register(meterRegistry);
+        this.insertedCounter = Counter.builder("notification.write.inserted")
+                .description("batch INSERT로 저장한 알림 수")
+                .register(meterRegistry);
+        this.overflowCounter = Counter.builder("notification.write.overflow")
+                .description("큐가 가득 차서 바로 저장한 알림 수")
+                .register(meterRegistry);
+        this.retriedCounter = Counter.builder("notification.write.retried")
+                .description("저장 실패로 다시 적재한 알림 수")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("notification.write.failed")
+                .description("재시도 후에도 저장하지 못한 알림 수")
+                .register(meterRegistry);
+        this.abandonedCounter = Counter.builder("notification.write.abandoned")
+                .description("종료 시간 안에 저장하지 못하고 버린 알림 수")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("notification.write.flush")
+                .description("알림 batch INSERT 소요 시간")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋되면 큐에 적재 (트랜잭션 밖이면 바로 적재)
+     */
+    public void enqueueAfterCommit(Long receiverUserId, Long imageUserId, NotificationType type, String message) {
+        PendingNotification notification =
+                new PendingNotification(receiverUserId, imageUserId, type, message, LocalDateTime.now(), 0);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    offer(notification);
+                }
+            });
+        } else {
+            offer(notification);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${notification.write.flush-interval-ms:200}")
+    public void flush() {
+        if (!flushLock.tryLock()) {
+            return;
+        }
+        try {
+            // 이번 주기 시작 시점의 대기 건수만 처리 (재시도로 다시 적재된 알림은 다음 주기에)
+            int remaining = queue.size();
+            while (remaining > 0) {
+                List<PendingNotification> batch = new ArrayList<>(Math.min(batchSize, remaining));
+                queue.drainTo(batch, Math.min(batchSize, remaining));
+                if (batch.isEmpty()) {
+                    return;
+                }
+                remaining -= batch.size();
+                Timer.Sample sample = Timer.start();
+                write(batch);
+                sample.stop(flushTimer);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        closed = true;
+        log.info("[Notification] 종료 전 알림 큐 플러시 (대기 {}건)", queue.size());
+        drain(System.nanoTime() + shutdownTimeoutNanos);
+    }
+
+    private void offer(PendingNotification notification) {
+        if (closed) {
+            write(List.of(notification));
+            return;
+        }
+        if (!queue.offer(notification)) {
+            overflowCounter.increment();
+            write(List.of(notification));
+            return;
+        }
+        // 종료 플러시가 끝난 뒤에 적재되었으면 남지 않도록 직접 비움
+        if (closed) {
+            drain(System.nanoTime() + shutdownTimeoutNanos);
+        }
+    }
+
+    /**
+     * 큐가 빌 때까지 저장하고, deadline이 지나면 남은 알림을 버림
+     * (flush와 달리 재시도로 다시 적재된 알림도 이어서 처리하고, 진행 중인 플러시가 끝나기를 기다림)
+     */
+    private void drain(long deadline) {
+        boolean locked;
+        try {
+            locked = flushLock.tryLock(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            locked = false;
+        }
+        if (locked) {
+            try {
+                while (!queue.isEmpty() && deadline - System.nanoTime() > 0) {
+                    List<PendingNotification> batch = new ArrayList<>(batchSize);
+                    queue.drainTo(batch, batchSize);
+                    Timer.Sample sample = Timer.start();
+                    write(batch);
+                    sample.stop(flushTimer);
+                }
+            } finally {
+                flushLock.unlock();
+            }
+        }
+
+        List<PendingNotification> abandoned = new ArrayList<>();
+        queue.drainTo(abandoned);
+        if (!abandoned.isEmpty()) {
+            abandonedCounter.increment(abandoned.size());
+            log.error("[Notification] 종료 시간 초과로 저장하지 못한 알림 {}건 receiverUserIds={}",
+                    abandoned.size(), abandoned.stream().map(PendingNotification::receiverUserId).toList());
+        }
+    }
+
+    private void write(List<PendingNotification> batch) {
+        List<Long> ids;
+        try {
+            ids = notificationJdbcRepository.batchInsert(batch);
+            insertedCounter.increment(batch.size());
+        } catch (Exception e) {
+            if (batch.size() == 1) {
+                retry(batch.get(0), e);
+                return;
+            }
+            // 한 건 때문에 묶음 전체가 실패하지 않도록 한 건씩 다시 저장
+            log.warn("[Notification] batch INSERT 실패, 한 건씩 재시도 건수={}", batch.size(), e);
+            for (PendingNotification notification : batch) {
+                write(List.of(notification));
+            }
+            return;
+        }
+        // 전송 실패는 저장 재시도 대상이 아님
+        notificationPusher.push(batch, ids);
+    }
+
+    private void retry(PendingNotification notification, Exception cause) {
+        PendingNotification next = notification.nextAttempt();
+        if (next.attempts() >= maxAttempts || (!closed && !queue.offer(next))) {
+            failedCounter.increment();
+            log.error("[Notification] 알림 저장 실패 receiverUserId={}, 시도={}",
+                    notification.receiverUserId(), next.attempts(), cause);
+            return;
+        }
+        retriedCounter.increment();
+        // 종료 중에는 다음 주기가 없으므로 바로 다시 저장
+        if (closed) {
+            write(List.of(next));
+        }
+    }
+
+    public record PendingNotification(Long receiverUserId,
+                                      Long imageUserId,
+                                      NotificationType type,
+                                      String message,
+                                      LocalDateTime requestedAt,
+                                      int attempts) {
+
+        PendingNotification nextAttempt() {
+            return new PendingNotification(receiverUserId, imageUserId, type, message, requestedAt, attempts + 1);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.ssafy.backend.plan.controller;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.ssafy.backend.common.util.PlanExecutionLanes;
 import com.ssafy.backend.plan.dto.request.CreateBookmarkRequestDTO;
 import com.ssafy.backend.plan.dto.response.CreateBookmarkResponseDTO;
 import com.ssafy.backend.plan.dto.websocket.BookmarkSocketDTO;
@@ -21,6 +22,7 @@ public class BookmarkSocketController {
 
     private final SimpMessagingTemplate messagingTemplate;
     private final BookmarkService bookmarkService;
+    private final PlanExecutionLanes planExecutionLanes;
 
     @MessageMapping("/bookmark/{planId}")
     public void handleBookmarkSocket(@DestinationVariable Long planId,
@@ -29,6 +31,11 @@ public class BookmarkSocketController {
 
         Long userId = (Long) accessor.getSessionAttributes().get("userId");
 
+        // DB를 거치는 액션은 플랜 레인에서 들어온 순서대로 처리
+        planExecutionLanes.execute(planId, () -> handleStoredAction(planId, bookmarkSocketDTO, userId));
+    }
+
+    private void handleStoredAction(Long planId, BookmarkSocketDTO bookmarkSocketDTO, Long userId) {
         switch (bookmarkSocketDTO.getAction()) {
             case "CREATE":
                 CreateBookmarkRequestDTO createBookmarkRequestDTO = bookmarkSocketDTO.toCreateBookmarkRequestDTO();
@@ -1,6 +1,8 @@
 package com.ssafy.backend.plan.controller;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.ssafy.backend.common.util.PlanExecutionLanes;
+import com.ssafy.backend.common.websocket.SocketBroadcaster;
 import com.ssafy.backend.place.dto.RetrievePlaceDetailResponseDTO;
 import com.ssafy.backend.place.entity.Place;
 import com.ssafy.backend.place.service.PlaceService;
@@ -14,16 +16,16 @@ import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Controller;
 
 @Controller
 @RequiredArgsConstructor
 @Slf4j
 public class DayPlaceSocketController {
-    private final SimpMessagingTemplate messagingTemplate;
+    private final SocketBroadcaster socketBroadcaster;
     private final DayPlaceService dayPlaceService;
     private final PlaceService placeService;
+    private final PlanExecutionLanes planExecutionLanes;
 
     @MessageMapping("/dayPlace/{planId}")
     public void handleDayPlaceSocket(@DestinationVariable Long planId,
@@ -32,6 +34,18 @@ public class DayPlaceSocketController {
 
         Long userId = (Long) accessor.getSessionAttributes().get("userId");
 
+        if ("MOVE".equals(dayPlaceSocketDTO.getAction())) {
+            // 실시간 이동 (저장 없음, 대상별 마지막 위치만 주기적으로 전송)
+            // 앞서 들어온 생성/삭제보다 먼저 전송되지 않도록 같은 플랜 레인을 거쳐 중계
+            planExecutionLanes.execute(planId, () -> socketBroadcaster.broadcast("/topic/dayPlace/" + planId, dayPlaceSocketDTO));
+            return;
+        }
+
+        // DB를 거치는 액션은 플랜 레인에서 들어온 순서대로 처리
+        planExecutionLanes.execute(planId, () -> handleStoredAction(planId, dayPlaceSocketDTO, userId));
+    }
+
+    private void handleStoredAction(Long planId, DayPlaceSocketDTO dayPlaceSocketDTO, Long userId) {
         switch (dayPlaceSocketDTO.getAction()) {
             case "CREATE":
                 CreateDayPlaceRequestDTO createDayPlaceRequestDTO = dayPlaceSocketDTO.toCreateDayPlaceRequestDTO();
@@ -50,18 +64,13 @@ public class DayPlaceSocketController {
                 dayPlaceSocketDTO.setImageUrl(retrievePlaceDetailResponseDTO.getImageUrl());
                 dayPlaceSocketDTO.setCategory(retrievePlaceDetailResponseDTO.getCategory());
 
-                messagingTemplate.convertAndSend("/topic/dayPlace/" + planId, dayPlaceSocketDTO);
+                socketBroadcaster.broadcast("/topic/dayPlace/" + planId, dayPlaceSocketDTO);
                 break;
 
             case "RENAME":
                 RenameMemoRequestDTO renameMemoRequestDTO = dayPlaceSocketDTO.toRenameMemoRequestDTO();
                 dayPlaceService.renameMemo(planId, dayPlaceSocketDTO.getDayScheduleId(), dayPlaceSocketDTO.getDayPlaceId(), renameMemoRequestDTO, userId);
-                messagingTemplate.convertAndSend("/topic/dayPlace/" + planId, dayPlaceSocketDTO);
-                break;
-
-            case "MOVE" :
-                // 실시간 이동 (저장 없음)
-                messagingTemplate.convertAndSend("/topic/dayPlace/" + planId, dayPlaceSocketDTO);
+                socketBroadcaster.broadcast("/topic/dayPlace/" + planId, dayPlaceSocketDTO);
                 break;
 
             case "UPDATE_INNER" :
@@ -73,7 +82,7 @@ public class DayPlaceSocketController {
                         .indexOrder(dayPlaceSocketDTO.getIndexOrder())
                         .modifiedIndexOrder(dayPlaceSocketDTO.getModifiedIndexOrder())
                         .build();
-                messagingTemplate.convertAndSend("/topic/dayPlace/" + planId, updateInnerDayPlaceSocketDTO);
+                socketBroadcaster.broadcast("/topic/dayPlace/" + planId, updateInnerDayPlaceSocketDTO);
                 break;
 
             case "UPDATE_OUTER" :
@@ -86,7 +95,7 @@ public class DayPlaceSocketController {
                         .indexOrder(dayPlaceSocketDTO.getIndexOrder())
                         .modifiedIndexOrder(dayPlaceSocketDTO.getModifiedIndexOrder())
                         .build();
-                messagingTemplate.convertAndSend("/topic/dayPlace/" + planId, updateOuterDayPlaceSocketDTO);
+                socketBroadcaster.broadcast("/topic/dayPlace/" + planId, updateOuterDayPlaceSocketDTO);
                 break;
 
             case "DELETE":
@@ -96,7 +105,7 @@ public class DayPlaceSocketController {
                         .dayScheduleId(dayPlaceSocketDTO.getDayScheduleId())
                         .dayPlaceId(dayPlaceSocketDTO.getDayPlaceId())
                         .build();
-                messagingTemplate.convertAndSend("/topic/dayPlace/" + planId, deleteDayPlaceSocketDTO);
+                socketBroadcaster.broadcast("/topic/dayPlace/" + planId, deleteDayPlaceSocketDTO);
                 break;
 
             default:
@@ -1,6 +1,8 @@
 package com.ssafy.backend.plan.controller;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.ssafy.backend.common.util.PlanExecutionLanes;
+import com.ssafy.backend.common.websocket.SocketBroadcaster;
 import com.ssafy.backend.plan.dto.request.CreateDayScheduleRequestDTO;
 import com.ssafy.backend.plan.dto.request.RenameDayScheduleRequestDTO;
 import com.ssafy.backend.plan.dto.response.CreateDayScheduleResponseDTO;
@@ -12,7 +14,6 @@ import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Controller;
 
 @Controller
@@ -20,8 +21,9 @@ import org.springframework.stereotype.Controller;
 @Slf4j
 public class DayScheduleSocketController {
 
-    private final SimpMessagingTemplate messagingTemplate;
+    private final SocketBroadcaster socketBroadcaster;
     private final DayScheduleService dayScheduleService;
+    private final PlanExecutionLanes planExecutionLanes;
 
     @MessageMapping("/daySchedule/{planId}")
     public void handleDayScheduleSocket(@DestinationVariable Long planId,
@@ -30,6 +32,18 @@ public class DayScheduleSocketController {
 
         Long userId = (Long) accessor.getSessionAttributes().get("userId");
 
+        if ("MOVE".equals(dayScheduleSocketDTO.getAction())) {
+            // 실시간 이동 (저장 없음, 대상별 마지막 위치만 주기적으로 전송)
+            // 앞서 들어온 생성/삭제보다 먼저 전송되지 않도록 같은 플랜 레인을 거쳐 중계
+            planExecutionLanes.execute(planId, () -> socketBroadcaster.broadcast("/topic/daySchedule/" + planId, dayScheduleSocketDTO));
+            return;
+        }
+
+        // DB를 거치는 액션은 플랜 레인에서 들어온 순서대로 처리
+        planExecutionLanes.execute(planId, () -> handleStoredAction(planId, dayScheduleSocketDTO, userId));
+    }
+
+    private void handleStoredAction(Long planId, DayScheduleSocketDTO dayScheduleSocketDTO, Long userId) {
         switch (dayScheduleSocketDTO.getAction()) {
             case "CREATE" :
                 CreateDayScheduleRequestDTO createDayScheduleRequestDTO = dayScheduleSocketDTO.toCreateDayScheduleRequestDTO();
@@ -37,18 +51,13 @@ public class DayScheduleSocketController {
                 dayScheduleSocketDTO.setDayScheduleId(createDayScheduleResponseDTO.getDayScheduleId());
                 dayScheduleSocketDTO.setTitle(createDayScheduleResponseDTO.getTitle());
                 dayScheduleSocketDTO.setDayOrder(createDayScheduleResponseDTO.getDayOrder());
-                messagingTemplate.convertAndSend("/topic/daySchedule/" + planId, dayScheduleSocketDTO);
+                socketBroadcaster.broadcast("/topic/daySchedule/" + planId, dayScheduleSocketDTO);
                 break;
 
             case "RENAME" :
                 RenameDayScheduleRequestDTO renameDayScheduleRequestDTO = dayScheduleSocketDTO.toRenameDayScheduleRequestDTO();
                 dayScheduleService.renameDaySchedule(planId, dayScheduleSocketDTO.getDayScheduleId(), renameDayScheduleRequestDTO, userId);
-                messagingTemplate.convertAndSend("/topic/daySchedule/" + planId, dayScheduleSocketDTO);
-                break;
-
-            case "MOVE" :
-                // 실시간 이동 (저장 없음)
-                messagingTemplate.convertAndSend("/topic/daySchedule/" + planId, dayScheduleSocketDTO);
+                socketBroadcaster.broadcast("/topic/daySchedule/" + planId, dayScheduleSocketDTO);
                 break;
 
             case "UPDATE_SCHEDULE" :
@@ -59,7 +68,7 @@ public class DayScheduleSocketController {
                         .dayOrder(dayScheduleSocketDTO.getDayOrder())
                         .modifiedDayOrder(dayScheduleSocketDTO.getModifiedDayOrder())
                         .build();
-                messagingTemplate.convertAndSend("/topic/daySchedule/" + planId, updateScheduleDayScheduleSocketDTO);
+                socketBroadcaster.broadcast("/topic/daySchedule/" + planId, updateScheduleDayScheduleSocketDTO);
                 break;
 
             case "DELETE" :
@@ -68,7 +77,7 @@ public class DayScheduleSocketController {
                         .action("DELETE")
                         .dayScheduleId(dayScheduleSocketDTO.getDayScheduleId())
                         .build();
-                messagingTemplate.convertAndSend("/topic/daySchedule/" + planId, deleteDayScheduleSocketDTO);
+                socketBroadcaster.broadcast("/topic/daySchedule/" + planId, deleteDayScheduleSocketDTO);
                 break;
 
             default:
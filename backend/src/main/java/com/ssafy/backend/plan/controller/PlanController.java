@@ -10,6 +10,7 @@ import com.ssafy.backend.plan.dto.response.UpdatePlanResponseDTO;
 import com.ssafy.backend.plan.service.PlanService;
 import com.ssafy.backend.security.dto.JwtUserInfo;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -18,6 +19,7 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Controller
@@ -49,9 +51,12 @@ public class PlanController {
     }
     @PreAuthorize("permitAll()")
     @GetMapping("/list")
-    public CommonResponse<List<RetrievePlanResponse>> retrievePlanList(@AuthenticationPrincipal JwtUserInfo jwtUserInfo) {
+    public CommonResponse<List<RetrievePlanResponse>> retrievePlanList(@AuthenticationPrincipal JwtUserInfo jwtUserInfo,
+                                                                       @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorUpdatedAt,
+                                                                       @RequestParam(required = false) Long cursorId,
+                                                                       @RequestParam(required = false) Integer size) {
 
-        return new CommonResponse<>(planService.retrievePlanList(jwtUserInfo.getUserId()),HttpStatus.OK);
+        return new CommonResponse<>(planService.retrievePlanList(jwtUserInfo.getUserId(), cursorUpdatedAt, cursorId, size),HttpStatus.OK);
     }
     @PreAuthorize("permitAll()")
     @PostMapping("/{planId}/leave")
@@ -0,0 +1,27 @@
+package com.ssafy.backend.plan.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 플랜 목록 조회용 projection (플랜 + 방장 이름 / 프로필 이미지 키)
+ * 이미지 키는 서비스에서 presigned URL로 바꿔 RetrievePlanResponse로 반환함
+ */
+@Getter
+@AllArgsConstructor
+public class PlanListQueryDTO {
+    private Long planId;
+    private String planName;
+    private String planDescription;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private String hashTag;
+    private String planImage;
+    private String hostName;
+    private String hostProfileImage;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
@@ -1,5 +1,6 @@
 package com.ssafy.backend.plan.dto.websocket;
 
+import com.ssafy.backend.common.websocket.ConflatableMessage;
 import com.ssafy.backend.plan.dto.request.CreateDayPlaceRequestDTO;
 import com.ssafy.backend.plan.dto.request.UpdateInnerPositionRequestDTO;
 import com.ssafy.backend.plan.dto.request.RenameMemoRequestDTO;
@@ -11,7 +12,7 @@ import lombok.*;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-public class DayPlaceSocketDTO {
+public class DayPlaceSocketDTO implements ConflatableMessage {
     private String action;
 
     private Long dayPlaceId;
@@ -35,6 +36,12 @@ public class DayPlaceSocketDTO {
     private String imageUrl;
     private String category;
 
+    // MOVE는 장소별 마지막 위치만 전송
+    @Override
+    public Object conflationKey() {
+        return "MOVE".equals(action) ? dayPlaceId : null;
+    }
+
     public CreateDayPlaceRequestDTO toCreateDayPlaceRequestDTO() {
         return CreateDayPlaceRequestDTO.builder()
                 .placeId(placeId)
@@ -1,5 +1,6 @@
 package com.ssafy.backend.plan.dto.websocket;
 
+import com.ssafy.backend.common.websocket.ConflatableMessage;
 import com.ssafy.backend.plan.dto.request.CreateDayScheduleRequestDTO;
 import com.ssafy.backend.plan.dto.request.RenameDayScheduleRequestDTO;
 import com.ssafy.backend.plan.dto.request.UpdateSchedulePositionRequestDTO;
@@ -10,7 +11,7 @@ import lombok.*;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-public class DayScheduleSocketDTO {
+public class DayScheduleSocketDTO implements ConflatableMessage {
     private String action;
 
     private Long dayScheduleId;
@@ -20,6 +21,12 @@ public class DayScheduleSocketDTO {
 
     private String title;
 
+    // MOVE는 일정별 마지막 위치만 전송
+    @Override
+    public Object conflationKey() {
+        return "MOVE".equals(action) ? dayScheduleId : null;
+    }
+
     public CreateDayScheduleRequestDTO toCreateDayScheduleRequestDTO() {
         return CreateDayScheduleRequestDTO.builder()
                 .title(title)
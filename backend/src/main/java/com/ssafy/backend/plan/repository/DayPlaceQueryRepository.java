@@ -12,6 +12,9 @@ public interface DayPlaceQueryRepository {
     // planId 와 내부 ScheduleId로 한 날짜의 여행지를 조회 가능
     List<DayPlace> getDayScheduleByDayScheduleIdAndPlanId(Long dayScheduleId, Long planId);
 
-    // planId와 dayScheduleId, dayPlaceId를 가지고 이 3가지가 한번에 묶여있는 row인지 + Lock
+    // planId와 dayScheduleId, dayPlaceId를 가지고 이 3가지가 한번에 묶여있는 row인지
     Optional<DayPlace> findByPlanIdAndDayScheduleIdAndDayPlaceId(Long planId, Long dayScheduleId, Long dayPlaceId);
+
+    // 한 일정에서 indexOrder가 fromIndexOrder 이상인 여행지를 delta만큼 한 번에 이동 (단일 UPDATE, 이후 영속성 컨텍스트 초기화)
+    long shiftIndexOrders(Long dayScheduleId, int fromIndexOrder, int delta);
 }
@@ -3,7 +3,7 @@ package com.ssafy.backend.plan.repository;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.ssafy.backend.place.entity.QPlace;
 import com.ssafy.backend.plan.entity.*;
-import jakarta.persistence.LockModeType;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 
 import java.util.List;
@@ -12,6 +12,7 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class DayPlaceQueryRepositoryImpl implements DayPlaceQueryRepository {
     private final JPAQueryFactory queryFactory;
+    private final EntityManager em;
 
     public List<DayPlace> getPlanScheduleByPlanId(Long planId)
     {
@@ -53,9 +54,23 @@ public class DayPlaceQueryRepositoryImpl implements DayPlaceQueryRepository {
                 .where(dp.dayPlaceId.eq(dayPlaceId)
                         .and(ds.dayScheduleId.eq(dayScheduleId))
                         .and(p.planId.eq(planId)))
-                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
                 .fetchOne();
 
         return Optional.ofNullable(dayPlace);
     }
+
+    public long shiftIndexOrders(Long dayScheduleId, int fromIndexOrder, int delta)
+    {
+        QDayPlace dp = QDayPlace.dayPlace;
+
+        // 벌크 UPDATE는 영속성 컨텍스트를 거치지 않으므로 앞뒤로 flush / clear
+        em.flush();
+        long shifted = queryFactory.update(dp)
+                .set(dp.indexOrder, dp.indexOrder.add(delta))
+                .where(dp.daySchedule.dayScheduleId.eq(dayScheduleId)
+                        .and(dp.indexOrder.goe(fromIndexOrder)))
+                .execute();
+        em.clear();
+        return shifted;
+    }
 }
@@ -2,6 +2,13 @@ package com.ssafy.backend.plan.repository;
 
 import com.ssafy.backend.plan.entity.DayPlace;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
 
 public interface DayPlaceRepository extends JpaRepository<DayPlace, Long>, DayPlaceQueryRepository {
+    // 여행지 키의 평균 간격이 minGap보다 좁은 일정이 있는 plan (예전 방식의 연속 키 1, 2, 3...), SparseOrderMigrationRunner에서 사용
+    @Query("SELECT DISTINCT ds.plan.planId FROM DayPlace dp JOIN dp.daySchedule ds GROUP BY ds.dayScheduleId, ds.plan.planId"
+            + " HAVING COUNT(dp) > 1 AND MAX(dp.indexOrder) - MIN(dp.indexOrder) < (COUNT(dp) - 1) * :minGap")
+    List<Long> findPlanIdsWithCrowdedIndexOrders(int minGap);
 }
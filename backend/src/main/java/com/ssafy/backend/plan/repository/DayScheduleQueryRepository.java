@@ -7,9 +7,12 @@ import java.util.List;
 import java.util.Optional;
 
 public interface DayScheduleQueryRepository {
-    // planId와 dayScheduleId 두 개로 daySchedule이 plan에 있는지 확인 및 Lock
+    // planId와 dayScheduleId 두 개로 daySchedule이 plan에 있는지 확인
     Optional<DaySchedule> findByPlanIdAndDayScheduleId(Long planId, Long dayScheduleId);
 
     // planId를 통해 그 plan 내부의 모든 daySchedule을 모음
     List<DaySchedule> findByPlanId(Long planId);
+
+    // plan에서 dayOrder가 fromDayOrder 이상인 일정을 delta만큼 한 번에 이동 (단일 UPDATE, 이후 영속성 컨텍스트 초기화)
+    long shiftDayOrders(Long planId, int fromDayOrder, int delta);
 }
@@ -2,7 +2,7 @@ package com.ssafy.backend.plan.repository;
 
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.ssafy.backend.plan.entity.*;
-import jakarta.persistence.LockModeType;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 
 import java.util.List;
@@ -12,6 +12,7 @@ import java.util.Optional;
 public class DayScheduleQueryRepositoryImpl implements DayScheduleQueryRepository {
 
     private final JPAQueryFactory queryFactory;
+    private final EntityManager em;
 
     public Optional<DaySchedule> findByPlanIdAndDayScheduleId(Long planId, Long dayScheduleId) {
         QDaySchedule ds = QDaySchedule.daySchedule;
@@ -21,7 +22,6 @@ public class DayScheduleQueryRepositoryImpl implements DayScheduleQueryRepositor
                 .join(ds.plan, p)
                 .where(ds.dayScheduleId.eq(dayScheduleId)
                         .and(p.planId.eq(planId)))
-                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
                 .fetchOne();
         return Optional.ofNullable(daySchedule);
     }
@@ -35,4 +35,18 @@ public class DayScheduleQueryRepositoryImpl implements DayScheduleQueryRepositor
                 .where(p.planId.eq(planId))
                 .fetch();
     }
+
+    public long shiftDayOrders(Long planId, int fromDayOrder, int delta) {
+        QDaySchedule ds = QDaySchedule.daySchedule;
+
+        // 벌크 UPDATE는 영속성 컨텍스트를 거치지 않으므로 앞뒤로 flush / clear
+        em.flush();
+        long shifted = queryFactory.update(ds)
+                .set(ds.dayOrder, ds.dayOrder.add(delta))
+                .where(ds.plan.planId.eq(planId)
+                        .and(ds.dayOrder.goe(fromDayOrder)))
+                .execute();
+        em.clear();
+        return shifted;
+    }
 }
@@ -2,21 +2,27 @@ package com.ssafy.backend.plan.repository;
 
 import com.ssafy.backend.plan.entity.DaySchedule;
 import com.ssafy.backend.plan.entity.Plan;
-import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface DayScheduleRepository extends JpaRepository<DaySchedule,Long>, DayScheduleQueryRepository {
-    // dayScheduleService CREATE에서 사용
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    // dayScheduleService CREATE에서 사용 (같은 plan의 수정은 PlanExecutionLanes에서 직렬 실행되므로 Lock 없이 조회)
     @Query("SELECT COALESCE(MAX(d.dayOrder), 0) FROM DaySchedule d WHERE d.plan = :plan")
     Integer findMaxDayOrderByPlan(Plan plan);
 
-    // daySchudule 삭제 및 dayPlace 추가, 삭제, 위치 수정 시 Lock 걸고 조회 용
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    // 일정 생성 후 위치(일정 개수) 응답용
+    int countByPlan(Plan plan);
+
+    // dayPlace를 다른 일정으로 옮길 때 대상 일정 조회
     @Query("SELECT ds FROM DaySchedule ds WHERE ds.dayScheduleId = :dayScheduleId")
     DaySchedule findByDayScheduleId(Long dayScheduleId);
+
+    // 일정 키의 평균 간격이 minGap보다 좁은 plan (예전 방식의 연속 키 1, 2, 3...), SparseOrderMigrationRunner에서 사용
+    @Query("SELECT d.plan.planId FROM DaySchedule d GROUP BY d.plan.planId"
+            + " HAVING COUNT(d) > 1 AND MAX(d.dayOrder) - MIN(d.dayOrder) < (COUNT(d) - 1) * :minGap")
+    List<Long> findPlanIdsWithCrowdedDayOrders(int minGap);
 }
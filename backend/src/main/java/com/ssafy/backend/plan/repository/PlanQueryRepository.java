@@ -1,13 +1,14 @@
 package com.ssafy.backend.plan.repository;
 
+import com.ssafy.backend.plan.dto.response.PlanListQueryDTO;
 import com.ssafy.backend.plan.entity.Plan;
-import com.ssafy.backend.user.entity.User;
 
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
 
 public interface PlanQueryRepository {
-    List<Plan> findPlansByUser(User user);
+    // 참여 중인 플랜 목록 + 방장 정보 (size가 null이면 전체)
+    List<PlanListQueryDTO> findPlanListByUserId(Long userId, LocalDateTime cursorUpdatedAt, Long cursorId, Integer size);
 
     // 유저 회원 탈퇴 시 남아 있는 방들 삭제 + LOCK
     Plan lockPlan(Long planId);
@@ -1,33 +1,62 @@
 package com.ssafy.backend.plan.repository;
 
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.ssafy.backend.plan.dto.response.PlanListQueryDTO;
 import com.ssafy.backend.plan.entity.Plan;
 import com.ssafy.backend.plan.entity.QPlan;
 import com.ssafy.backend.user.entity.QUser;
 import com.ssafy.backend.user.entity.QUserPlan;
 import static com.ssafy.backend.plan.entity.QPlan.plan;
-import static com.ssafy.backend.user.entity.QUserPlan.userPlan;
 
-import com.ssafy.backend.user.entity.User;
+import com.ssafy.backend.user.entity.UserType;
 import jakarta.persistence.LockModeType;
 import lombok.RequiredArgsConstructor;
 
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
 
 @RequiredArgsConstructor
 public class PlanQueryRepositoryImpl implements PlanQueryRepository {
 
     private final JPAQueryFactory jpaQueryFactory;
 
+    /**
+     * 참여 중인 플랜과 방장 이름 / 프로필 이미지 키를 한 번의 쿼리로 조회
+     * (updated_at, plan_id) 내림차순 keyset 페이지네이션이며, 커서가 없으면 첫 페이지
+     * (방장이 없으면 방장 정보는 null)
+     */
     @Override
-    public List<Plan> findPlansByUser(User user) {
-        return jpaQueryFactory
-                .select(plan)
-                .from(userPlan)
-                .join(userPlan.plan, plan)
-                .where(userPlan.user.eq(user))
-                .fetch();
+    public List<PlanListQueryDTO> findPlanListByUserId(Long userId, LocalDateTime cursorUpdatedAt, Long cursorId, Integer size) {
+        QUserPlan member = new QUserPlan("member");
+        QUserPlan creator = new QUserPlan("creator");
+        QUser host = new QUser("host");
+        JPAQuery<PlanListQueryDTO> query = jpaQueryFactory
+                .select(Projections.constructor(PlanListQueryDTO.class,
+                        plan.planId,
+                        plan.planName,
+                        plan.planDescription,
+                        plan.startDate,
+                        plan.endDate,
+                        plan.hashTag,
+                        plan.planImage,
+                        host.userName,
+                        host.profileImage,
+                        plan.createdAt,
+                        plan.updatedAt))
+                .from(member)
+                .join(member.plan, plan)
+                .leftJoin(creator).on(creator.plan.eq(plan), creator.userType.eq(UserType.CREATOR))
+                .leftJoin(creator.user, host)
+                .where(member.user.userId.eq(userId),
+                        before(cursorUpdatedAt, cursorId))
+                .orderBy(plan.updatedAt.desc(), plan.planId.desc());
+        if (size != null) {
+            query.limit(size);
+        }
+        return query.fetch();
     }
 
     public Plan lockPlan(Long planId) {
@@ -37,4 +66,13 @@ public class PlanQueryRepositoryImpl implements PlanQueryRepository {
                 .setLockMode(LockModeType.PESSIMISTIC_WRITE)
                 .fetchOne();
     }
-}
\ No newline at end of file
+
+    // 커서보다 뒤(오래 전에 수정된) 플랜 (updated_at이 같으면 plan_id로 구분)
+    private BooleanExpression before(LocalDateTime cursorUpdatedAt, Long cursorId) {
+        if (cursorUpdatedAt == null || cursorId == null) {
+            return null;
+        }
+        return plan.updatedAt.lt(cursorUpdatedAt)
+                .or(plan.updatedAt.eq(cursorUpdatedAt).and(plan.planId.lt(cursorId)));
+    }
+}
@@ -27,5 +27,8 @@ public interface UserPlanRepository extends JpaRepository<UserPlan, Long>, UserP
     boolean existsByPlanAndUser(Plan plan, User user);
     UserPlan getUserPlanByPlanAndUser(Plan plan, User user);
 
+    // planId, userId로 참여 상태를 단일 쿼리로 조회 (PlanMembershipCache 적재용)
+    Optional<UserPlan> findByPlan_PlanIdAndUser_UserId(Long planId, Long userId);
+
     Long findCreatorUserIdByPlan(Plan plan);
 }
\ No newline at end of file
@@ -11,11 +11,6 @@ import com.ssafy.backend.plan.exception.*;
 import com.ssafy.backend.plan.repository.BookmarkRepository;
 import com.ssafy.backend.place.repository.PlaceRepository;
 import com.ssafy.backend.plan.repository.PlanRepository;
-import com.ssafy.backend.plan.repository.UserPlanRepository;
-import com.ssafy.backend.user.entity.User;
-import com.ssafy.backend.user.entity.UserPlan;
-import com.ssafy.backend.user.entity.UserStatus;
-import com.ssafy.backend.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -27,22 +22,16 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class BookmarkService {
 
-    private final UserRepository userRepository;
     private final PlanRepository planRepository;
     private final BookmarkRepository bookmarkRepository;
     private final PlaceRepository placeRepository;
-    private final UserPlanRepository userPlanRepository;
+    private final PlanMembershipCache planMembershipCache;
 
     @Transactional
     public CreateBookmarkResponseDTO createBookmark(Long planId, CreateBookmarkRequestDTO createBookmarkRequestDTO, Long userId) {
-        Plan plan = validatePlanExistence(planId);
-        User user = validateUserExistence(userId);
-
-        UserPlan userPlan = userPlanRepository.findByPlanAndUser(plan, user)
-                .orElseThrow(() -> new UserNotInPlanException("당신은 이 방의 참여자가 아닙니다."));
-        if (userPlan.getUserStatus() == UserStatus.PENDING) {
-            throw new PendingUserException("당신이 아직 초대되지 않은 방입니다.");
-        }
+        planMembershipCache.validateApprovedParticipant(planId, userId);
+        // 참여 확인에서 plan 존재가 보장되므로 조회 없이 참조만 사용
+        Plan plan = planRepository.getReferenceById(planId);
 
         Place place = placeRepository.findByGooglePlaceIdForUpdate(createBookmarkRequestDTO.getGooglePlaceId())
                 .orElseGet(() -> placeRepository.save(
@@ -81,14 +70,7 @@ public class BookmarkService {
     }
 
     public GetBookmarkListResponseDTO getBookmarkList(Long planId, Long userId) {
-        Plan plan = validatePlanExistence(planId);
-        User user = validateUserExistence(userId);
-
-        UserPlan userPlan = userPlanRepository.findByPlanAndUser(plan, user)
-                .orElseThrow(() -> new UserNotInPlanException("당신은 이 방의 참여자가 아닙니다."));
-        if (userPlan.getUserStatus() == UserStatus.PENDING) {
-            throw new PendingUserException("당신이 아직 초대되지 않은 방입니다.");
-        }
+        planMembershipCache.validateApprovedParticipant(planId, userId);
 
         // Query (N+1 방지)
         List<Bookmark> bookmarks = bookmarkRepository.findBookmarksByPlanId(planId);
@@ -116,28 +98,11 @@ public class BookmarkService {
 
     @Transactional
     public void deleteBookmark(Long planId, Long bookmarkId, Long userId) {
-        Plan plan = validatePlanExistence(planId);
-        User user = validateUserExistence(userId);
-
-        UserPlan userPlan = userPlanRepository.findByPlanAndUser(plan, user)
-                .orElseThrow(() -> new UserNotInPlanException("당신은 이 방의 참여자가 아닙니다."));
-        if (userPlan.getUserStatus() == UserStatus.PENDING) {
-            throw new PendingUserException("당신이 아직 초대되지 않은 방입니다.");
-        }
+        planMembershipCache.validateApprovedParticipant(planId, userId);
 
         Bookmark bookmark = bookmarkRepository.findByBookmarkIdAndPlanId(bookmarkId, planId)
                 .orElseThrow(() -> new BookmarkNotExistException("북마크 되어 있지 않습니다."));
 
         bookmarkRepository.delete(bookmark);
     }
-
-    private User validateUserExistence(Long userId) {
-        return userRepository.findById(userId)
-                .orElseThrow(() -> new UserNotExistException("존재하지 않는 사용자입니다. userId=" + userId));
-    }
-
-    private Plan validatePlanExistence(Long planId) {
-        return planRepository.findById(planId)
-                .orElseThrow(() -> new PlanNotExistException("존재하지 않는 계획입니다. planId=" + planId));
-    }
 }
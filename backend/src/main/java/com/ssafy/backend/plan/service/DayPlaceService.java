@@ -9,46 +9,39 @@ import com.ssafy.backend.plan.dto.request.UpdateInnerPositionRequestDTO;
 import com.ssafy.backend.plan.dto.request.UpdateOuterPositionRequestDTO;
 import com.ssafy.backend.plan.entity.DayPlace;
 import com.ssafy.backend.plan.entity.DaySchedule;
-import com.ssafy.backend.plan.entity.Plan;
 import com.ssafy.backend.plan.exception.*;
 import com.ssafy.backend.plan.repository.DayPlaceRepository;
 import com.ssafy.backend.plan.repository.DayScheduleRepository;
-import com.ssafy.backend.plan.repository.PlanRepository;
-import com.ssafy.backend.plan.repository.UserPlanRepository;
-import com.ssafy.backend.user.entity.User;
-import com.ssafy.backend.user.entity.UserPlan;
-import com.ssafy.backend.user.entity.UserStatus;
-import com.ssafy.backend.user.repository.UserRepository;
+import com.ssafy.backend.plan.util.SparseOrder;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Comparator;
 import java.util.List;
-
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 여행지 순서(indexOrder)를 바꾸는 수정은 PlanExecutionLanes에서 plan 단위로 직렬 실행되는 것을 전제로 함
+ * (DB Lock 없이 조회 후 수정)
+ *
+ * indexOrder는 간격을 둔 정렬 키(SparseOrder)이며, 요청/응답의 indexOrder는 일정 내 1부터 시작하는 위치임
+ */
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class DayPlaceService {
     private final DayPlaceRepository dayPlaceRepository;
-    private final UserRepository userRepository;
-    private final UserPlanRepository userPlanRepository;
-    private final PlanRepository planRepository;
     private final DayScheduleRepository dayScheduleRepository;
     private final PlaceRepository placeRepository;
+    private final PlanMembershipCache planMembershipCache;
+    private final SparseOrderRebalanceQueue sparseOrderRebalanceQueue;
 
     @Transactional
     public Long createDayPlace(Long planId, Long dayScheduleId, CreateDayPlaceRequestDTO createDayPlaceRequestDTO, Long userId) {
-        User user = validateUserExistence(userId);
-        Plan plan = validatePlanExistence(planId);
-
-        UserPlan userPlan = userPlanRepository.findByPlanAndUser(plan, user)
-                .orElseThrow(() -> new UserNotInPlanException("당신은 이 방의 참여자가 아닙니다."));
-        if (userPlan.getUserStatus() == UserStatus.PENDING) {
-            throw new PendingUserException("당신이 아직 초대되지 않은 방입니다.");
-        }
+        planMembershipCache.validateApprovedParticipant(planId, userId);
 
-        // 일정 한 개 LOCK
         DaySchedule daySchedule = dayScheduleRepository.findByPlanIdAndDayScheduleId(planId, dayScheduleId)
                 .orElseThrow(() -> new DayScheduleNotInThisPlanException("이 방의 일정이 아닙니다."));
 
@@ -64,17 +57,11 @@ public class DayPlaceService {
             throw new InvalidIndexOrderException("잘못된 위치 입력값 입니다.");
         }
 
-        for (DayPlace dp : dayPlaces) {
-            int idx = dp.getIndexOrder();
-            if (idx >= insertIndex) {
-                dp.setIndexOrder(idx + 1);
-            }
-        }
-
+        // 뒤 여행지들은 밀지 않고 앞뒤 키 사이 값으로 삽입
         DayPlace dayPlace = DayPlace.builder()
                 .daySchedule(daySchedule)
                 .place(place)
-                .indexOrder(insertIndex)
+                .indexOrder(allocateIndexOrder(planId, dayScheduleId, dayPlaces, insertIndex))
                 .build();
 
         dayPlaceRepository.save(dayPlace);
@@ -83,14 +70,7 @@ public class DayPlaceService {
 
     @Transactional
     public void renameMemo(Long planId, Long dayScheduleId, Long dayPlaceId, RenameMemoRequestDTO renameMemoRequestDTO, Long userId) {
-        User user = validateUserExistence(userId);
-        Plan plan = validatePlanExistence(planId);
-
-        UserPlan userPlan = userPlanRepository.findByPlanAndUser(plan, user)
-                .orElseThrow(() -> new UserNotInPlanException("당신은 이 방의 참여자가 아닙니다."));
-        if (userPlan.getUserStatus() == UserStatus.PENDING) {
-            throw new PendingUserException("당신이 아직 초대되지 않은 방입니다.");
-        }
+        planMembershipCache.validateApprovedParticipant(planId, userId);
 
         DayPlace dayPlace = dayPlaceRepository
                 .findByPlanIdAndDayScheduleIdAndDayPlaceId(planId, dayScheduleId, dayPlaceId)
@@ -101,26 +81,12 @@ public class DayPlaceService {
 
     @Transactional
     public void updateInnerPosition(Long planId, Long dayScheduleId, UpdateInnerPositionRequestDTO updateInnerPositionRequestDTO, Long userId) {
-        User user = validateUserExistence(userId);
-        Plan plan = validatePlanExistence(planId);
-
-        UserPlan userPlan = userPlanRepository.findByPlanAndUser(plan, user)
-                .orElseThrow(() -> new UserNotInPlanException("당신은 이 방의 참여자가 아닙니다."));
-        if (userPlan.getUserStatus() == UserStatus.PENDING) {
-            throw new PendingUserException("당신이 아직 초대되지 않은 방입니다.");
-        }
-        
-        // 일정 한 개 LOCK
-        DaySchedule daySchedule = dayScheduleRepository.findByDayScheduleId(dayScheduleId);
+        planMembershipCache.validateApprovedParticipant(planId, userId);
 
         DayPlace dayPlace = dayPlaceRepository
                 .findByPlanIdAndDayScheduleIdAndDayPlaceId(planId, dayScheduleId, updateInnerPositionRequestDTO.getDayPlaceId())
                 .orElseThrow(() -> new DayPlaceNotExistException("해당 계획에 속하지 않은 여행지입니다."));
 
-        if (dayPlace.getIndexOrder() != updateInnerPositionRequestDTO.getIndexOrder()) {
-            throw new ConflictException("기존 위치가 잘못되었거나, 다른 사용자가 작업 중입니다.");
-        }
-
         // planId 와 dayScheduleId로 한 일정의 여행지 전부 가져옴
         List<DayPlace> dayPlaces = dayPlaceRepository.getDayScheduleByDayScheduleIdAndPlanId(dayScheduleId, planId);
 
@@ -129,67 +95,43 @@ public class DayPlaceService {
         int oldIndex = updateInnerPositionRequestDTO.getIndexOrder();
         int newIndex = updateInnerPositionRequestDTO.getModifiedIndexOrder();
 
-        if ((oldIndex) <= 0 || oldIndex > (dayPlaces.size() + 1)) {
-            throw new InvalidIndexOrderException("잘못된 위치 입력값 입니다.");
+        if (positionOf(dayPlaces, dayPlace) != oldIndex) {
+            throw new ConflictException("기존 위치가 잘못되었거나, 다른 사용자가 작업 중입니다.");
         }
-        if ((newIndex) <= 0 || newIndex > (dayPlaces.size() + 1)) {
+        if ((newIndex) <= 0 || newIndex > dayPlaces.size()) {
             throw new InvalidIndexOrderException("잘못된 위치 입력값 입니다.");
         }
-
-        if (newIndex < oldIndex) {
-            for (DayPlace dp : dayPlaces) {
-                int idx = dp.getIndexOrder();
-                if (idx >= newIndex && idx < oldIndex) {
-                    dp.setIndexOrder(idx + 1);
-                }
-            }
-        } else if (newIndex > oldIndex) {
-            for (DayPlace dp : dayPlaces) {
-                int idx = dp.getIndexOrder();
-                if (idx > oldIndex && idx <= newIndex) {
-                    dp.setIndexOrder(idx - 1);
-                }
-            }
+        if (newIndex == oldIndex) {
+            return;
         }
 
-        dayPlace.setIndexOrder(updateInnerPositionRequestDTO.getModifiedIndexOrder());
+        // 옮길 여행지를 뺀 목록 기준으로 새 위치의 키를 구해 그 행 하나만 수정
+        dayPlaces.removeIf(dp -> dp.getDayPlaceId().equals(dayPlace.getDayPlaceId()));
+        int indexOrder = allocateIndexOrder(planId, dayScheduleId, dayPlaces, newIndex);
+        findMovedDayPlace(dayPlace).setIndexOrder(indexOrder);
     }
 
     @Transactional
     public void updateOuterPosition(Long planId, Long dayScheduleId, UpdateOuterPositionRequestDTO updateOuterPositionRequestDTO, Long userId) {
-        User user = validateUserExistence(userId);
-        Plan plan = validatePlanExistence(planId);
+        planMembershipCache.validateApprovedParticipant(planId, userId);
 
-        UserPlan userPlan = userPlanRepository.findByPlanAndUser(plan, user)
-                .orElseThrow(() -> new UserNotInPlanException("당신은 이 방의 참여자가 아닙니다."));
-        if (userPlan.getUserStatus() == UserStatus.PENDING) {
-            throw new PendingUserException("당신이 아직 초대되지 않은 방입니다.");
-        }
-
-        DaySchedule daySchedule = dayScheduleRepository.findByDayScheduleId(dayScheduleId);
         DaySchedule modifiedDaySchedule = dayScheduleRepository.findByDayScheduleId(updateOuterPositionRequestDTO.getModifiedDayScheduleId());
 
         DayPlace dayPlace = dayPlaceRepository
                 .findByPlanIdAndDayScheduleIdAndDayPlaceId(planId, dayScheduleId, updateOuterPositionRequestDTO.getDayPlaceId())
                 .orElseThrow(() -> new DayPlaceNotExistException("해당 계획에 속하지 않은 여행지입니다."));
 
-        if (dayPlace.getIndexOrder() != updateOuterPositionRequestDTO.getIndexOrder()) {
-            throw new ConflictException("기존 위치가 잘못되었거나, 다른 사용자가 작업중입니다.");
-        }
-
         List<DayPlace> fromDayPlaces = dayPlaceRepository.getDayScheduleByDayScheduleIdAndPlanId(dayScheduleId, planId);
         fromDayPlaces.sort(Comparator.comparingInt(DayPlace::getIndexOrder));
 
         if (updateOuterPositionRequestDTO.getIndexOrder() <= 0 || updateOuterPositionRequestDTO.getIndexOrder() > fromDayPlaces.size()) {
             throw new InvalidIndexOrderException("잘못된 위치 입력값 입니다.");
         }
-
-        for (DayPlace dp : fromDayPlaces) {
-            if (dp.getIndexOrder() > dayPlace.getIndexOrder()) {
-                dp.setIndexOrder(dp.getIndexOrder() - 1);
-            }
+        if (positionOf(fromDayPlaces, dayPlace) != updateOuterPositionRequestDTO.getIndexOrder()) {
+            throw new ConflictException("기존 위치가 잘못되었거나, 다른 사용자가 작업중입니다.");
         }
 
+        // 원래 일정의 뒤 여행지들은 당기지 않음 (빈 키가 생겨도 순서는 그대로)
         List<DayPlace> toDayPlaces = dayPlaceRepository.getDayScheduleByDayScheduleIdAndPlanId(updateOuterPositionRequestDTO.getModifiedDayScheduleId(), planId);
         toDayPlaces.sort(Comparator.comparingInt(DayPlace::getIndexOrder));
 
@@ -197,53 +139,84 @@ public class DayPlaceService {
             throw new InvalidIndexOrderException("잘못된 위치 입력값 입니다.");
         }
 
-        for (DayPlace dp : toDayPlaces) {
-            if (dp.getIndexOrder() >= updateOuterPositionRequestDTO.getModifiedIndexOrder()) {
-                dp.setIndexOrder(dp.getIndexOrder() + 1);
-            }
-        }
-
-        dayPlace.setDaySchedule(modifiedDaySchedule);
-        dayPlace.setIndexOrder(updateOuterPositionRequestDTO.getModifiedIndexOrder());
+        int indexOrder = allocateIndexOrder(planId, updateOuterPositionRequestDTO.getModifiedDayScheduleId(), toDayPlaces, updateOuterPositionRequestDTO.getModifiedIndexOrder());
+        DayPlace movedDayPlace = findMovedDayPlace(dayPlace);
+        movedDayPlace.setDaySchedule(modifiedDaySchedule);
+        movedDayPlace.setIndexOrder(indexOrder);
     }
 
     @Transactional
     public void deleteDayPlace(Long planId, Long dayScheduleId, Long dayPlaceId, Long userId) {
-        User user = validateUserExistence(userId);
-        Plan plan = validatePlanExistence(planId);
-
-        UserPlan userPlan = userPlanRepository.findByPlanAndUser(plan, user)
-                .orElseThrow(() -> new UserNotInPlanException("당신은 이 방의 참여자가 아닙니다."));
-        if (userPlan.getUserStatus() == UserStatus.PENDING) {
-            throw new PendingUserException("당신이 아직 초대되지 않은 방입니다.");
-        }
-
-        DaySchedule daySchedule = dayScheduleRepository.findByDayScheduleId(dayScheduleId);
+        planMembershipCache.validateApprovedParticipant(planId, userId);
 
         DayPlace dayPlace = dayPlaceRepository
                 .findByPlanIdAndDayScheduleIdAndDayPlaceId(planId, dayScheduleId, dayPlaceId)
                 .orElseThrow(() -> new DayPlaceNotExistException("해당 계획에 속하지 않은 여행지입니다."));
 
-        List<DayPlace> dayPlaces = dayPlaceRepository.getDayScheduleByDayScheduleIdAndPlanId(dayScheduleId, planId);
-        dayPlaces.sort(Comparator.comparingInt(DayPlace::getIndexOrder));
+        // 뒤 여행지들은 당기지 않음 (빈 키가 생겨도 순서는 그대로)
+        dayPlaceRepository.delete(dayPlace);
+    }
 
-        for (DayPlace dp : dayPlaces) {
-            int idx = dp.getIndexOrder();
-            if (idx > dayPlace.getIndexOrder()) {
-                dp.setIndexOrder(idx - 1);
+    /**
+     * plan의 일정마다 간격이 좁아진 여행지 키를 GAP 배수로 다시 매김 (순서는 그대로, 키가 바뀌는 행만 수정)
+     * 다른 순서 변경과 겹치지 않도록 PlanExecutionLanes에서 실행해야 함
+     *
+     * @return 수정한 여행지 수
+     */
+    @Transactional
+    public int rebalanceIndexOrders(Long planId) {
+        Map<Long, List<DayPlace>> bySchedule = dayPlaceRepository.getPlanScheduleByPlanId(planId).stream()
+                .collect(Collectors.groupingBy(dp -> dp.getDaySchedule().getDayScheduleId()));
+
+        int updated = 0;
+        for (List<DayPlace> dayPlaces : bySchedule.values()) {
+            dayPlaces.sort(Comparator.comparingInt(DayPlace::getIndexOrder));
+            if (!SparseOrder.needsRebalance(dayPlaces.stream().map(DayPlace::getIndexOrder).toList())) {
+                continue;
+            }
+            for (int i = 0; i < dayPlaces.size(); i++) {
+                int key = SparseOrder.rebalancedKey(i + 1);
+                if (dayPlaces.get(i).getIndexOrder() != key) {
+                    dayPlaces.get(i).setIndexOrder(key);
+                    updated++;
+                }
             }
         }
+        return updated;
+    }
 
-        dayPlaceRepository.delete(dayPlace);
+    /**
+     * 정렬된 여행지 목록(옮길 여행지 제외)의 position 위치에 들어갈 indexOrder
+     * 앞뒤 키 사이에 빈 값이 없을 때만 그 위치부터 뒤 여행지들을 UPDATE 한 번으로 GAP만큼 밀어 공간을 만듦
+     * (이 경우 영속성 컨텍스트가 초기화되므로 이후 수정은 다시 조회한 엔티티에 해야 함)
+     * 간격이 좁아졌으면 요청 경로에서는 그대로 배정하고 백그라운드 재배정을 요청함
+     */
+    private int allocateIndexOrder(Long planId, Long dayScheduleId, List<DayPlace> sortedDayPlaces, int position) {
+        List<Integer> keys = sortedDayPlaces.stream().map(DayPlace::getIndexOrder).toList();
+        if (SparseOrder.needsRebalance(keys)) {
+            sparseOrderRebalanceQueue.request(planId);
+        }
+        Integer key = SparseOrder.keyAt(keys, position);
+        if (key != null) {
+            return key;
+        }
+        dayPlaceRepository.shiftIndexOrders(dayScheduleId, SparseOrder.shiftFrom(keys, position), SparseOrder.GAP);
+        return SparseOrder.keyAfterShift(keys, position);
     }
 
-    private User validateUserExistence(Long userId) {
-        return userRepository.findById(userId)
-                .orElseThrow(() -> new UserNotExistException("존재하지 않는 사용자입니다. userId=" + userId));
+    // 키 배정 후 수정할 여행지 (밀기 없이 배정됐으면 1차 캐시에서 그대로 반환됨)
+    private DayPlace findMovedDayPlace(DayPlace dayPlace) {
+        return dayPlaceRepository.findById(dayPlace.getDayPlaceId())
+                .orElseThrow(() -> new DayPlaceNotExistException("해당 계획에 속하지 않은 여행지입니다."));
     }
 
-    private Plan validatePlanExistence(Long planId) {
-        return planRepository.findById(planId)
-                .orElseThrow(() -> new PlanNotExistException("존재하지 않는 계획입니다. planId=" + planId));
+    // 정렬된 목록에서의 위치 (1부터)
+    private static int positionOf(List<DayPlace> sortedDayPlaces, DayPlace dayPlace) {
+        for (int i = 0; i < sortedDayPlaces.size(); i++) {
+            if (sortedDayPlaces.get(i).getDayPlaceId().equals(dayPlace.getDayPlaceId())) {
+                return i + 1;
+            }
+        }
+        return -1;
     }
 }
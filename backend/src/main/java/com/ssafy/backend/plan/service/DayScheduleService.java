@@ -14,11 +14,7 @@ import com.ssafy.backend.plan.exception.*;
 import com.ssafy.backend.plan.repository.DayPlaceRepository;
 import com.ssafy.backend.plan.repository.DayScheduleRepository;
 import com.ssafy.backend.plan.repository.PlanRepository;
-import com.ssafy.backend.plan.repository.UserPlanRepository;
-import com.ssafy.backend.user.entity.User;
-import com.ssafy.backend.user.entity.UserPlan;
-import com.ssafy.backend.user.entity.UserStatus;
-import com.ssafy.backend.user.repository.UserRepository;
+import com.ssafy.backend.plan.util.SparseOrder;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -27,30 +23,30 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
-
+import java.util.stream.IntStream;
+
+/**
+ * 일정 순서(dayOrder)를 바꾸는 수정은 PlanExecutionLanes에서 plan 단위로 직렬 실행되는 것을 전제로 함
+ * (DB Lock 없이 조회 후 수정)
+ *
+ * dayOrder / indexOrder는 간격을 둔 정렬 키(SparseOrder)이며, 요청/응답에는 1부터 시작하는 위치를 사용함
+ */
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class DayScheduleService {
 
     private final DayScheduleRepository dayScheduleRepository;
-    private final UserRepository userRepository;
     private final PlanRepository planRepository;
-    private final UserPlanRepository userPlanRepository;
     private final DayPlaceRepository dayPlaceRepository;
+    private final PlanMembershipCache planMembershipCache;
+    private final SparseOrderRebalanceQueue sparseOrderRebalanceQueue;
 
     @Transactional
     public CreateDayScheduleResponseDTO createDaySchedule(Long planId, CreateDayScheduleRequestDTO createDayScheduleRequestDTO, Long userId) {
-        User user = validateUserExistence(userId);
-        // Plan 쓰지마세요. 일정 넣습니다. Lock
-        Plan plan = planRepository.findByIdForUpdate(planId)
-                .orElseThrow(() -> new PlanNotExistException("존재하지 않는 계획입니다."));
-
-        UserPlan userPlan = userPlanRepository.findByPlanAndUser(plan, user)
-                .orElseThrow(() -> new UserNotInPlanException("당신은 이 방의 참여자가 아닙니다."));
-        if (userPlan.getUserStatus() == UserStatus.PENDING) {
-            throw new PendingUserException("당신이 아직 초대되지 않은 방입니다.");
-        }
+        planMembershipCache.validateApprovedParticipant(planId, userId);
+        // 참여 확인에서 plan 존재가 보장되므로 조회 없이 참조만 사용
+        Plan plan = planRepository.getReferenceById(planId);
 
         Integer maxDayOrder = dayScheduleRepository.findMaxDayOrderByPlan(plan);
 
@@ -59,28 +55,22 @@ public class DayScheduleService {
 
         DaySchedule daySchedule = DaySchedule.builder()
                 .plan(plan)
-                .dayOrder(maxDayOrder+1)
+                .dayOrder(maxDayOrder + SparseOrder.GAP)
                 .title(createDayScheduleRequestDTO.getTitle())
                 .build();
 
         dayScheduleRepository.save(daySchedule);
 
+        // 맨 뒤에 추가했으므로 위치는 일정 개수와 같음
         return CreateDayScheduleResponseDTO.builder()
                 .dayScheduleId(daySchedule.getDayScheduleId())
                 .title(daySchedule.getTitle())
-                .dayOrder(daySchedule.getDayOrder())
+                .dayOrder(dayScheduleRepository.countByPlan(plan))
                 .build();
     }
 
     public PlanScheduleResponseDTO getPlanSchedule(Long planId, Long userId) {
-        User user = validateUserExistence(userId);
-        Plan plan = validatePlanExistence(planId);
-
-        UserPlan userPlan = userPlanRepository.findByPlanAndUser(plan, user)
-                .orElseThrow(() -> new UserNotInPlanException("당신은 이 방의 참여자가 아닙니다."));
-        if (userPlan.getUserStatus() == UserStatus.PENDING) {
-            throw new PendingUserException("당신이 아직 초대되지 않은 방입니다.");
-        }
+        planMembershipCache.validateApprovedParticipant(planId, userId);
 
         List<DaySchedule> schedulesInPlan = dayScheduleRepository.findByPlanId(planId);
         schedulesInPlan.sort(Comparator.comparingInt(DaySchedule::getDayOrder));
@@ -90,33 +80,40 @@ public class DayScheduleService {
         Map<Long, List<DayPlace>> groupedByDayScheduleId = dayPlacesInPlan.stream()
                 .collect(Collectors.groupingBy(dp -> dp.getDaySchedule().getDayScheduleId()));
 
-        List<DayScheduleResponseDTO> daySchedules = schedulesInPlan.stream()
-                .map(ds -> {
-                    List<DayPlaceResponseDTO> dayPlaces = groupedByDayScheduleId
+        // 저장된 정렬 키 대신 1부터 시작하는 위치로 응답
+        List<DayScheduleResponseDTO> daySchedules = IntStream.range(0, schedulesInPlan.size())
+                .mapToObj(dayIndex -> {
+                    DaySchedule ds = schedulesInPlan.get(dayIndex);
+                    List<DayPlace> sortedDayPlaces = groupedByDayScheduleId
                             .getOrDefault(ds.getDayScheduleId(), List.of())
                             .stream()
                             .sorted(Comparator.comparingInt(DayPlace::getIndexOrder))
-                            .map(dp -> DayPlaceResponseDTO.builder()
-                                    .dayPlaceId(dp.getDayPlaceId())
-                                    .indexOrder(dp.getIndexOrder())
-                                    .memo(dp.getMemo())
-                                    .placeId(dp.getPlace().getPlaceId())
-                                    .googlePlaceId(dp.getPlace().getGooglePlaceId())
-                                    .placeName(dp.getPlace().getPlaceName())
-                                    .latitude(dp.getPlace().getLatitude())
-                                    .longitude(dp.getPlace().getLongitude())
-                                    .address(dp.getPlace().getAddress())
-                                    .rating(dp.getPlace().getRating())
-                                    .ratingCount(dp.getPlace().getRatingCount())
-                                    .imageUrl(dp.getPlace().getImageUrl())
-                                    .category(dp.getPlace().getCategory())
-                                    .build())
+                            .toList();
+                    List<DayPlaceResponseDTO> dayPlaces = IntStream.range(0, sortedDayPlaces.size())
+                            .mapToObj(placeIndex -> {
+                                DayPlace dp = sortedDayPlaces.get(placeIndex);
+                                return DayPlaceResponseDTO.builder()
+                                        .dayPlaceId(dp.getDayPlaceId())
+                                        .indexOrder(placeIndex + 1)
+                                        .memo(dp.getMemo())
+                                        .placeId(dp.getPlace().getPlaceId())
+                                        .googlePlaceId(dp.getPlace().getGooglePlaceId())
+                                        .placeName(dp.getPlace().getPlaceName())
+                                        .latitude(dp.getPlace().getLatitude())
+                                        .longitude(dp.getPlace().getLongitude())
+                                        .address(dp.getPlace().getAddress())
+                                        .rating(dp.getPlace().getRating())
+                                        .ratingCount(dp.getPlace().getRatingCount())
+                                        .imageUrl(dp.getPlace().getImageUrl())
+                                        .category(dp.getPlace().getCategory())
+                                        .build();
+                            })
                             .collect(Collectors.toList());
 
                     return DayScheduleResponseDTO.builder()
                             .dayScheduleId(ds.getDayScheduleId())
                             .title(ds.getTitle())
-                            .dayOrder(ds.getDayOrder())
+                            .dayOrder(dayIndex + 1)
                             .daySchedule(dayPlaces)
                             .build();
                 })
@@ -129,16 +126,9 @@ public class DayScheduleService {
 
     @Transactional
     public void renameDaySchedule(Long planId, Long dayScheduleId, RenameDayScheduleRequestDTO renameDayScheduleRequestDTO, Long userId) {
-        User user = validateUserExistence(userId);
-        Plan plan = validatePlanExistence(planId);
+        planMembershipCache.validateApprovedParticipant(planId, userId);
 
-        UserPlan userPlan = userPlanRepository.findByPlanAndUser(plan, user)
-                .orElseThrow(() -> new UserNotInPlanException("당신은 이 방의 참여자가 아닙니다."));
-        if (userPlan.getUserStatus() == UserStatus.PENDING) {
-            throw new PendingUserException("당신이 아직 초대되지 않은 방입니다.");
-        }
-
-        // 종속 되어있는지 확인하면서 Lock을 걸어요.
+        // 종속 되어있는지 확인
         DaySchedule daySchedule = dayScheduleRepository.findByPlanIdAndDayScheduleId(planId, dayScheduleId)
                 .orElseThrow(() -> new DayScheduleNotInThisPlanException("이 방의 일정이 아닙니다."));
 
@@ -147,25 +137,11 @@ public class DayScheduleService {
 
     @Transactional
     public void updateSchedulePosition(Long planId, Long dayScheduleId, UpdateSchedulePositionRequestDTO updateSchedulePositionRequestDTO, Long userId) {
-        User user = validateUserExistence(userId);
-        // plan을 Lock
-        Plan plan = planRepository.findByIdForUpdate(planId)
-                .orElseThrow(() -> new PlanNotExistException("존재하지 않는 계획입니다."));
-
-        UserPlan userPlan = userPlanRepository.findByPlanAndUser(plan, user)
-                .orElseThrow(() -> new UserNotInPlanException("당신은 이 방의 참여자가 아닙니다."));
-        if (userPlan.getUserStatus() == UserStatus.PENDING) {
-            throw new PendingUserException("당신이 아직 초대되지 않은 방입니다.");
-        }
+        planMembershipCache.validateApprovedParticipant(planId, userId);
 
-        // 이제는 내부 Schedule도 역시 Lock을 걸기
         DaySchedule daySchedule = dayScheduleRepository.findByPlanIdAndDayScheduleId(planId, dayScheduleId)
                 .orElseThrow(() -> new DayScheduleNotInThisPlanException("이 방의 일정이 아닙니다."));
         
-        if (daySchedule.getDayOrder() != updateSchedulePositionRequestDTO.getDayOrder()) {
-            throw new ConflictException("기존 위치가 잘못되었거나, 다른 사용자가 작업중입니다.");
-        }
-
         List<DaySchedule> daySchedules = dayScheduleRepository.findByPlanId(planId);
         daySchedules.sort(Comparator.comparingInt(DaySchedule::getDayOrder));
 
@@ -178,63 +154,84 @@ public class DayScheduleService {
         if (newIndex <= 0 || newIndex > daySchedules.size()) {
             throw new InvalidIndexOrderException("잘못된 위치 입력값 입니다.");
         }
-
-        if (oldIndex > newIndex) {
-            for (DaySchedule ds : daySchedules) {
-                int idx = ds.getDayOrder();
-                if (idx < oldIndex && idx >= newIndex) {
-                    ds.setDayOrder(idx + 1);
-                }
-            }
-        } else if (oldIndex < newIndex) {
-            for (DaySchedule ds : daySchedules) {
-                int idx = ds.getDayOrder();
-                if (idx > oldIndex && idx <= newIndex) {
-                    ds.setDayOrder(idx - 1);
-                }
-            }
+        if (positionOf(daySchedules, daySchedule) != oldIndex) {
+            throw new ConflictException("기존 위치가 잘못되었거나, 다른 사용자가 작업중입니다.");
+        }
+        if (newIndex == oldIndex) {
+            return;
         }
 
-        daySchedule.setDayOrder(updateSchedulePositionRequestDTO.getModifiedDayOrder());
+        // 옮길 일정을 뺀 목록 기준으로 새 위치의 키를 구해 그 행 하나만 수정
+        daySchedules.removeIf(ds -> ds.getDayScheduleId().equals(daySchedule.getDayScheduleId()));
+        int dayOrder = allocateDayOrder(planId, daySchedules, newIndex);
+        // 뒤 일정을 밀었다면 영속성 컨텍스트가 초기화되었으므로 다시 조회 (아니면 1차 캐시에서 그대로 반환됨)
+        dayScheduleRepository.findById(daySchedule.getDayScheduleId())
+                .orElseThrow(() -> new DayScheduleNotInThisPlanException("이 방의 일정이 아닙니다."))
+                .setDayOrder(dayOrder);
     }
 
     @Transactional
     public void deleteDaySchedule(Long planId, Long dayScheduleId, Long userId) {
-        User user = validateUserExistence(userId);
-        // Plan 쓰지마세요. 일정 넣습니다. Lock
-        Plan plan = planRepository.findByIdForUpdate(planId)
-                .orElseThrow(() -> new PlanNotExistException("존재하지 않는 계획입니다."));
-
-        UserPlan userPlan = userPlanRepository.findByPlanAndUser(plan, user)
-                .orElseThrow(() -> new UserNotInPlanException("당신은 이 방의 참여자가 아닙니다."));
-        if (userPlan.getUserStatus() == UserStatus.PENDING) {
-            throw new PendingUserException("당신이 아직 초대되지 않은 방입니다.");
-        }
+        planMembershipCache.validateApprovedParticipant(planId, userId);
 
-        // daySchedule도 LOCK
         DaySchedule daySchedule = dayScheduleRepository.findByPlanIdAndDayScheduleId(planId, dayScheduleId)
                 .orElseThrow(() -> new DayScheduleNotInThisPlanException("이 방의 일정이 아닙니다."));
 
+        // 뒤 일정들은 당기지 않음 (빈 키가 생겨도 순서는 그대로)
+        dayScheduleRepository.delete(daySchedule);
+    }
+
+    /**
+     * 간격이 좁아진 일정 키를 GAP 배수로 다시 매김 (순서는 그대로, 키가 바뀌는 행만 수정)
+     * 다른 순서 변경과 겹치지 않도록 PlanExecutionLanes에서 실행해야 함
+     *
+     * @return 수정한 일정 수
+     */
+    @Transactional
+    public int rebalanceDayOrders(Long planId) {
         List<DaySchedule> daySchedules = dayScheduleRepository.findByPlanId(planId);
         daySchedules.sort(Comparator.comparingInt(DaySchedule::getDayOrder));
+        if (!SparseOrder.needsRebalance(daySchedules.stream().map(DaySchedule::getDayOrder).toList())) {
+            return 0;
+        }
 
-        for (DaySchedule ds : daySchedules) {
-            int idx = ds.getDayOrder();
-            if (idx > daySchedule.getDayOrder()) {
-                ds.setDayOrder(idx - 1);
+        int updated = 0;
+        for (int i = 0; i < daySchedules.size(); i++) {
+            int key = SparseOrder.rebalancedKey(i + 1);
+            if (daySchedules.get(i).getDayOrder() != key) {
+                daySchedules.get(i).setDayOrder(key);
+                updated++;
             }
         }
-
-        dayScheduleRepository.delete(daySchedule);
+        return updated;
     }
 
-    private User validateUserExistence(Long userId) {
-        return userRepository.findById(userId)
-                .orElseThrow(() -> new UserNotExistException("존재하지 않는 사용자입니다. userId=" + userId));
+    /**
+     * 정렬된 일정 목록(옮길 일정 제외)의 position 위치에 들어갈 dayOrder
+     * 앞뒤 키 사이에 빈 값이 없을 때만 그 위치부터 뒤 일정들을 UPDATE 한 번으로 GAP만큼 밀어 공간을 만듦
+     * (이 경우 영속성 컨텍스트가 초기화됨)
+     * 간격이 좁아졌으면 요청 경로에서는 그대로 배정하고 백그라운드 재배정을 요청함
+     */
+    private int allocateDayOrder(Long planId, List<DaySchedule> sortedDaySchedules, int position) {
+        List<Integer> keys = sortedDaySchedules.stream().map(DaySchedule::getDayOrder).toList();
+        if (SparseOrder.needsRebalance(keys)) {
+            sparseOrderRebalanceQueue.request(planId);
+        }
+        Integer key = SparseOrder.keyAt(keys, position);
+        if (key != null) {
+            return key;
+        }
+        dayScheduleRepository.shiftDayOrders(planId, SparseOrder.shiftFrom(keys, position), SparseOrder.GAP);
+        return SparseOrder.keyAfterShift(keys, position);
     }
 
-    private Plan validatePlanExistence(Long planId) {
-        return planRepository.findById(planId)
-                .orElseThrow(() -> new PlanNotExistException("존재하지 않는 계획입니다. planId=" + planId));
+    // 정렬된 목록에서의 위치 (1부터)
+    private static int positionOf(List<DaySchedule> sortedDaySchedules, DaySchedule daySchedule) {
+        for (int i = 0; i < sortedDaySchedules.size(); i++) {
+            if (sortedDaySchedules.get(i).getDayScheduleId().equals(daySchedule.getDayScheduleId())) {
+                return i + 1;
+            }
+        }
+        return -1;
     }
 }
@@ -0,0 +1,195 @@
+package com.ssafy.backend.plan.service;
+
+import com.ssafy.backend.common.util.BoundedTtlCache;
+import com.ssafy.backend.common.websocket.PlanAccessRevokedEvent;
+import com.ssafy.backend.plan.exception.PendingUserException;
+import com.ssafy.backend.plan.exception.PlanNotExistException;
+import com.ssafy.backend.plan.exception.UserNotExistException;
+import com.ssafy.backend.plan.exception.UserNotInPlanException;
+import com.ssafy.backend.plan.repository.PlanRepository;
+import com.ssafy.backend.plan.repository.UserPlanRepository;
+import com.ssafy.backend.user.entity.UserStatus;
+import com.ssafy.backend.user.entity.UserType;
+import com.ssafy.backend.user.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * (planId, userId) 별 참여 상태(UserStatus, UserType) 캐시
+ * 소켓/REST 요청마다 반복되던 user, plan, user_plan 조회를 캐시 적중 시 0회로 줄임
+ *
+ * 참여 상태를 바꾸는 곳(승인/거절/강퇴/나가기/위임/삭제)에서 evict를 호출해야 하며,
+ * 즉시 제거한 뒤 커밋 이후 한 번 더 제거해서 커밋 전에 다시 적재된 값도 남지 않게 함
+ * (참여자가 아닌 경우는 캐시하지 않고, 적재 도중 evict가 일어난 적재 결과도 저장하지 않음)
+ *
+ * 참여 권한을 잃는 경우(거절/강퇴/나가기/플랜 삭제/회원 탈퇴)에는 revoke를 호출하며,
+ * 커밋 이후 PlanAccessRevokedEvent를 발행해서 소켓 세션에 보관된 권한도 회수함
+ */
+@Component
+public class PlanMembershipCache {
+
+    private final UserPlanRepository userPlanRepository;
+    private final PlanRepository planRepository;
+    private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final long ttlMillis;
+
+    private final BoundedTtlCache<Key, Membership> memberships;
+    private final Counter evictionCounter;
+
+    public PlanMembershipCache(UserPlanRepository userPlanRepository,
+                               PlanRepository planRepository,
+                               UserRepository userRepository,
+                               ApplicationEventPublisher eventPublisher,
+                               MeterRegistry meterRegistry,
+                               @Value("${plan.membership-cache.ttl-ms:300000}") long ttlMillis,
+                               @Value("${plan.membership-cache.max-entries:10000}") int maxEntries) {
+        this.userPlanRepository = userPlanRepository;
+        this.planRepository = planRepository;
+        this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
+        this.ttlMillis = ttlMillis;
+
+        this.memberships = new BoundedTtlCache<Key, Membership>(maxEntries)
+                .registerMetrics(meterRegistry, "plan.membership_cache", "캐시된 참여 상태 수", "참여 상태 캐시 조회 수");
+        this.evictionCounter = Counter.builder("plan.membership_cache.evictions")
+                .description("참여 상태 변경으로 제거된 항목 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 참여 상태 조회 (대기 중인 사용자 포함)
+     *
+     * @throws UserNotInPlanException 참여 신청 기록이 없는 경우 (plan / user가 없으면 각각의 예외)
+     */
+    public Membership getMembership(Long planId, Long userId) {
+        Key key = new Key(planId, userId);
+        Membership cached = memberships.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        long stamp = memberships.loadStamp(key);
+        Membership membership = userPlanRepository.findByPlan_PlanIdAndUser_UserId(planId, userId)
+                .map(userPlan -> new Membership(userPlan.getUserStatus(), userPlan.getUserType()))
+                .orElseThrow(() -> notParticipant(planId, userId));
+
+        memberships.putIfNotInvalidated(key, membership, System.currentTimeMillis() + ttlMillis, stamp);
+        return membership;
+    }
+
+    /**
+     * 승인된 참여자인지 확인
+     *
+     * @throws PendingUserException 아직 승인되지 않은 경우
+     */
+    public Membership validateApprovedParticipant(Long planId, Long userId) {
+        Membership membership = getMembership(planId, userId);
+        if (membership.userStatus() == UserStatus.PENDING) {
+            throw new PendingUserException("당신이 아직 초대되지 않은 방입니다.");
+        }
+        return membership;
+    }
+
+    /**
+     * 한 사용자의 참여 상태가 바뀐 경우
+     */
+    public void evict(Long planId, Long userId) {
+        Key key = new Key(planId, userId);
+        invalidate(() -> remove(key));
+    }
+
+    /**
+     * 플랜이 삭제된 경우
+     */
+    public void evictPlan(Long planId) {
+        invalidate(() -> evictionCounter.increment(memberships.invalidateIf((key, membership) -> key.planId.equals(planId))));
+    }
+
+    /**
+     * 사용자가 탈퇴한 경우
+     */
+    public void evictUser(Long userId) {
+        invalidate(() -> evictionCounter.increment(memberships.invalidateIf((key, membership) -> key.userId.equals(userId))));
+    }
+
+    /**
+     * 사용자가 플랜 참여 권한을 잃은 경우 (거절/강퇴/나가기)
+     */
+    public void revoke(Long planId, Long userId) {
+        evict(planId, userId);
+        publishAfterCommit(new PlanAccessRevokedEvent(planId, userId));
+    }
+
+    /**
+     * 플랜이 삭제되어 모든 참여자가 권한을 잃은 경우
+     */
+    public void revokePlan(Long planId) {
+        evictPlan(planId);
+        publishAfterCommit(new PlanAccessRevokedEvent(planId, null));
+    }
+
+    /**
+     * 사용자가 탈퇴해서 모든 플랜 권한을 잃은 경우
+     */
+    public void revokeUser(Long userId) {
+        evictUser(userId);
+        publishAfterCommit(new PlanAccessRevokedEvent(null, userId));
+    }
+
+    // 캐시의 커밋 이후 제거보다 뒤에 등록되므로, 이벤트를 받은 쪽이 다시 조회하면 커밋된 상태를 봄
+    private void publishAfterCommit(PlanAccessRevokedEvent event) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_COMMITTED) {
+                        eventPublisher.publishEvent(event);
+                    }
+                }
+            });
+        } else {
+            eventPublisher.publishEvent(event);
+        }
+    }
+
+    private void invalidate(Runnable removal) {
+        removal.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    removal.run();
+                }
+            });
+        }
+    }
+
+    private void remove(Key key) {
+        if (memberships.invalidate(key)) {
+            evictionCounter.increment();
+        }
+    }
+
+    // 실패 경로에서만 plan, user 존재 여부를 확인해서 기존과 같은 예외를 던짐
+    private RuntimeException notParticipant(Long planId, Long userId) {
+        if (!planRepository.existsById(planId)) {
+            return new PlanNotExistException("존재하지 않는 계획입니다. planId=" + planId);
+        }
+        if (!userRepository.existsById(userId)) {
+            return new UserNotExistException("존재하지 않는 사용자입니다. userId=" + userId);
+        }
+        return new UserNotInPlanException("당신은 이 방의 참여자가 아닙니다.");
+    }
+
+    public record Membership(UserStatus userStatus, UserType userType) {
+    }
+
+    private record Key(Long planId, Long userId) {
+    }
+}
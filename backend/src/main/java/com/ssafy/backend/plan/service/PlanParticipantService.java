@@ -1,6 +1,7 @@
 package com.ssafy.backend.plan.service;
 
 import com.ssafy.backend.common.util.S3Util;
+import com.ssafy.backend.notification.entity.NotificationType;
 import com.ssafy.backend.notification.service.NotificationService;
 import com.ssafy.backend.plan.dto.request.UserIdRequestDTO;
 import com.ssafy.backend.plan.dto.response.UserInformationResponseDTO;
@@ -34,6 +35,7 @@ public class PlanParticipantService {
     private final PlanRepository planRepository;
     private final NotificationService notificationService;
     private final S3Util s3Util;
+    private final PlanMembershipCache planMembershipCache;
 
     @Transactional
     public boolean joinRequest(Long planId, JwtUserInfo jwtUserInfo) {
@@ -61,6 +63,7 @@ public class PlanParticipantService {
             notificationService.create(
                     ownerId,
                     user.getUserId(),
+                    NotificationType.JOIN_REQUEST,
                     plan.getPlanName()+"방에 "+user.getUserName() + "님이 참여를 요청하였습니다."
             );
         }
@@ -87,11 +90,14 @@ public class PlanParticipantService {
 
         applicantPlan.setUserStatus(UserStatus.APPROVED);
         userPlanRepository.save(applicantPlan);
+        planMembershipCache.evict(planId, applicant.getUserId());
 
         //메세지 발송
         notificationService.create(
                 applicant.getUserId(),
-                creator.getUserId(), plan.getPlanName() + " 방에 수락되었습니다."
+                creator.getUserId(),
+                NotificationType.JOIN_ACCEPT,
+                plan.getPlanName() + " 방에 수락되었습니다."
         );
         return true;
     }
@@ -115,24 +121,20 @@ public class PlanParticipantService {
         }
 
         userPlanRepository.deleteByPlanAndUser(plan, applicant);
+        planMembershipCache.revoke(planId, applicant.getUserId());
 
         //메세지 발송
         notificationService.create(
                 applicant.getUserId(),
                 creator.getUserId(),
+                NotificationType.JOIN_REJECT,
                 plan.getPlanName() + " 방에 거절되었습니다.");
         return true;
     }
 
     public PlanParticipantUserListResponseDTO getUserList(Long planId, JwtUserInfo jwtUserInfo) {
-        Plan plan = validatePlanExistence(planId);
-        User user = validateUserExistence(jwtUserInfo.getUserId());
-
-        UserPlan userPlan = userPlanRepository.findByPlanAndUser(plan, user)
-                .orElseThrow(() -> new UserNotInPlanException("당신은 이 방의 참여자가 아닙니다."));
-        if (userPlan.getUserStatus() == UserStatus.PENDING) {
-            throw new PendingUserException("당신이 아직 초대되지 않은 방입니다.");
-        }
+        planMembershipCache.validateApprovedParticipant(planId, jwtUserInfo.getUserId());
+        Plan plan = planRepository.getReferenceById(planId);
 
         List<UserPlan> userPlanList = userPlanRepository.findAllWithUserByPlan(plan);
         List<ParticipantResponseDTO> participantListDTO = new ArrayList<>();
@@ -194,19 +196,17 @@ public class PlanParticipantService {
 
         userPlan.setUserType(UserType.CREATOR);
         creatorPlan.setUserType(UserType.USER);
+        planMembershipCache.evict(planId, creator.getUserId());
+        planMembershipCache.evict(planId, user.getUserId());
         return true;
     }
 
     public UserInformationResponseDTO getUserInformation(Long planId, Long userId) {
-        Plan plan = validatePlanExistence(planId);
-        User user = validateUserExistence(userId);
-
-        UserPlan userPlan = userPlanRepository.findByPlanAndUser(plan, user)
-                .orElseThrow(() -> new UserNotInPlanException("당신은 이 방의 참여자가 아닙니다."));
+        PlanMembershipCache.Membership membership = planMembershipCache.getMembership(planId, userId);
 
         return UserInformationResponseDTO.builder()
-                .userStatus(userPlan.getUserStatus())
-                .userType(userPlan.getUserType())
+                .userStatus(membership.userStatus())
+                .userType(membership.userType())
                 .build();
     }
 
@@ -229,6 +229,7 @@ public class PlanParticipantService {
         }
 
         userPlanRepository.delete(userPlan);
+        planMembershipCache.revoke(planId, user.getUserId());
         return true;
     }
 
@@ -5,6 +5,7 @@ import com.ssafy.backend.common.util.S3Util;
 import com.ssafy.backend.plan.dto.request.CreatePlanRequestDTO;
 import com.ssafy.backend.plan.dto.request.UpdatePlanRequestDTO;
 import com.ssafy.backend.plan.dto.response.CreatePlanResponseDTO;
+import com.ssafy.backend.plan.dto.response.PlanListQueryDTO;
 import com.ssafy.backend.plan.dto.response.RetrievePlanResponse;
 import com.ssafy.backend.plan.dto.response.UpdatePlanResponseDTO;
 import com.ssafy.backend.plan.entity.Plan;
@@ -26,17 +27,21 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class PlanService {
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final S3Util s3Util;
     private final PlanRepository planRepository;
     private final UserPlanRepository userPlanRepository;
     private final UserRepository userRepository;
     private final ImageValidatorUtil imageValidatorUtil;
+    private final PlanMembershipCache planMembershipCache;
 
     @Transactional
     public CreatePlanResponseDTO createPlan(Long userId, CreatePlanRequestDTO createPlanRequestDTO, MultipartFile image) throws IOException {
@@ -159,36 +164,33 @@ public class PlanService {
             s3Util.deleteObject(imageKey); // 방을 만들때 만든 사진을 삭제한다.
         }
         planRepository.delete(plan);
+        planMembershipCache.revokePlan(planId);
 
 
     }
 
-    public List<RetrievePlanResponse> retrievePlanList(Long userId) {
-        User user = validateUserExistence(userId);
-        List<Plan> plansByUser = planRepository.findPlansByUser(user);
-
-        List<RetrievePlanResponse> responseList = plansByUser.stream().map(plan -> {
-            User hostUser = plan.getUserPlans().stream()
-                    .filter(up -> up.getUserType() == UserType.CREATOR)
-                    .map(UserPlan::getUser)
-                    .findFirst()
-                    .orElse(null); // 혹시나 방장이 없다면 null
-
-            return RetrievePlanResponse.builder()
-                    .planId(plan.getPlanId())
-                    .name(plan.getPlanName())
-                    .description(plan.getPlanDescription())
-                    .startDate(plan.getStartDate())
-                    .endDate(plan.getEndDate())
-                    .hashTag(plan.getHashTag())
-                    .imageUrl(plan.getPlanImage() != null ? s3Util.getUrl(plan.getPlanImage()) : null)
-                    .hostName(hostUser != null ? hostUser.getUserName() : null)
-                    .hostImageUrl(hostUser != null ? s3Util.getUrl(hostUser.getProfileImage()) : null)
-                    .createdTime(plan.getCreatedAt())
-                    .updatedTime(plan.getUpdatedAt())
-                    .build();
-        }).toList();
-        return responseList;
+    /**
+     * 참여 중인 플랜 목록 (최근 수정순, 플랜 수와 상관없이 쿼리 1회)
+     * 다음 페이지는 마지막 항목의 updatedTime과 planId를 커서로 사용하며, size가 없으면 전체 목록
+     */
+    public List<RetrievePlanResponse> retrievePlanList(Long userId, LocalDateTime cursorUpdatedAt, Long cursorId, Integer size) {
+        Integer pageSize = size == null ? null : Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        List<PlanListQueryDTO> plans = planRepository.findPlanListByUserId(userId, cursorUpdatedAt, cursorId, pageSize);
+
+        return plans.stream().map(plan -> RetrievePlanResponse.builder()
+                .planId(plan.getPlanId())
+                .name(plan.getPlanName())
+                .description(plan.getPlanDescription())
+                .startDate(plan.getStartDate())
+                .endDate(plan.getEndDate())
+                .hashTag(plan.getHashTag())
+                .imageUrl(plan.getPlanImage() != null ? s3Util.getUrl(plan.getPlanImage()) : null)
+                .hostName(plan.getHostName()) // 방장이 없다면 null
+                .hostImageUrl(plan.getHostProfileImage() != null ? s3Util.getUrl(plan.getHostProfileImage()) : null)
+                .createdTime(plan.getCreatedAt())
+                .updatedTime(plan.getUpdatedAt())
+                .build()
+        ).toList();
     }
 
     @Transactional
@@ -201,6 +203,7 @@ public class PlanService {
             throw new CreatorCannotLeaveException("방 생성자는 나갈 수 없습니다.");
         }
         userPlanRepository.deleteByPlanAndUser(plan, user);
+        planMembershipCache.revoke(planId, userId);
     }
 
     private User validateUserExistence(Long userId) {
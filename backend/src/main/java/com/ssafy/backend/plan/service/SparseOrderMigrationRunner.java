@@ -0,0 +1,41 @@
+package com.ssafy.backend.plan.service;
+
+import com.ssafy.backend.plan.repository.DayPlaceRepository;
+import com.ssafy.backend.plan.repository.DayScheduleRepository;
+import com.ssafy.backend.plan.util.SparseOrder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 예전 방식의 연속 키(1, 2, 3...)로 저장된 일정/여행지를 GAP 간격으로 펼치는 기동 시 마이그레이션
+ * 키 간격이 좁은 plan을 찾아 SparseOrderRebalanceQueue에 등록만 하고, 실제 수정은 SparseOrderRebalanceJob이 plan 레인에서 나눠서 처리함
+ * 이미 펼쳐진 plan은 조회되지 않으므로 여러 번 실행해도 안전함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "plan.sparse-order.legacy-spread.enabled", havingValue = "true", matchIfMissing = true)
+public class SparseOrderMigrationRunner implements ApplicationRunner {
+
+    private final DayScheduleRepository dayScheduleRepository;
+    private final DayPlaceRepository dayPlaceRepository;
+    private final SparseOrderRebalanceQueue sparseOrderRebalanceQueue;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Set<Long> planIds = new LinkedHashSet<>(dayScheduleRepository.findPlanIdsWithCrowdedDayOrders(SparseOrder.MIN_GAP));
+        planIds.addAll(dayPlaceRepository.findPlanIdsWithCrowdedIndexOrders(SparseOrder.MIN_GAP));
+        planIds.forEach(sparseOrderRebalanceQueue::request);
+
+        if (!planIds.isEmpty()) {
+            log.info("[Plan] 연속 키 정렬 재배정 예약: {}개 plan", planIds.size());
+        }
+    }
+}
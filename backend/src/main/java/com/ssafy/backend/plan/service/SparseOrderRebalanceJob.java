@@ -0,0 +1,77 @@
+package com.ssafy.backend.plan.service;
+
+import com.ssafy.backend.common.util.PlanExecutionLanes;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 정렬 키 재배정 작업
+ * SparseOrderRebalanceQueue에 등록된 plan의 일정/여행지 키를 GAP 배수로 다시 매김
+ * 같은 plan의 순서 변경과 겹치지 않도록 plan 레인에서 실행하고, 한 번에 max-plans-per-run개까지만 레인에 넣음
+ * 클라이언트는 키가 아닌 연속 위치를 받으므로 재배정 결과는 따로 브로드캐스트하지 않음
+ */
+@Slf4j
+@Component
+public class SparseOrderRebalanceJob {
+
+    private final SparseOrderRebalanceQueue sparseOrderRebalanceQueue;
+    private final PlanExecutionLanes planExecutionLanes;
+    private final DayScheduleService dayScheduleService;
+    private final DayPlaceService dayPlaceService;
+    private final int maxPlansPerRun;
+
+    private final Counter rebalancedRowsCounter;
+
+    public SparseOrderRebalanceJob(SparseOrderRebalanceQueue sparseOrderRebalanceQueue,
+                                   PlanExecutionLanes planExecutionLanes,
+                                   DayScheduleService dayScheduleService,
+                                   DayPlaceService dayPlaceService,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${plan.sparse-order.max-plans-per-run:100}") int maxPlansPerRun) {
+        this.sparseOrderRebalanceQueue = sparseOrderRebalanceQueue;
+        this.planExecutionLanes = planExecutionLanes;
+        this.dayScheduleService = dayScheduleService;
+        this.dayPlaceService = dayPlaceService;
+        this.maxPlansPerRun = maxPlansPerRun;
+
+        Gauge.builder("plan.sparse_order.rebalance.pending", sparseOrderRebalanceQueue, SparseOrderRebalanceQueue::size)
+                .description("정렬 키 재배정을 기다리는 plan 수")
+                .register(meterRegistry);
+        this.rebalancedRowsCounter = Counter.builder("plan.sparse_order.rebalance.rows")
+                .description("재배정으로 키가 바뀐 일정/여행지 수")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${plan.sparse-order.rebalance-delay-ms:10000}")
+    public void run() {
+        for (Long planId : sparseOrderRebalanceQueue.drain(maxPlansPerRun)) {
+            try {
+                planExecutionLanes.execute(planId, () -> rebalance(planId));
+            } catch (RejectedExecutionException e) {
+                // 레인이 가득 찼으면 다음 실행에서 다시 시도
+                sparseOrderRebalanceQueue.request(planId);
+            }
+        }
+    }
+
+    /**
+     * plan의 일정 키와 일정별 여행지 키를 다시 매김 (plan 레인 안에서 호출)
+     *
+     * @return 키가 바뀐 일정/여행지 수
+     */
+    int rebalance(Long planId) {
+        int updated = dayScheduleService.rebalanceDayOrders(planId) + dayPlaceService.rebalanceIndexOrders(planId);
+        if (updated > 0) {
+            rebalancedRowsCounter.increment(updated);
+            log.debug("[Plan] 정렬 키 재배정 planId={}, rows={}", planId, updated);
+        }
+        return updated;
+    }
+}
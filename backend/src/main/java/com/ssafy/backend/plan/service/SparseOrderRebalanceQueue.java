@@ -0,0 +1,42 @@
+package com.ssafy.backend.plan.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 정렬 키를 다시 매겨야 하는 plan 목록
+ * 순서 변경 중 간격이 좁아진 것을 발견한 서비스가 등록하고, SparseOrderRebalanceJob이 꺼내서 plan 레인에서 처리함
+ * 같은 plan은 한 번만 대기함
+ */
+@Component
+public class SparseOrderRebalanceQueue {
+
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+
+    public void request(Long planId) {
+        pending.add(planId);
+    }
+
+    /**
+     * 대기 중인 plan을 최대 limit개 꺼냄
+     */
+    public List<Long> drain(int limit) {
+        List<Long> planIds = new ArrayList<>();
+        Iterator<Long> iterator = pending.iterator();
+        while (planIds.size() < limit && iterator.hasNext()) {
+            Long planId = iterator.next();
+            iterator.remove();
+            planIds.add(planId);
+        }
+        return planIds;
+    }
+
+    public int size() {
+        return pending.size();
+    }
+}
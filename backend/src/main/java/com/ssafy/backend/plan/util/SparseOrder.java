@@ -0,0 +1,92 @@
+package com.ssafy.backend.plan.util;
+
+import java.util.List;
+
+/**
+ * 간격을 둔 정렬 키 (index_order, day_order)
+ * 키는 GAP 간격으로 배정하고, 이동/삽입 시 앞뒤 키의 중간값을 쓰므로 옮긴 행 하나만 수정하면 됨
+ * 중간에 더 이상 빈 값이 없을 때만 그 위치부터 뒤 키들을 한 번의 UPDATE로 GAP만큼 밀어 공간을 만듦
+ * 간격이 좁아지거나 키가 한쪽으로 커진 목록은 백그라운드에서 GAP 배수로 다시 매김 (SparseOrderRebalanceJob)
+ *
+ * 클라이언트에는 키가 아닌 1부터 시작하는 연속 위치(정렬 순서)를 주고받음
+ */
+public final class SparseOrder {
+
+    public static final int GAP = 1024;
+
+    // 인접 키 간격이 이보다 좁으면 중간값 배정이 몇 번 남지 않은 것으로 보고 다시 매김
+    public static final int MIN_GAP = GAP / 64;
+
+    // 맨 앞/뒤 삽입이 반복되어 키가 이 범위를 벗어나면 int 범위를 넘기 전에 다시 매김
+    static final int MAX_ABS_KEY = Integer.MAX_VALUE / 2;
+
+    private SparseOrder() {
+    }
+
+    /**
+     * 정렬된 키 목록(옮길 대상 제외)에서 position(1부터) 위치에 들어갈 키
+     *
+     * @return 앞뒤 키 사이에 빈 값이 없으면 null (shiftFrom 이상 키를 GAP만큼 민 뒤 keyAfterShift 사용)
+     */
+    public static Integer keyAt(List<Integer> sortedKeys, int position) {
+        Integer prev = position >= 2 ? sortedKeys.get(position - 2) : null;
+        Integer next = position <= sortedKeys.size() ? sortedKeys.get(position - 1) : null;
+        return between(prev, next);
+    }
+
+    static Integer between(Integer prev, Integer next) {
+        if (prev == null && next == null) {
+            return GAP;
+        }
+        if (prev == null) {
+            return next - GAP;
+        }
+        if (next == null) {
+            return prev + GAP;
+        }
+        if (next - prev > 1) {
+            return prev + (next - prev) / 2;
+        }
+        return null;
+    }
+
+    /**
+     * 공간이 없을 때 GAP만큼 밀어야 하는 첫 키 (position 위치에 있던 항목의 키)
+     */
+    public static int shiftFrom(List<Integer> sortedKeys, int position) {
+        return sortedKeys.get(position - 1);
+    }
+
+    /**
+     * shiftFrom 이상인 키를 GAP만큼 민 뒤 position 위치에 들어갈 키
+     */
+    public static int keyAfterShift(List<Integer> sortedKeys, int position) {
+        return between(sortedKeys.get(position - 2), sortedKeys.get(position - 1) + GAP);
+    }
+
+    /**
+     * 정렬된 키 목록을 다시 매겨야 하는지 (인접 키 간격이 MIN_GAP보다 좁거나 키가 MAX_ABS_KEY를 벗어남)
+     */
+    public static boolean needsRebalance(List<Integer> sortedKeys) {
+        if (sortedKeys.isEmpty()) {
+            return false;
+        }
+        if (Math.abs((long) sortedKeys.get(0)) > MAX_ABS_KEY
+                || Math.abs((long) sortedKeys.get(sortedKeys.size() - 1)) > MAX_ABS_KEY) {
+            return true;
+        }
+        for (int i = 1; i < sortedKeys.size(); i++) {
+            if ((long) sortedKeys.get(i) - sortedKeys.get(i - 1) < MIN_GAP) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 다시 매길 때 position(1부터) 위치에 줄 키
+     */
+    public static int rebalancedKey(int position) {
+        return position * GAP;
+    }
+}
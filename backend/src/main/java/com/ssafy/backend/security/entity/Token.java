@@ -6,8 +6,15 @@ import lombok.Data;
 
 import java.time.LocalDateTime;
 
+/**
+ * 리프레시 토큰 저장소 (액세스 토큰은 저장하지 않음)
+ * 토큰 원문 대신 SHA-256 해시만 보관함
+ */
 @Entity
-@Table(name = "token")
+@Table(name = "token", indexes = {
+        @Index(name = "uk_token_hash", columnList = "token_hash", unique = true),
+        @Index(name = "idx_token_expire_date", columnList = "expire_date")
+})
 @Data
 public class Token {
     @Id
@@ -18,8 +25,8 @@ public class Token {
     @Enumerated(EnumType.STRING)
     private TokenType tokenType;
 
-    @Column(name = "token_string")
-    private String tokenString;
+    @Column(name = "token_hash", length = 64)
+    private String tokenHash;
     @Column(name = "expire_date")
     private LocalDateTime expireDate;
 
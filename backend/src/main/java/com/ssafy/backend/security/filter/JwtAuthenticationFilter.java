@@ -4,7 +4,6 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ssafy.backend.common.dto.response.CommonResponse;
 import com.ssafy.backend.common.dto.response.ErrorBody;
 import com.ssafy.backend.security.dto.JwtUserInfo;
-import com.ssafy.backend.security.entity.TokenType;
 import com.ssafy.backend.security.util.JwtUtil;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -21,6 +20,7 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Optional;
 
 
 @Component
@@ -43,7 +43,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         //Bearer 부분 제거 후 순수 토큰만 획득
         String token = authorization.split(" ")[1];
 
-        if (!jwtUtil.validateToken(token, TokenType.ACCESS)) {
+        // 검증과 사용자 정보 추출을 한 번의 파싱으로 처리
+        Optional<JwtUserInfo> verified = jwtUtil.verifyAccessToken(token);
+        if (verified.isEmpty()) {
             ErrorBody errorBody = new ErrorBody("TOKEN-01", "세션이 만료되었습니다. 다시 로그인해주세요.");
             CommonResponse<ErrorBody> errorResponse = new CommonResponse<>(errorBody, HttpStatus.UNAUTHORIZED);
 
@@ -56,8 +58,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
 
-        //토큰에서 userinfo 추출
-        JwtUserInfo userInfo = jwtUtil.getUserInfoFromToken(token);
+        JwtUserInfo userInfo = verified.get();
 
         List<SimpleGrantedAuthority> authorities = List.of(
                 new SimpleGrantedAuthority("ROLE_USER") // 기본 사용자 권한 설정
@@ -0,0 +1,207 @@
+package com.ssafy.backend.security.repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 만료된 리프레시 토큰을 JDBC bulk DELETE로 나눠서 지우는 레포지토리
+ * 엔티티를 읽어 한 건씩 지우는 파생 delete 대신 expire_date 인덱스로 LIMIT 만큼만 삭제함
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class TokenJdbcRepository {
+
+    private static final String PURGE_LOCK_NAME = "onboard.token_purge";
+
+    private static final String GET_LOCK_SQL = "SELECT GET_LOCK(?, 0)";
+
+    private static final String RELEASE_LOCK_SQL = "SELECT RELEASE_LOCK(?)";
+
+    // expire_date 인덱스 범위 검색이라 ORDER BY 없이도 오래된 행부터 지워짐 (ORDER BY가 있는 DELETE는 MySQL 전용 문법)
+    private static final String DELETE_EXPIRED_SQL =
+            "DELETE FROM token WHERE expire_date < ? LIMIT ?";
+
+    // 원문(token_string) -> 해시(token_hash) 이관용
+    private static final String LEGACY_COLUMN = "token_string";
+
+    private static final String SELECT_UNHASHED_REFRESH_SQL =
+            "SELECT token_id, token_string FROM token"
+                    + " WHERE token_id > ? AND token_hash IS NULL AND token_string IS NOT NULL AND token_type = 'REFRESH'"
+                    + " ORDER BY token_id LIMIT ?";
+
+    private static final String UPDATE_TOKEN_HASH_SQL =
+            "UPDATE token SET token_hash = ? WHERE token_id = ? AND token_hash IS NULL";
+
+    private static final String SELECT_EXISTING_HASHES_SQL =
+            "SELECT token_hash FROM token WHERE token_hash IN (%s)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 여러 인스턴스 중 하나만 실행되도록 MySQL named lock(GET_LOCK)을 잡고 만료 토큰을 batchSize씩 삭제
+     * 한 커넥션을 autocommit으로 바꿔 실행하므로 묶음마다 바로 커밋되고, 묶음 사이에는 pauseMillis만큼 쉼
+     *
+     * @return 삭제된 행 수, 다른 인스턴스가 실행 중이라 잠금을 못 잡았으면 null
+     * @throws IllegalStateException 트랜잭션 안에서 호출한 경우 (묶음별 커밋이 바깥 트랜잭션까지 커밋하게 됨)
+     */
+    public Integer purgeExpired(LocalDateTime now, int batchSize, int maxBatches, long pauseMillis) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("만료 토큰 정리는 트랜잭션 밖에서 실행해야 합니다.");
+        }
+        return jdbcTemplate.execute((ConnectionCallback<Integer>) connection -> {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(true);
+            try {
+                return purgeWithLock(connection, now, batchSize, maxBatches, pauseMillis);
+            } finally {
+                // 풀로 돌아가는 커넥션의 원래 설정 복구
+                connection.setAutoCommit(autoCommit);
+            }
+        });
+    }
+
+    private Integer purgeWithLock(Connection connection, LocalDateTime now, int batchSize, int maxBatches,
+                                  long pauseMillis) throws SQLException {
+        if (!acquireLock(connection)) {
+            return null;
+        }
+        try {
+            int purged = 0;
+            for (int batch = 0; batch < maxBatches; batch++) {
+                int deleted = deleteBatch(connection, now, batchSize);
+                purged += deleted;
+                if (deleted < batchSize) {
+                    break;
+                }
+                pause(pauseMillis);
+            }
+            return purged;
+        } finally {
+            releaseLock(connection);
+        }
+    }
+
+    private boolean acquireLock(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(GET_LOCK_SQL)) {
+            statement.setString(1, PURGE_LOCK_NAME);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() && resultSet.getInt(1) == 1;
+            }
+        }
+    }
+
+    private void releaseLock(Connection connection) {
+        try (PreparedStatement statement = connection.prepareStatement(RELEASE_LOCK_SQL)) {
+            statement.setString(1, PURGE_LOCK_NAME);
+            statement.executeQuery().close();
+        } catch (SQLException e) {
+            // 커넥션이 닫히면 MySQL이 잠금을 자동으로 해제함
+            log.warn("[Token] 만료 토큰 정리 잠금 해제 실패", e);
+        }
+    }
+
+    private int deleteBatch(Connection connection, LocalDateTime now, int batchSize) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(DELETE_EXPIRED_SQL)) {
+            statement.setTimestamp(1, Timestamp.valueOf(now));
+            statement.setInt(2, batchSize);
+            return statement.executeUpdate();
+        }
+    }
+
+    // 묶음 사이에 다른 트랜잭션이 잠금/커넥션을 쓸 수 있도록 양보
+    private void pause(long pauseMillis) {
+        if (pauseMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(pauseMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 원문을 저장하던 token_string 컬럼이 아직 남아 있는지 (이관 전인지)
+     */
+    public boolean hasLegacyTokenStringColumn() {
+        return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            // DB마다 식별자 대소문자 저장 방식이 달라서 두 경우 모두 확인
+            for (String table : List.of("token", "TOKEN")) {
+                try (ResultSet columns = metaData.getColumns(connection.getCatalog(), null, table, null)) {
+                    while (columns.next()) {
+                        if (LEGACY_COLUMN.equalsIgnoreCase(columns.getString("COLUMN_NAME"))) {
+                            return true;
+                        }
+                    }
+                }
+            }
+            return false;
+        }));
+    }
+
+    /**
+     * 아직 해시가 없는 리프레시 토큰 원문 조회 (token_id 순)
+     *
+     * @return token_id -> 토큰 원문
+     */
+    public Map<Long, String> findUnhashedRefreshTokens(long afterId, int limit) {
+        Map<Long, String> rows = new LinkedHashMap<>();
+        jdbcTemplate.query(SELECT_UNHASHED_REFRESH_SQL,
+                rs -> {
+                    rows.put(rs.getLong("token_id"), rs.getString(LEGACY_COLUMN));
+                },
+                afterId, limit);
+        return rows;
+    }
+
+    /**
+     * 해시 저장 (아직 해시가 없는 행만)
+     *
+     * @return 실제로 저장된 행 수
+     */
+    public int batchUpdateTokenHash(Map<Long, String> hashes) {
+        List<Object[]> args = new ArrayList<>(hashes.size());
+        hashes.forEach((id, hash) -> args.add(new Object[]{hash, id}));
+        return sum(jdbcTemplate.batchUpdate(UPDATE_TOKEN_HASH_SQL, args));
+    }
+
+    /**
+     * 주어진 해시 중 이미 저장된 것 (이전 실행에서 이관된 원문과 같은 원문의 중복 행을 건너뛰는 데 사용)
+     */
+    public Set<String> findExistingHashes(Collection<String> hashes) {
+        if (hashes.isEmpty()) {
+            return Set.of();
+        }
+        String placeholders = String.join(",", Collections.nCopies(hashes.size(), "?"));
+        return new HashSet<>(jdbcTemplate.queryForList(
+                String.format(SELECT_EXISTING_HASHES_SQL, placeholders), String.class, hashes.toArray()));
+    }
+
+    // 드라이버가 SUCCESS_NO_INFO(-2)를 반환하는 경우는 1건으로 취급
+    private static int sum(int[] counts) {
+        return Arrays.stream(counts).map(count -> count < 0 ? 1 : count).sum();
+    }
+}
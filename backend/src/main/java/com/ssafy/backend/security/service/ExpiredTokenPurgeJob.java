@@ -0,0 +1,81 @@
+package com.ssafy.backend.security.service;
+
+import com.ssafy.backend.security.repository.TokenJdbcRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 만료된 리프레시 토큰 정리 작업
+ * expire_date 인덱스 순으로 batch-size씩 나눠 지우고, 묶음 사이에 쉬면서 잠금을 오래 잡지 않음
+ * 인스턴스 안에서는 실행 중 플래그로, 인스턴스 간에는 MySQL named lock으로 겹쳐 실행되지 않게 함
+ * 묶음 사이에 쉬는 동안 스케줄러 스레드 하나를 점유하므로 scheduling.pool-size는 2 이상이어야 함
+ */
+@Slf4j
+@Component
+public class ExpiredTokenPurgeJob {
+
+    private final TokenJdbcRepository tokenJdbcRepository;
+    private final int batchSize;
+    private final int maxBatches;
+    private final long pauseMillis;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final Counter purgedCounter;
+    private final Counter skippedCounter;
+    private final Timer purgeTimer;
+
+    public ExpiredTokenPurgeJob(TokenJdbcRepository tokenJdbcRepository,
+                                MeterRegistry meterRegistry,
+                                @Value("${jwt.purge.batch-size:1000}") int batchSize,
+                                @Value("${jwt.purge.max-batches:100}") int maxBatches,
+                                @Value("${jwt.purge.pause-ms:50}") long pauseMillis) {
+        this.tokenJdbcRepository = tokenJdbcRepository;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+        this.pauseMillis = pauseMillis;
+
+        this.purgedCounter = Counter.builder("token.purge.rows")
+                .description("정리된 만료 토큰 수")
+                .register(meterRegistry);
+        this.skippedCounter = Counter.builder("token.purge.skipped")
+                .description("다른 실행과 겹쳐서 건너뛴 정리 횟수")
+                .register(meterRegistry);
+        this.purgeTimer = Timer.builder("token.purge.duration")
+                .description("만료 토큰 정리 1회 소요 시간")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${jwt.purge.cron:0 */5 * * * *}")
+    public void purge() {
+        if (!running.compareAndSet(false, true)) {
+            skippedCounter.increment();
+            return;
+        }
+        Timer.Sample sample = Timer.start();
+        try {
+            Integer purged = tokenJdbcRepository.purgeExpired(LocalDateTime.now(), batchSize, maxBatches, pauseMillis);
+            if (purged == null) {
+                skippedCounter.increment();
+                log.debug("[Token] 다른 인스턴스가 만료 토큰 정리 중이라 건너뜀");
+                return;
+            }
+            purgedCounter.increment(purged);
+            if (purged > 0) {
+                log.info("[Token] 만료 토큰 {}건 정리", purged);
+            }
+        } catch (Exception e) {
+            log.error("[Token] 만료 토큰 정리 실패", e);
+        } finally {
+            sample.stop(purgeTimer);
+            running.set(false);
+        }
+    }
+}
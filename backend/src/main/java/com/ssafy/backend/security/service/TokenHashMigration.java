@@ -0,0 +1,99 @@
+package com.ssafy.backend.security.service;
+
+import com.ssafy.backend.security.repository.TokenJdbcRepository;
+import com.ssafy.backend.security.util.JwtUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 원문으로 저장된 리프레시 토큰(token_string)의 SHA-256 해시(token_hash)를 채우는 마이그레이션
+ *
+ * 롤링 배포/롤백 중에는 이전 버전 인스턴스가 token_string을 계속 읽고 쓰므로 행과 컬럼은 지우지 않음
+ * (token_string은 이번 릴리스에서 nullable 상태로 남겨 두고, 컬럼 삭제는 이후 릴리스의 별도 마이그레이션에서 처리)
+ * 해시가 없는 행(예전 방식으로 저장된 액세스 토큰, 같은 원문의 중복 행)은 조회되지 않다가 만료되면 ExpiredTokenPurgeJob이 지움
+ *
+ * 이관 전에 재발급 요청을 받으면 기존 리프레시 토큰이 모두 거부되므로, 웹 서버가 요청을 받기 전(싱글톤 초기화 직후)에 먼저 실행하고
+ * 배포 중 이전 버전 인스턴스가 새로 저장한 원문도 주기적으로 이어서 이관함
+ * 해시가 없는 행만 대상으로 하므로 여러 번, 여러 인스턴스에서 실행해도 되고, token_string 컬럼이 없으면 아무것도 하지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "jwt.token-hash-migration.enabled", havingValue = "true", matchIfMissing = true)
+public class TokenHashMigration implements SmartInitializingSingleton {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final TokenJdbcRepository tokenJdbcRepository;
+
+    // 원문 컬럼이 없는 스키마(신규 설치, 컬럼 삭제 이후)면 메타데이터 조회도 다시 하지 않음
+    private volatile boolean legacyColumnAbsent;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        catchUp();
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.token-hash-migration.catch-up-delay-ms:60000}",
+            initialDelayString = "${jwt.token-hash-migration.catch-up-delay-ms:60000}")
+    public void catchUp() {
+        if (legacyColumnAbsent) {
+            return;
+        }
+        try {
+            migrate();
+        } catch (DataAccessException e) {
+            // 다른 인스턴스와 동시에 같은 중복 원문을 이관하면 unique 제약에 걸릴 수 있음, 남은 행은 다음 실행에서 이어서 이관
+            log.warn("[Token] 리프레시 토큰 해시 이관 실패, 다음 실행에서 이어서 이관", e);
+        }
+    }
+
+    /**
+     * @return 이번 실행에서 해시를 채운 행 수
+     */
+    public int migrate() {
+        if (!tokenJdbcRepository.hasLegacyTokenStringColumn()) {
+            legacyColumnAbsent = true;
+            return 0;
+        }
+
+        long lastId = 0;
+        int migrated = 0;
+        // 같은 초에 발급된 같은 사용자의 토큰은 원문이 같으므로 해시 unique 제약에 걸리지 않도록 처음 한 행만 이관
+        Set<String> seen = new HashSet<>();
+        while (true) {
+            Map<Long, String> rows = tokenJdbcRepository.findUnhashedRefreshTokens(lastId, BATCH_SIZE);
+            if (rows.isEmpty()) {
+                break;
+            }
+            Map<Long, String> hashes = new LinkedHashMap<>();
+            for (Map.Entry<Long, String> row : rows.entrySet()) {
+                lastId = row.getKey();
+                String hash = JwtUtil.digest(row.getValue());
+                if (seen.add(hash)) {
+                    hashes.put(row.getKey(), hash);
+                }
+            }
+            // 이전 실행에서 이미 이관된 원문의 중복 행
+            hashes.values().removeAll(tokenJdbcRepository.findExistingHashes(hashes.values()));
+            if (!hashes.isEmpty()) {
+                migrated += tokenJdbcRepository.batchUpdateTokenHash(hashes);
+            }
+        }
+
+        if (migrated > 0) {
+            log.info("[Token] 리프레시 토큰 해시 이관: {}건", migrated);
+        }
+        return migrated;
+    }
+}
@@ -0,0 +1,57 @@
+package com.ssafy.backend.security.util;
+
+import com.ssafy.backend.common.util.BoundedTtlCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로그아웃 등으로 만료 전에 폐기된 액세스 토큰의 jti 목록 (메모리)
+ * 액세스 토큰은 DB에 저장하지 않으므로, 토큰 만료 시각까지만 jti를 보관하면 됨
+ *
+ * 만료 전의 jti를 지우면 폐기된 토큰이 다시 통과하므로 최대 개수에 도달해도 만료된 jti만 지움
+ * (만료되지 않은 jti로 가득 차면 새 폐기를 기록하지 않고 false를 반환하므로, 최대 개수는 액세스 토큰 만료 시간 동안의 로그아웃 수보다 크게 잡아야 함)
+ */
+@Slf4j
+@Component
+public class AccessTokenRevocations {
+
+    // jti -> 폐기 표시 (토큰 만료 시각까지 보관, 만료 전에는 지우지 않음)
+    private final BoundedTtlCache<String, Boolean> revoked;
+
+    public AccessTokenRevocations(@Value("${jwt.revocation.max-entries:10000}") int maxEntries) {
+        this.revoked = new BoundedTtlCache<>(maxEntries, value -> true);
+    }
+
+    /**
+     * @return 기록했거나 이미 만료되어 기록할 필요가 없으면 true, 보관 한도에 도달해 기록하지 못했으면 false
+     */
+    public boolean revoke(String jti, long expiresAt) {
+        if (jti == null || expiresAt <= System.currentTimeMillis()) {
+            return true;
+        }
+        if (!revoked.put(jti, Boolean.TRUE, expiresAt)) {
+            log.warn("[Token] 폐기 목록이 가득 차서 액세스 토큰 폐기를 기록하지 못했습니다. jti={}", jti);
+            return false;
+        }
+        return true;
+    }
+
+    public boolean isRevoked(String jti) {
+        if (jti == null) {
+            return false;
+        }
+        return revoked.peek(jti) != null;
+    }
+
+    /**
+     * 만료된 토큰의 jti 제거 (만료된 토큰은 서명 검증에서 이미 거부됨)
+     */
+    public void purgeExpired() {
+        revoked.removeExpired();
+    }
+
+    public int size() {
+        return revoked.size();
+    }
+}
@@ -1,5 +1,6 @@
 package com.ssafy.backend.security.util;
 
+import com.ssafy.backend.common.util.BoundedTtlCache;
 import com.ssafy.backend.security.dto.JwtUserInfo;
 import com.ssafy.backend.security.dto.TokenDTO;
 import com.ssafy.backend.security.entity.Token;
@@ -10,6 +11,7 @@ import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
@@ -26,20 +28,37 @@ import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.Date;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.UUID;
 
 @Component
 public class JwtUtil {
 
+    // 토큰 종류 클레임 (리프레시 토큰이 액세스 토큰으로, 액세스 토큰이 리프레시 토큰으로 쓰이지 않도록 구분)
+    private static final String TOKEN_TYPE_CLAIM = "typ";
+    private static final String ACCESS_TYPE = "access";
+    private static final String REFRESH_TYPE = "refresh";
+
     private final SecretKey key;
     private final int accessExpirationTime;
     private final int refreshExpirationTime;
     private final TokenRepository tokenRepository;
+    private final AccessTokenRevocations accessTokenRevocations;
+    // 불변이라 스레드 간 공유 가능, 요청마다 새로 만들지 않음
+    private final JwtParser jwtParser;
+
+    // 최근 검증된 액세스 토큰의 SHA-256 digest -> 사용자 정보 (폴링 요청의 반복 서명 검증 생략, 토큰 만료 시각까지 보관)
+    private final BoundedTtlCache<String, VerifiedToken> verifiedTokens;
 
     public JwtUtil(
             @Value("${jwt.secret}")String secret,
             @Value("${jwt.access-token.expiration}") int accessExpirationTime,
             @Value("${jwt.refresh-token.expiration}") int refreshExpirationTime,
-            TokenRepository tokenRepository) throws NoSuchAlgorithmException {
+            @Value("${jwt.verified-cache.max-entries:10000}") int verifiedCacheMaxEntries,
+            TokenRepository tokenRepository,
+            AccessTokenRevocations accessTokenRevocations,
+            MeterRegistry meterRegistry) throws NoSuchAlgorithmException {
         // 해싱으로 32바이트 고정
         MessageDigest digest = MessageDigest.getInstance("SHA-256");
         byte[] hashBytes = digest.digest(secret.getBytes(StandardCharsets.UTF_8));
@@ -47,18 +66,22 @@ public class JwtUtil {
         this.accessExpirationTime = accessExpirationTime;
         this.refreshExpirationTime = refreshExpirationTime;
         this.tokenRepository = tokenRepository;
+        this.accessTokenRevocations = accessTokenRevocations;
+        this.verifiedTokens = new BoundedTtlCache<String, VerifiedToken>(verifiedCacheMaxEntries)
+                .registerMetrics(meterRegistry, "jwt.verified_cache", "검증 결과가 캐시된 액세스 토큰 수", "액세스 토큰 검증 캐시 조회 수 (miss는 서명 검증 횟수)");
+        this.jwtParser = Jwts.parser()
+                .verifyWith(key)
+                .build();
     }
 
     private JwtParser getJwtParser() {
-        return Jwts.parser()
-                .verifyWith(key)
-                .build();
+        return jwtParser;
     }
 
     /**
      * Access Token 생성
+     * 저장하지 않는 stateless 토큰이며, 만료 전 폐기는 jti로 AccessTokenRevocations에 기록함
      */
-    @Transactional
     public TokenDTO generateAccessToken(User user) {
 
         Date issuedAt = new Date(System.currentTimeMillis());
@@ -69,30 +92,23 @@ public class JwtUtil {
                 .claim("userId", user.getUserId())
                 .claim("googleEmail", user.getGoogleEmail())
                 .claim("userName", user.getUserName())
+                .claim(TOKEN_TYPE_CLAIM, ACCESS_TYPE)
+                .id(UUID.randomUUID().toString())
                 .issuedAt(issuedAt)
                 .expiration(expiration)
                 .signWith(key)
                 .compact();
 
-        Token token = new Token();
-        token.setTokenType(TokenType.ACCESS);
-        token.setTokenString(accessToken);
-        token.setUser(user);
-        LocalDateTime expirationDateTime = expiration.toInstant()
-                .atZone(ZoneId.systemDefault())
-                .toLocalDateTime();
-        token.setExpireDate(expirationDateTime);
-
-        Token savedToken = tokenRepository.save(token);
         return TokenDTO.builder()
-                .tokenString(savedToken.getTokenString())
-                .tokenType(savedToken.getTokenType())
-                .expireDate(savedToken.getExpireDate())
+                .tokenString(accessToken)
+                .tokenType(TokenType.ACCESS)
+                .expireDate(toLocalDateTime(expiration))
                 .build();
     }
 
     /**
-     * Refresh Token 생성
+     * Refresh Token 생성 (원문 대신 SHA-256 해시만 저장)
+     * 액세스 토큰 재발급에만 쓰이므로 userId 외의 사용자 정보는 담지 않음
      */
     @Transactional
     public TokenDTO generateRefreshToken(Long userId) {
@@ -103,6 +119,8 @@ public class JwtUtil {
         String refreshToken = Jwts.builder()
                 .subject(String.valueOf(userId))
                 .claim("userId", userId)
+                .claim(TOKEN_TYPE_CLAIM, REFRESH_TYPE)
+                .id(UUID.randomUUID().toString())
                 .issuedAt(issuedAt)
                 .expiration(expiration)
                 .signWith(key)
@@ -110,21 +128,61 @@ public class JwtUtil {
 
         Token token = new Token();
         token.setTokenType(TokenType.REFRESH);
-        token.setTokenString(refreshToken);
-        LocalDateTime expirationDateTime = expiration.toInstant()
-                .atZone(ZoneId.systemDefault())
-                .toLocalDateTime();
-        token.setExpireDate(expirationDateTime);
+        token.setTokenHash(digest(refreshToken));
+        token.setExpireDate(toLocalDateTime(expiration));
         token.setUser(User.builder().userId(userId).build());
+        tokenRepository.save(token);
 
-        Token savedToken = tokenRepository.save(token);
         return TokenDTO.builder()
-                .tokenString(savedToken.getTokenString())
-                .tokenType(savedToken.getTokenType())
-                .expireDate(savedToken.getExpireDate())
+                .tokenString(refreshToken)
+                .tokenType(TokenType.REFRESH)
+                .expireDate(token.getExpireDate())
                 .build();
     }
 
+    private static LocalDateTime toLocalDateTime(Date date) {
+        return date.toInstant()
+                .atZone(ZoneId.systemDefault())
+                .toLocalDateTime();
+    }
+
+    /**
+     * 액세스 토큰 검증과 사용자 정보 추출을 한 번의 파싱으로 처리
+     * 최근 검증된 토큰은 만료 전까지 캐시된 정보를 그대로 반환함
+     *
+     * @return 유효하지 않거나 만료되었거나 액세스 토큰이 아니면 empty
+     */
+    public Optional<JwtUserInfo> verifyAccessToken(String token) {
+        if (token == null || token.isEmpty()) {
+            return Optional.empty();
+        }
+        String digest = digest(token);
+        VerifiedToken cached = verifiedTokens.get(digest);
+        if (cached != null) {
+            if (!accessTokenRevocations.isRevoked(cached.jti)) {
+                return Optional.of(cached.userInfo);
+            }
+            verifiedTokens.invalidate(digest);
+            return Optional.empty();
+        }
+
+        Claims claims;
+        try {
+            claims = getJwtParser().parseSignedClaims(token).getPayload();
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+        if (!hasType(claims, ACCESS_TYPE) || accessTokenRevocations.isRevoked(claims.getId())) {
+            return Optional.empty();
+        }
+        JwtUserInfo userInfo = toUserInfo(claims);
+        // 만료 시간이 없는 토큰은 캐시하지 않음
+        if (claims.getExpiration() != null) {
+            verifiedTokens.put(digest, new VerifiedToken(userInfo, claims.getId()), claims.getExpiration().getTime());
+        }
+        return Optional.of(userInfo);
+    }
+
     /**
      * 토큰에서 JwtUserInfo 추출
      */
@@ -133,6 +191,20 @@ public class JwtUtil {
                 .parseSignedClaims(token)
                 .getPayload();
 
+        return toUserInfo(claims);
+    }
+
+    private static boolean hasType(Claims claims, String type) {
+        return type.equals(claims.get(TOKEN_TYPE_CLAIM, String.class));
+    }
+
+    // 종류 클레임 도입 전에 발급된 리프레시 토큰은 typ이 없음, 저장소에는 리프레시 토큰 해시만 있으므로 해시가 있으면 리프레시 토큰임
+    private static boolean isRefreshType(Claims claims) {
+        String type = claims.get(TOKEN_TYPE_CLAIM, String.class);
+        return type == null || REFRESH_TYPE.equals(type);
+    }
+
+    private JwtUserInfo toUserInfo(Claims claims) {
         return new JwtUserInfo(
                 claims.get("userId", Long.class),        // PK
                 claims.get("googleEmail", String.class),    //  구글 이메일
@@ -197,46 +269,45 @@ public class JwtUtil {
 
     /**
      * 토큰 유효성 검증
+     * 토큰 종류(typ)가 요청한 종류와 같아야 하며,
+     * 액세스 토큰은 서명/만료와 폐기 여부만, 리프레시 토큰은 저장된 해시가 있는지까지 확인
      */
     @Transactional(readOnly = true)
     public boolean validateToken(String token, TokenType tokenType) {
         try {
-//            if (!isTokenAvailable(token, tokenType)) {
-//                return false;
-//            }
-            getJwtParser().parseSignedClaims(token);
-            return true;
-        } catch (JwtException e) {
+            Claims claims = getJwtParser().parseSignedClaims(token).getPayload();
+            if (tokenType == TokenType.REFRESH) {
+                return isRefreshType(claims) && tokenRepository.existsByTokenHash(digest(token));
+            }
+            return hasType(claims, ACCESS_TYPE) && !accessTokenRevocations.isRevoked(claims.getId());
+        } catch (JwtException | IllegalArgumentException e) {
             return false;
         }
     }
 
     /**
-     * 토큰이 등록되어 있는지 확인
-     */
-    private boolean isTokenAvailable(String token, TokenType tokenType) {
-        return tokenRepository.existsByTokenTypeAndTokenString(tokenType, token);
-    }
-
-    /**
-     * 토큰을 화이트리스트에 추가 (로그인 시 사용)
+     * 액세스 토큰 폐기 (로그아웃 시 사용), 만료 시각까지만 jti를 메모리에 보관
      */
-    public void addToWhitelist(TokenDTO token) {
-        if (token != null && !token.getTokenString().isEmpty()) {
-            Token newToken = new Token();
-            newToken.setTokenType(token.getTokenType());
-            newToken.setTokenString(token.getTokenString());
-            newToken.setExpireDate(token.getExpireDate());
-            tokenRepository.save(newToken);
+    public void revokeAccessToken(String tokenString) {
+        if (tokenString == null) {
+            return;
+        }
+        String token = extractToken(tokenString);
+        try {
+            Claims claims = getJwtParser().parseSignedClaims(token).getPayload();
+            accessTokenRevocations.revoke(claims.getId(), claims.getExpiration().getTime());
+            verifiedTokens.invalidate(digest(token));
+        } catch (JwtException | IllegalArgumentException e) {
+            // 이미 만료되었거나 유효하지 않은 토큰은 폐기할 필요 없음
         }
     }
 
     /**
-     * 토큰을 화이트리스트에서 제거 (로그아웃 시 사용)
+     * 리프레시 토큰 삭제 (로그아웃 시 사용)
      */
-    public void deleteFromWhiteList(String tokenString)  {
+    public void deleteRefreshToken(String tokenString) {
         if (tokenString != null) {
-            tokenRepository.deleteByTokenString(extractToken(tokenString));
+            tokenRepository.deleteByTokenHash(digest(extractToken(tokenString)));
         }
     }
 
@@ -250,10 +321,27 @@ public class JwtUtil {
         return bearerToken;
     }
 
-    @Transactional
+    /**
+     * 메모리에 보관 중인 만료된 검증 캐시 / 폐기 jti 정리 (DB의 만료 토큰은 ExpiredTokenPurgeJob이 정리)
+     */
     @Scheduled(cron = "0 */5 * * * *") // 5분 마다 실행
     public void cleanUpExpiredTokens() {
-        LocalDateTime now = LocalDateTime.now();
-        tokenRepository.deleteAllByExpireDateBefore(now);
+        accessTokenRevocations.purgeExpired();
+        verifiedTokens.removeExpired();
+    }
+
+    /**
+     * 토큰 원문의 SHA-256 hex digest (검증 캐시 키와 리프레시 토큰 저장 값으로 원문 대신 사용)
+     */
+    public static String digest(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record VerifiedToken(JwtUserInfo userInfo, String jti) {
     }
 }
\ No newline at end of file
@@ -62,8 +62,8 @@ public class UserAuthService {
 
     @Transactional
     public boolean logout(LogoutRequestDTO logoutRequestDTO) {
-        jwtUtil.deleteFromWhiteList(logoutRequestDTO.getAccessToken());
-        jwtUtil.deleteFromWhiteList(logoutRequestDTO.getRefreshToken());
+        jwtUtil.revokeAccessToken(logoutRequestDTO.getAccessToken());
+        jwtUtil.deleteRefreshToken(logoutRequestDTO.getRefreshToken());
         return true;
     }
 
@@ -0,0 +1,96 @@
+package com.ssafy.backend.user.service;
+
+import com.ssafy.backend.common.util.BoundedTtlCache;
+import com.ssafy.backend.plan.exception.UserNotExistException;
+import com.ssafy.backend.security.dto.JwtUserInfo;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 토큰 발급 이후 바뀐 사용자 프로필(이름 변경 / 탈퇴) 캐시
+ * 소켓 CONNECT는 서명된 토큰 claim을 그대로 믿고 DB를 조회하지 않으며, 이 캐시에 있는 사용자만 claim 대신 캐시 값을 씀
+ *
+ * 항목은 액세스 토큰 만료 시간만큼만 유지함 (그 이후 발급된 토큰에는 바뀐 값이 claim으로 들어감)
+ * 탈퇴 표시는 만료 전에 지우면 탈퇴한 사용자의 토큰이 다시 통과하므로, 최대 개수에 도달해도 이름 변경 항목만 지움
+ */
+@Slf4j
+@Component
+public class UserProfileCache {
+
+    private final long ttlMillis;
+
+    // userId -> 토큰 claim보다 최신인 프로필
+    private final BoundedTtlCache<Long, Entry> entries;
+
+    public UserProfileCache(@Value("${jwt.access-token.expiration:60}") int accessExpirationTime,
+                            @Value("${user.profile-cache.max-entries:10000}") int maxEntries,
+                            MeterRegistry meterRegistry) {
+        this.ttlMillis = accessExpirationTime * 1000L;
+        this.entries = new BoundedTtlCache<Long, Entry>(maxEntries, Entry::deleted)
+                .registerMetrics(meterRegistry, "user.profile_cache", "토큰 claim과 다른 사용자 프로필 수", "프로필 캐시 조회 수");
+    }
+
+    /**
+     * 토큰 claim 기준 사용자 이름 (발급 이후 이름이 바뀌었으면 바뀐 이름)
+     *
+     * @throws UserNotExistException 토큰 발급 이후 탈퇴한 사용자
+     */
+    public String resolveUserName(JwtUserInfo userInfo) {
+        Entry entry = entries.get(userInfo.getUserId());
+        if (entry == null) {
+            return userInfo.getUserName();
+        }
+        if (entry.deleted) {
+            throw new UserNotExistException("존재하지 않는 사용자입니다. userId=" + userInfo.getUserId());
+        }
+        return entry.userName;
+    }
+
+    /**
+     * 프로필 수정 시 (커밋 이후 반영, 자리가 없으면 토큰 만료 전까지 claim의 이전 이름이 쓰임)
+     */
+    public void updateUserName(Long userId, String userName) {
+        afterCommit(() -> {
+            // 탈퇴 표시는 이름 변경으로 덮어쓰지 않음
+            if (!isDeleted(userId)) {
+                entries.put(userId, new Entry(userName, false), System.currentTimeMillis() + ttlMillis);
+            }
+        });
+    }
+
+    /**
+     * 회원 탈퇴 시 (커밋 이후 반영)
+     */
+    public void markDeleted(Long userId) {
+        afterCommit(() -> {
+            if (!entries.put(userId, new Entry(null, true), System.currentTimeMillis() + ttlMillis)) {
+                log.warn("[UserProfileCache] 탈퇴 표시를 저장할 자리가 없습니다. userId={}", userId);
+            }
+        });
+    }
+
+    private boolean isDeleted(Long userId) {
+        Entry entry = entries.peek(userId);
+        return entry != null && entry.deleted;
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private record Entry(String userName, boolean deleted) {
+    }
+}
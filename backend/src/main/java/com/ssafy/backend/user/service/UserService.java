@@ -3,10 +3,12 @@ package com.ssafy.backend.user.service;
 import com.ssafy.backend.common.exception.S3UploadFailedException;
 import com.ssafy.backend.common.util.S3Util;
 import com.ssafy.backend.notification.repository.NotificationRepository;
+import com.ssafy.backend.notification.service.NotificationUnreadCounter;
 import com.ssafy.backend.plan.entity.Plan;
 import com.ssafy.backend.plan.exception.UserNotExistException;
 import com.ssafy.backend.plan.repository.PlanRepository;
 import com.ssafy.backend.plan.repository.UserPlanRepository;
+import com.ssafy.backend.plan.service.PlanMembershipCache;
 import com.ssafy.backend.user.dto.request.ModifyProfileRequestDTO;
 import com.ssafy.backend.user.dto.response.ModifyProfileResponseDTO;
 import com.ssafy.backend.user.dto.response.RetrieveProfileResponseDTO;
@@ -35,6 +37,9 @@ public class UserService {
     private final S3Util s3Util;
     private final ImageValidatorUtil imageValidatorUtil;
     private final PlanRepository planRepository;
+    private final PlanMembershipCache planMembershipCache;
+    private final UserProfileCache userProfileCache;
+    private final NotificationUnreadCounter notificationUnreadCounter;
 
     @Transactional
     public ModifyProfileResponseDTO modifyProfile(Long userId, @RequestPart ModifyProfileRequestDTO modifyProfileRequestDTO, @RequestPart MultipartFile image) throws IOException {
@@ -66,6 +71,7 @@ public class UserService {
             user.setProfileImage(imageKey);
         }
         user.setUserName(modifyProfileRequestDTO.getName());
+        userProfileCache.updateUserName(userId, user.getUserName());
 
         return ModifyProfileResponseDTO.builder()
                 .userName(user.getUserName())
@@ -91,13 +97,16 @@ public class UserService {
 
             if (candidate.isEmpty()) {
                 planRepository.deleteById(planId);
+                planMembershipCache.revokePlan(planId);
                 continue;
             }
 
             candidate.get().setUserType(UserType.CREATOR);
+            planMembershipCache.evictPlan(planId);
         }
 
         notificationRepository.deleteByImageUserId(userId);
+        notificationUnreadCounter.evictAll(); // 다른 사용자들의 읽지 않은 알림 수가 바뀜
 
         String imageKey = user.getProfileImage();
         if (imageKey != null && !imageKey.isEmpty() && !imageKey.equals("placeholder.png")) {
@@ -105,6 +114,8 @@ public class UserService {
         }
 
         userRepository.delete(user);
+        planMembershipCache.revokeUser(userId);
+        userProfileCache.markDeleted(userId);
         return true;
     }
 
@@ -1,6 +1,7 @@
 package com.ssafy.backend.whiteBoard.controller;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
+import com.ssafy.backend.common.util.PlanExecutionLanes;
+import com.ssafy.backend.common.websocket.SocketBroadcaster;
 import com.ssafy.backend.whiteBoard.dto.request.*;
 import com.ssafy.backend.whiteBoard.dto.websocket.WhiteBoardSocketDTO;
 import com.ssafy.backend.whiteBoard.service.WhiteBoardService;
@@ -10,7 +11,6 @@ import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Controller;
 
 @Controller
@@ -18,29 +18,37 @@ import org.springframework.stereotype.Controller;
 @Slf4j
 public class WhiteBoardSocketController {
 
-    private final SimpMessagingTemplate messagingTemplate;
+    private final SocketBroadcaster socketBroadcaster;
     private final WhiteBoardService whiteBoardService;
+    private final PlanExecutionLanes planExecutionLanes;
 
     @MessageMapping("/whiteboard/{planId}")
     public void handleWhiteBoardSocket(@DestinationVariable Long planId,
                                        @Payload WhiteBoardSocketDTO whiteBoardSocketDTO,
-                                       SimpMessageHeaderAccessor accessor) throws JsonProcessingException {
+                                       SimpMessageHeaderAccessor accessor) {
 
         Long userId = (Long) accessor.getSessionAttributes().get("userId");
 
-        switch (whiteBoardSocketDTO.getAction()) {
-            case "MOVE":
-                // 도형 실시간 이동 (저장 없음)
-                messagingTemplate.convertAndSend("/topic/whiteboard/" + planId, whiteBoardSocketDTO);
-                break;
+        if ("MOVE".equals(whiteBoardSocketDTO.getAction())) {
+            // 도형 실시간 이동 (저장 없음, 도형별 마지막 위치만 주기적으로 전송)
+            // 앞서 들어온 생성/삭제보다 먼저 전송되지 않도록 같은 플랜 레인을 거쳐 중계
+            planExecutionLanes.execute(planId, () -> socketBroadcaster.broadcast("/topic/whiteboard/" + planId, whiteBoardSocketDTO));
+            return;
+        }
+
+        // DB를 거치는 액션은 플랜 레인에서 들어온 순서대로 처리
+        planExecutionLanes.execute(planId, () -> handleStoredAction(planId, whiteBoardSocketDTO, userId));
+    }
 
+    private void handleStoredAction(Long planId, WhiteBoardSocketDTO whiteBoardSocketDTO, Long userId) {
+        switch (whiteBoardSocketDTO.getAction()) {
             case "MODIFY":
                 // 도형 최종 수정
                 ModifyWhiteBoardObjectRequestDTO modifyDto = whiteBoardSocketDTO.toModifyRequestDTO();
                 whiteBoardService.modifyWhiteBoardObject(planId, whiteBoardSocketDTO.getWhiteBoardObjectId(), modifyDto, userId);
 
                 // 수정 내용 그대로 브로드캐스트 (ID 포함됨)
-                messagingTemplate.convertAndSend("/topic/whiteboard/" + planId, whiteBoardSocketDTO);
+                socketBroadcaster.broadcast("/topic/whiteboard/" + planId, whiteBoardSocketDTO);
                 break;
 
             case "CREATE":
@@ -48,7 +56,7 @@ public class WhiteBoardSocketController {
                 CreateDiagramRequestDTO createDiagramDTO = whiteBoardSocketDTO.toCreateDiagramRequestDTO();
                 Long diagramId = whiteBoardService.createDiagram(planId, createDiagramDTO, userId);
                 whiteBoardSocketDTO.setWhiteBoardObjectId(diagramId);
-                messagingTemplate.convertAndSend("/topic/whiteboard/" + planId, whiteBoardSocketDTO);
+                socketBroadcaster.broadcast("/topic/whiteboard/" + planId, whiteBoardSocketDTO);
                 break;
 
             case "CREATE_PLACE":
@@ -62,7 +70,7 @@ public class WhiteBoardSocketController {
                         whiteBoardSocketDTO.getWhiteBoardObjectId(),
                         whiteBoardSocketDTO.getPlaceId());
 
-                messagingTemplate.convertAndSend("/topic/whiteboard/" + planId, whiteBoardSocketDTO);
+                socketBroadcaster.broadcast("/topic/whiteboard/" + planId, whiteBoardSocketDTO);
                 break;
 
             case "DELETE":
@@ -72,14 +80,29 @@ public class WhiteBoardSocketController {
                         .action("DELETE")
                         .whiteBoardObjectId(whiteBoardSocketDTO.getWhiteBoardObjectId())
                         .build();
-                messagingTemplate.convertAndSend("/topic/whiteboard/" + planId, deleteDto);
+                socketBroadcaster.broadcast("/topic/whiteboard/" + planId, deleteDto);
                 break;
             case "MODIFY_LINE":
                 CreateLineRequestDTO createLineRequestDTO = whiteBoardSocketDTO.toCreateLineRequestDTO();
                 Long lineId = whiteBoardService.createLine(planId, createLineRequestDTO, userId);
                 createLineRequestDTO.setWhiteBoardObjectId(lineId);
                 createLineRequestDTO.setUserId(userId);
-                messagingTemplate.convertAndSend("/topic/whiteboard/" + planId, createLineRequestDTO);
+                socketBroadcaster.broadcast("/topic/whiteboard/" + planId, createLineRequestDTO);
+                break;
+            case "STROKE_BEGIN":
+                // 펜 스트로크 시작 → 조립 버퍼 생성 후 즉시 중계
+                whiteBoardService.beginStroke(planId, whiteBoardSocketDTO.getStrokeId(), whiteBoardSocketDTO.toCreateLineRequestDTO(), userId);
+                socketBroadcaster.broadcast("/topic/whiteboard/" + planId, whiteBoardSocketDTO);
+                break;
+            case "STROKE_APPEND":
+                // 좌표 조각은 저장 없이 즉시 중계
+                whiteBoardService.appendStroke(planId, whiteBoardSocketDTO.getStrokeId(), whiteBoardSocketDTO.getPoints(), userId);
+                socketBroadcaster.broadcast("/topic/whiteboard/" + planId, whiteBoardSocketDTO);
+                break;
+            case "STROKE_END":
+                // 단순화된 좌표로 한 번 저장 → 저장된 ID와 최종 좌표로 응답
+                CreateLineRequestDTO strokeLine = whiteBoardService.endStroke(planId, whiteBoardSocketDTO.getStrokeId(), whiteBoardSocketDTO.getPoints(), userId);
+                socketBroadcaster.broadcast("/topic/whiteboard/" + planId, strokeLine);
                 break;
             default:
                 log.warn("지원하지 않는 WebSocket action: {}", whiteBoardSocketDTO.getAction());
@@ -3,8 +3,6 @@ package com.ssafy.backend.whiteBoard.dto.request;
 import lombok.Builder;
 import lombok.Getter;
 
-import java.util.List;
-
 @Getter
 @Builder
 public class CreateDiagramRequestDTO {
@@ -31,5 +29,5 @@ public class CreateDiagramRequestDTO {
     private Double height;
 
     // PEN, ARROW 전용
-    private List<Double> points;
+    private double[] points;
 }
@@ -4,8 +4,6 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
 
-import java.util.List;
-
 @Builder
 @Getter
 @Setter
@@ -13,9 +11,10 @@ public class CreateLineRequestDTO {
     private Long whiteBoardObjectId;
     private Long userId; //userId 넣어달라고 요구함
     private String action;
+    private String strokeId;   // 스트로크 스트리밍 식별자 (STROKE_* 전용)
     private String type;       // CIRCLE, RECT, PEN, TEXT, ARROW 등
     private Double x;
     private Double y;
     private String stroke;
-    private List<Double> points; // 펜, 화살표 전용
+    private double[] points; // 펜, 화살표 전용
 }
@@ -3,8 +3,6 @@ package com.ssafy.backend.whiteBoard.dto.request;
 import lombok.Builder;
 import lombok.Getter;
 
-import java.util.List;
-
 @Getter
 @Builder
 public class ModifyWhiteBoardObjectRequestDTO {
@@ -17,6 +15,6 @@ public class ModifyWhiteBoardObjectRequestDTO {
     private Double rotation;
 
     // 선택적 필드
-    private List<Double> points; // 화살표나 펜 도형일 경우
+    private double[] points; // 화살표나 펜 도형일 경우
     private String text;         // 텍스트 도형일 경우
 }
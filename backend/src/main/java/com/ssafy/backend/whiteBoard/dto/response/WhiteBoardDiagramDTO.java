@@ -3,10 +3,8 @@ package com.ssafy.backend.whiteBoard.dto.response;
 import lombok.Builder;
 import lombok.Getter;
 
-import java.util.List;
-
 @Getter
-@Builder
+@Builder(toBuilder = true)
 public class WhiteBoardDiagramDTO {
     private Long whiteBoardObjectId;
     private String type;
@@ -25,5 +23,5 @@ public class WhiteBoardDiagramDTO {
     private String fill;
     private String text;
 
-    private List<Double> points;
+    private double[] points;
 }
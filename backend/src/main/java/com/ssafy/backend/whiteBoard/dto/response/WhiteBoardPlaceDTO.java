@@ -4,7 +4,7 @@ import lombok.Builder;
 import lombok.Getter;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
 public class WhiteBoardPlaceDTO {
     private ObjectInfoDTO objectInfo;
     private PlaceInfoDTO place;
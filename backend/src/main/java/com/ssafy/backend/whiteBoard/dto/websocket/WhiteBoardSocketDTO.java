@@ -2,6 +2,7 @@ package com.ssafy.backend.whiteBoard.dto.websocket;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.backend.common.websocket.ConflatableMessage;
 import com.ssafy.backend.whiteBoard.dto.request.CreateDiagramRequestDTO;
 import com.ssafy.backend.whiteBoard.dto.request.CreateLineRequestDTO;
 import com.ssafy.backend.whiteBoard.dto.request.CreateTravelRequestDTO;
@@ -15,12 +16,13 @@ import java.util.List;
 @Getter
 @Setter
 @Builder
-public class WhiteBoardSocketDTO {
+public class WhiteBoardSocketDTO implements ConflatableMessage {
 
     // 공통 메타정보
-    private String action; // "MOVE", "MODIFY", "CREATE", "CREATE_PLACE", "DELETE"
+    private String action; // "MOVE", "MODIFY", "CREATE", "CREATE_PLACE", "DELETE", "MODIFY_LINE", "STROKE_BEGIN", "STROKE_APPEND", "STROKE_END"
     private Long whiteBoardObjectId; // 삭제/수정/생성된 도형 ID
     private Long placeId;
+    private String strokeId; // 스트로크 스트리밍 식별자 (STROKE_BEGIN/APPEND/END 전용)
     // 도형 공통 속성
     private String type;   // RECT, TEXT, PEN, ARROW, CIRCLE, PLACE 등
     private Double x;
@@ -36,12 +38,18 @@ public class WhiteBoardSocketDTO {
     private Double radius;
     private Double width;
     private Double height;
-    private List<Double> points; // 펜, 화살표 전용
+    private double[] points; // 펜, 화살표 전용
 
     // 장소형 도형용 필드 (CREATE_PLACE 전용)
     private CreateTravelRequestDTO.ObjectInfo objectInfo;
     private CreateTravelRequestDTO.WhiteBoardPlaceInfo whiteBoardPlace;
 
+    // MOVE는 도형별 마지막 위치만 전송
+    @Override
+    public Object conflationKey() {
+        return "MOVE".equals(action) ? whiteBoardObjectId : null;
+    }
+
     // =====================================
     // 변환 메서드: to → 기존 RequestDTO
     // =====================================
@@ -87,6 +95,7 @@ public class WhiteBoardSocketDTO {
     public CreateLineRequestDTO toCreateLineRequestDTO() {
         return CreateLineRequestDTO.builder()
                 .action(action)
+                .strokeId(strokeId)
                 .type(type)
                 .x(x)
                 .y(y)
@@ -37,9 +37,14 @@ public class WhiteBoardObject extends DateEntity {
     @Column(name = "rotation")
     private Double rotation;
 
+    // 레거시 JSON 좌표 (points_packed로 이관 후 NULL)
     @Column(name = "points", columnDefinition = "json")
     private String points;
 
+    // PointsCodec으로 인코딩한 좌표
+    @Column(name = "points_packed", length = 16777215)
+    private byte[] pointsPacked;
+
     private String text;
     private String stroke;
     private String fill;
@@ -0,0 +1,7 @@
+package com.ssafy.backend.whiteBoard.exception;
+
+public class WhiteBoardStrokeLimitExceededException extends RuntimeException{
+    public WhiteBoardStrokeLimitExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.ssafy.backend.whiteBoard.exception;
+
+public class WhiteBoardStrokeNotExistException extends RuntimeException{
+    public WhiteBoardStrokeNotExistException(String message) {
+        super(message);
+    }
+}
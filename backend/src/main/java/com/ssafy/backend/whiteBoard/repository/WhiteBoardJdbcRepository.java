@@ -0,0 +1,120 @@
+package com.ssafy.backend.whiteBoard.repository;
+
+import com.ssafy.backend.whiteBoard.dto.request.ModifyWhiteBoardObjectRequestDTO;
+import com.ssafy.backend.whiteBoard.util.PointsCodec;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 화이트보드 객체 수정 사항을 JDBC batch UPDATE로 반영하는 레포지토리
+ * write-behind 버퍼의 플러시 경로에서만 사용함
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class WhiteBoardJdbcRepository {
+
+    private static final String UPDATE_TRANSFORM_SQL =
+            "UPDATE white_board_object SET x = ?, y = ?, scale_x = ?, scale_y = ?, rotation = ?, text = ?, updated_at = ? " +
+            "WHERE white_board_object_id = ? AND plan_id = ?";
+
+    private static final String UPDATE_TRANSFORM_WITH_POINTS_SQL =
+            "UPDATE white_board_object SET x = ?, y = ?, scale_x = ?, scale_y = ?, rotation = ?, text = ?, points_packed = ?, points = NULL, updated_at = ? " +
+            "WHERE white_board_object_id = ? AND plan_id = ?";
+
+    private static final String SELECT_LEGACY_POINTS_SQL =
+            "SELECT white_board_object_id, points FROM white_board_object " +
+            "WHERE white_board_object_id > ? AND points IS NOT NULL AND points_packed IS NULL " +
+            "ORDER BY white_board_object_id LIMIT ?";
+
+    private static final String UPDATE_PACKED_POINTS_SQL =
+            "UPDATE white_board_object SET points_packed = ?, points = NULL " +
+            // 조회 이후 write-behind 플러시가 먼저 저장한 좌표는 덮어쓰지 않음
+            "WHERE white_board_object_id = ? AND points_packed IS NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 객체별 최종 상태를 한 번의 batch로 반영
+     * 호출 측 트랜잭션(readOnly 포함)과 분리하기 위해 항상 새 트랜잭션에서 실행
+     *
+     * @return 실제로 갱신된 행 수
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int batchUpdateTransform(Long planId, Map<Long, ModifyWhiteBoardObjectRequestDTO> modifications) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> withoutPoints = new ArrayList<>();
+        List<Object[]> withPoints = new ArrayList<>();
+
+        for (Map.Entry<Long, ModifyWhiteBoardObjectRequestDTO> entry : modifications.entrySet()) {
+            ModifyWhiteBoardObjectRequestDTO dto = entry.getValue();
+            if (dto.getPoints() == null) {
+                withoutPoints.add(new Object[]{
+                        dto.getX(), dto.getY(), dto.getScaleX(), dto.getScaleY(), dto.getRotation(), dto.getText(),
+                        now, entry.getKey(), planId});
+            } else {
+                withPoints.add(new Object[]{
+                        dto.getX(), dto.getY(), dto.getScaleX(), dto.getScaleY(), dto.getRotation(), dto.getText(),
+                        PointsCodec.encode(dto.getPoints()), now, entry.getKey(), planId});
+            }
+        }
+
+        int updated = 0;
+        if (!withoutPoints.isEmpty()) {
+            updated += sum(jdbcTemplate.batchUpdate(UPDATE_TRANSFORM_SQL, withoutPoints));
+        }
+        if (!withPoints.isEmpty()) {
+            updated += sum(jdbcTemplate.batchUpdate(UPDATE_TRANSFORM_WITH_POINTS_SQL, withPoints));
+        }
+
+        if (updated < modifications.size()) {
+            // 이미 삭제됐거나 다른 플랜의 객체인 경우
+            log.debug("[WhiteBoard] 반영되지 않은 수정 {}건 planId={}", modifications.size() - updated, planId);
+        }
+        return updated;
+    }
+
+    /**
+     * 아직 JSON 좌표를 가진 행을 id 순으로 조회 (마이그레이션용)
+     *
+     * @return whiteBoardObjectId -> JSON 문자열
+     */
+    public Map<Long, String> findLegacyPoints(long afterId, int limit) {
+        Map<Long, String> rows = new LinkedHashMap<>();
+        jdbcTemplate.query(SELECT_LEGACY_POINTS_SQL,
+                rs -> {
+                    rows.put(rs.getLong("white_board_object_id"), rs.getString("points"));
+                },
+                afterId, limit);
+        return rows;
+    }
+
+    /**
+     * 인코딩된 좌표를 저장하고 JSON 컬럼은 비움 (아직 이관되지 않은 행만)
+     *
+     * @return 실제로 이관된 행 수
+     */
+    @Transactional
+    public int batchUpdatePackedPoints(Map<Long, byte[]> packedPoints) {
+        List<Object[]> args = new ArrayList<>(packedPoints.size());
+        packedPoints.forEach((id, packed) -> args.add(new Object[]{packed, id}));
+        return sum(jdbcTemplate.batchUpdate(UPDATE_PACKED_POINTS_SQL, args));
+    }
+
+    // 드라이버가 SUCCESS_NO_INFO(-2)를 반환하는 경우는 1건으로 취급
+    private static int sum(int[] counts) {
+        return Arrays.stream(counts).map(count -> count < 0 ? 1 : count).sum();
+    }
+}
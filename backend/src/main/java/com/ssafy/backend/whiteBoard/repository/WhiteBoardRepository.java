@@ -18,5 +18,8 @@ public interface WhiteBoardRepository extends JpaRepository<WhiteBoardObject, Lo
     @Query("SELECT w FROM WhiteBoardObject w LEFT JOIN FETCH w.place WHERE w.plan = :plan")
     List<WhiteBoardObject> findByPlanWithPlace(@Param("plan") Plan plan);
 
+    @Query("SELECT w FROM WhiteBoardObject w LEFT JOIN FETCH w.place WHERE w.plan.planId = :planId")
+    List<WhiteBoardObject> findByPlanIdWithPlace(@Param("planId") Long planId);
+
     WhiteBoardObject findByWhiteBoardObjectId(Long whiteBoardObjectId);
 }
@@ -0,0 +1,63 @@
+package com.ssafy.backend.whiteBoard.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.backend.whiteBoard.repository.WhiteBoardJdbcRepository;
+import com.ssafy.backend.whiteBoard.util.PointsCodec;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 기존 JSON 좌표(points)를 바이너리 좌표(points_packed)로 이관하는 기동 시 마이그레이션
+ * 이미 이관된 행은 건너뛰므로 여러 번 실행해도 안전하고, 실행 중 write-behind 플러시가 저장한 좌표도 덮어쓰지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "whiteboard.points-migration.enabled", havingValue = "true", matchIfMissing = true)
+public class WhiteBoardPointsMigrationRunner implements ApplicationRunner {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final WhiteBoardJdbcRepository whiteBoardJdbcRepository;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long lastId = 0;
+        int migrated = 0;
+        int skipped = 0;
+
+        while (true) {
+            Map<Long, String> rows = whiteBoardJdbcRepository.findLegacyPoints(lastId, BATCH_SIZE);
+            if (rows.isEmpty()) {
+                break;
+            }
+
+            Map<Long, byte[]> packed = new LinkedHashMap<>();
+            for (Map.Entry<Long, String> row : rows.entrySet()) {
+                lastId = row.getKey();
+                try {
+                    packed.put(row.getKey(), PointsCodec.encode(objectMapper.readValue(row.getValue(), double[].class)));
+                } catch (Exception e) {
+                    // 파싱할 수 없는 행은 JSON 그대로 남겨둠
+                    skipped++;
+                    log.warn("[WhiteBoard] 좌표 이관 실패 whiteBoardObjectId={}", row.getKey());
+                }
+            }
+            if (!packed.isEmpty()) {
+                migrated += whiteBoardJdbcRepository.batchUpdatePackedPoints(packed);
+            }
+        }
+
+        if (migrated > 0 || skipped > 0) {
+            log.info("[WhiteBoard] JSON 좌표 이관 완료: {}건, 실패 {}건", migrated, skipped);
+        }
+    }
+}
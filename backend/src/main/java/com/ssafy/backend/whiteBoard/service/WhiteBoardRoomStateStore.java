@@ -0,0 +1,393 @@
+package com.ssafy.backend.whiteBoard.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.backend.common.websocket.RoomClosedEvent;
+import com.ssafy.backend.common.websocket.RoomOpenedEvent;
+import com.ssafy.backend.common.websocket.StompSubscriptionRegistry;
+import com.ssafy.backend.whiteBoard.dto.request.ModifyWhiteBoardObjectRequestDTO;
+import com.ssafy.backend.whiteBoard.dto.response.*;
+import com.ssafy.backend.whiteBoard.entity.ObjectType;
+import com.ssafy.backend.whiteBoard.entity.WhiteBoardObject;
+import com.ssafy.backend.whiteBoard.repository.WhiteBoardRepository;
+import com.ssafy.backend.whiteBoard.util.PointsCodec;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 활성 플랜 방의 화이트보드 상태를 메모리에 보관하는 저장소
+ * 첫 구독(또는 첫 조회) 시 한 번만 DB에서 적재하고, 이후 CREATE/MODIFY/DELETE/MODIFY_LINE을 그대로 반영함
+ * 구독자가 없는 방은 idle TTL 이후 제거하며, 전체 메모리는 추정 바이트 예산으로 제한함
+ */
+@Slf4j
+@Component
+public class WhiteBoardRoomStateStore {
+
+    private static final String WHITEBOARD_TOPIC_PREFIX = "/topic/whiteboard/";
+
+    // 객체 1개당 고정 오버헤드와 좌표 1개당 비용 추정치
+    private static final long OBJECT_OVERHEAD_BYTES = 256;
+    private static final long POINT_BYTES = 8;
+
+    private final WhiteBoardRepository whiteBoardRepository;
+    private final WhiteBoardWriteBehindBuffer whiteBoardWriteBehindBuffer;
+    private final StompSubscriptionRegistry stompSubscriptionRegistry;
+    private final ObjectMapper objectMapper;
+    private final long idleTtlMillis;
+    private final long maxBytes;
+
+    private final Map<Long, RoomState> rooms = new ConcurrentHashMap<>();
+    private final AtomicLong totalBytes = new AtomicLong();
+    private final Counter loadCounter;
+    private final Counter evictionCounter;
+
+    public WhiteBoardRoomStateStore(WhiteBoardRepository whiteBoardRepository,
+                                    WhiteBoardWriteBehindBuffer whiteBoardWriteBehindBuffer,
+                                    StompSubscriptionRegistry stompSubscriptionRegistry,
+                                    ObjectMapper objectMapper,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${whiteboard.room-state.idle-ttl-ms:300000}") long idleTtlMillis,
+                                    @Value("${whiteboard.room-state.max-bytes:67108864}") long maxBytes) {
+        this.whiteBoardRepository = whiteBoardRepository;
+        this.whiteBoardWriteBehindBuffer = whiteBoardWriteBehindBuffer;
+        this.stompSubscriptionRegistry = stompSubscriptionRegistry;
+        this.objectMapper = objectMapper;
+        this.idleTtlMillis = idleTtlMillis;
+        this.maxBytes = maxBytes;
+
+        Gauge.builder("whiteboard.room_state.rooms", rooms, Map::size)
+                .description("메모리에 적재된 화이트보드 방 수")
+                .register(meterRegistry);
+        Gauge.builder("whiteboard.room_state.bytes", totalBytes, AtomicLong::get)
+                .description("화이트보드 방 상태 추정 메모리 사용량")
+                .register(meterRegistry);
+        this.loadCounter = Counter.builder("whiteboard.room_state.loads")
+                .description("DB에서 방 상태를 적재한 횟수")
+                .register(meterRegistry);
+        this.evictionCounter = Counter.builder("whiteboard.room_state.evictions")
+                .description("idle TTL 또는 메모리 예산으로 제거된 방 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 방 상태 스냅샷 조회 (적재되지 않았으면 DB에서 한 번 적재)
+     */
+    public RetrieveWhiteBoardObjectsResponseDTO snapshot(Long planId) {
+        RoomState state = loadedState(planId);
+        synchronized (state) {
+            return RetrieveWhiteBoardObjectsResponseDTO.builder()
+                    .whiteBoardDiagrams(new ArrayList<>(state.diagrams.values()))
+                    .whiteBoardPlaces(new ArrayList<>(state.places.values()))
+                    .build();
+        }
+    }
+
+    /**
+     * 생성된 객체를 커밋 이후 방 상태에 반영 (적재된 방만 대상)
+     */
+    public void upsertAfterCommit(Long planId, WhiteBoardObject whiteBoardObject) {
+        runAfterCommit(() -> {
+            if (whiteBoardObject.getObjectType() == ObjectType.PLACE) {
+                WhiteBoardPlaceDTO place = toPlaceDTO(whiteBoardObject);
+                mutate(planId, state -> state.putPlace(place));
+            } else {
+                WhiteBoardDiagramDTO diagram = toDiagramDTO(whiteBoardObject);
+                mutate(planId, state -> state.putDiagram(diagram));
+            }
+        });
+    }
+
+    /**
+     * 삭제된 객체를 커밋 이후 방 상태에서 제거
+     */
+    public void removeAfterCommit(Long planId, Long whiteBoardObjectId) {
+        runAfterCommit(() -> mutate(planId, state -> state.remove(whiteBoardObjectId)));
+    }
+
+    /**
+     * MODIFY 내용을 방 상태에 즉시 반영 (DB 반영은 write-behind 버퍼가 담당)
+     */
+    public void applyModify(Long planId, Long whiteBoardObjectId, ModifyWhiteBoardObjectRequestDTO dto) {
+        mutate(planId, state -> {
+            WhiteBoardDiagramDTO diagram = state.diagrams.get(whiteBoardObjectId);
+            if (diagram != null) {
+                WhiteBoardDiagramDTO.WhiteBoardDiagramDTOBuilder builder = diagram.toBuilder()
+                        .x(dto.getX())
+                        .y(dto.getY())
+                        .scaleX(dto.getScaleX())
+                        .scaleY(dto.getScaleY())
+                        .rotation(dto.getRotation())
+                        .text(dto.getText());
+                if (dto.getPoints() != null) {
+                    builder.points(dto.getPoints());
+                }
+                return state.putDiagram(builder.build());
+            }
+            WhiteBoardPlaceDTO place = state.places.get(whiteBoardObjectId);
+            if (place != null) {
+                return state.putPlace(place.toBuilder()
+                        .objectInfo(place.getObjectInfo().toBuilder()
+                                .x(dto.getX())
+                                .y(dto.getY())
+                                .build())
+                        .build());
+            }
+            return 0;
+        });
+    }
+
+    @EventListener
+    public void onRoomOpened(RoomOpenedEvent event) {
+        Long planId = StompSubscriptionRegistry.extractPlanId(event.getDestination(), WHITEBOARD_TOPIC_PREFIX);
+        if (planId == null) {
+            return;
+        }
+        try {
+            // 첫 구독 시점에 미리 적재해 두어 이후 입장하는 사용자는 DB를 거치지 않음
+            loadedState(planId);
+        } catch (RuntimeException e) {
+            log.warn("[WhiteBoard] 방 상태 선적재 실패 planId={}", planId, e);
+        }
+    }
+
+    @EventListener
+    public void onRoomClosed(RoomClosedEvent event) {
+        Long planId = StompSubscriptionRegistry.extractPlanId(event.getDestination(), WHITEBOARD_TOPIC_PREFIX);
+        RoomState state = planId == null ? null : rooms.get(planId);
+        if (state != null) {
+            // 마지막 구독자가 나간 시점부터 idle TTL 계산
+            state.touch();
+        }
+    }
+
+    /**
+     * 구독자가 없고 idle TTL이 지난 방 제거
+     */
+    @Scheduled(fixedDelayString = "${whiteboard.room-state.sweep-interval-ms:30000}")
+    public void evictIdleRooms() {
+        long now = System.currentTimeMillis();
+        rooms.forEach((planId, state) -> {
+            if (!hasSubscribers(planId) && now - state.lastAccessedAt > idleTtlMillis) {
+                evict(planId, state);
+            }
+        });
+    }
+
+    private RoomState loadedState(Long planId) {
+        while (true) {
+            RoomState state = rooms.computeIfAbsent(planId, id -> new RoomState());
+            synchronized (state) {
+                // 적재 직전에 제거된 경우 새 상태로 다시 시도
+                if (state.evicted) {
+                    continue;
+                }
+                if (!state.loaded) {
+                    // 아직 반영되지 않은 수정 사항을 먼저 플러시한 뒤 적재
+                    whiteBoardWriteBehindBuffer.flush(planId);
+                    for (WhiteBoardObject object : whiteBoardRepository.findByPlanIdWithPlace(planId)) {
+                        if (object.getObjectType() == ObjectType.PLACE) {
+                            if (object.getPlace() != null) {
+                                state.putPlace(toPlaceDTO(object));
+                            }
+                        } else {
+                            state.putDiagram(toDiagramDTO(object));
+                        }
+                    }
+                    state.loaded = true;
+                    totalBytes.addAndGet(state.estimatedBytes);
+                    loadCounter.increment();
+                }
+                state.touch();
+            }
+            enforceBudget();
+            return state;
+        }
+    }
+
+    private void mutate(Long planId, RoomMutation mutation) {
+        RoomState state = rooms.get(planId);
+        if (state == null) {
+            return;
+        }
+        synchronized (state) {
+            // 적재 전이면 적재 시점에 DB에서 최신 상태를 읽으므로 무시
+            if (!state.loaded || state.evicted) {
+                return;
+            }
+            totalBytes.addAndGet(mutation.apply(state));
+            state.touch();
+        }
+        enforceBudget();
+    }
+
+    // 예산 초과 시 구독자 없는 방 → 오래 접근하지 않은 방 순으로 제거
+    private void enforceBudget() {
+        if (totalBytes.get() <= maxBytes) {
+            return;
+        }
+        List<Map.Entry<Long, RoomState>> candidates = new ArrayList<>(rooms.entrySet());
+        candidates.sort(Comparator
+                .comparing((Map.Entry<Long, RoomState> entry) -> hasSubscribers(entry.getKey()))
+                .thenComparingLong(entry -> entry.getValue().lastAccessedAt));
+        for (Map.Entry<Long, RoomState> entry : candidates) {
+            if (totalBytes.get() <= maxBytes) {
+                break;
+            }
+            evict(entry.getKey(), entry.getValue());
+        }
+    }
+
+    private void evict(Long planId, RoomState state) {
+        if (!rooms.remove(planId, state)) {
+            return;
+        }
+        synchronized (state) {
+            state.evicted = true;
+            if (state.loaded) {
+                totalBytes.addAndGet(-state.estimatedBytes);
+            }
+        }
+        evictionCounter.increment();
+        log.debug("[WhiteBoard] 방 상태 제거 planId={}", planId);
+    }
+
+    private boolean hasSubscribers(Long planId) {
+        return stompSubscriptionRegistry.countSubscribers(WHITEBOARD_TOPIC_PREFIX + planId) > 0;
+    }
+
+    private static void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private WhiteBoardDiagramDTO toDiagramDTO(WhiteBoardObject obj) {
+        return WhiteBoardDiagramDTO.builder()
+                .whiteBoardObjectId(obj.getWhiteBoardObjectId())
+                .type(obj.getObjectType().name())
+                .x(obj.getX())
+                .y(obj.getY())
+                .scaleX(obj.getScaleX())
+                .scaleY(obj.getScaleY())
+                .rotation(obj.getRotation())
+                .radius(obj.getRadius())
+                .width(obj.getWidth())
+                .height(obj.getHeight())
+                .stroke(obj.getStroke())
+                .fill(obj.getFill())
+                .text(obj.getText())
+                .points(decodePoints(obj))
+                .build();
+    }
+
+    private static WhiteBoardPlaceDTO toPlaceDTO(WhiteBoardObject obj) {
+        return WhiteBoardPlaceDTO.builder()
+                .objectInfo(ObjectInfoDTO.builder()
+                        .whiteBoardObjectId(obj.getWhiteBoardObjectId())
+                        .x(obj.getX())
+                        .y(obj.getY())
+                        .build())
+                .place(PlaceInfoDTO.builder()
+                        .placeId(obj.getPlace().getPlaceId())
+                        .googlePlaceId(obj.getPlace().getGooglePlaceId())
+                        .placeName(obj.getPlace().getPlaceName())
+                        .latitude(obj.getPlace().getLatitude())
+                        .longitude(obj.getPlace().getLongitude())
+                        .address(obj.getPlace().getAddress())
+                        .rating(obj.getPlace().getRating())
+                        .imageUrl(obj.getPlace().getImageUrl())
+                        .category(obj.getPlace().getCategory())
+                        .build())
+                .build();
+    }
+
+    // 바이너리 좌표 우선, 아직 이관되지 않은 행은 레거시 JSON을 파싱
+    private double[] decodePoints(WhiteBoardObject obj) {
+        if (obj.getPointsPacked() != null) {
+            return PointsCodec.decode(obj.getPointsPacked());
+        }
+        if (obj.getPoints() == null) {
+            return new double[0];
+        }
+        try {
+            return objectMapper.readValue(obj.getPoints(), double[].class);
+        } catch (Exception e) {
+            return new double[0];
+        }
+    }
+
+    private static long estimateBytes(WhiteBoardDiagramDTO diagram) {
+        long bytes = OBJECT_OVERHEAD_BYTES;
+        if (diagram.getPoints() != null) {
+            bytes += diagram.getPoints().length * POINT_BYTES;
+        }
+        if (diagram.getText() != null) {
+            bytes += diagram.getText().length() * 2L;
+        }
+        return bytes;
+    }
+
+    // 상태 변경 후 추정 바이트 변화량을 반환
+    @FunctionalInterface
+    private interface RoomMutation {
+        long apply(RoomState state);
+    }
+
+    private static class RoomState {
+        private final Map<Long, WhiteBoardDiagramDTO> diagrams = new LinkedHashMap<>();
+        private final Map<Long, WhiteBoardPlaceDTO> places = new LinkedHashMap<>();
+        private boolean loaded;
+        private boolean evicted;
+        private long estimatedBytes;
+        private volatile long lastAccessedAt = System.currentTimeMillis();
+
+        void touch() {
+            lastAccessedAt = System.currentTimeMillis();
+        }
+
+        long putDiagram(WhiteBoardDiagramDTO diagram) {
+            WhiteBoardDiagramDTO previous = diagrams.put(diagram.getWhiteBoardObjectId(), diagram);
+            long delta = estimateBytes(diagram) - (previous == null ? 0 : estimateBytes(previous));
+            estimatedBytes += delta;
+            return delta;
+        }
+
+        long putPlace(WhiteBoardPlaceDTO place) {
+            WhiteBoardPlaceDTO previous = places.put(place.getObjectInfo().getWhiteBoardObjectId(), place);
+            long delta = previous == null ? OBJECT_OVERHEAD_BYTES * 2 : 0;
+            estimatedBytes += delta;
+            return delta;
+        }
+
+        long remove(Long whiteBoardObjectId) {
+            long delta = 0;
+            WhiteBoardDiagramDTO diagram = diagrams.remove(whiteBoardObjectId);
+            if (diagram != null) {
+                delta -= estimateBytes(diagram);
+            }
+            if (places.remove(whiteBoardObjectId) != null) {
+                delta -= OBJECT_OVERHEAD_BYTES * 2;
+            }
+            estimatedBytes += delta;
+            return delta;
+        }
+    }
+}
@@ -1,54 +1,48 @@
 package com.ssafy.backend.whiteBoard.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ssafy.backend.place.entity.Place;
 import com.ssafy.backend.place.repository.PlaceRepository;
 import com.ssafy.backend.plan.entity.Plan;
 import com.ssafy.backend.plan.exception.UserNotInPlanException;
-import com.ssafy.backend.plan.exception.PlanNotExistException;
-import com.ssafy.backend.plan.exception.UserNotExistException;
 import com.ssafy.backend.plan.repository.PlanRepository;
-import com.ssafy.backend.plan.repository.UserPlanRepository;
-import com.ssafy.backend.user.entity.User;
-import com.ssafy.backend.user.entity.UserPlan;
+import com.ssafy.backend.plan.service.PlanMembershipCache;
 import com.ssafy.backend.user.entity.UserStatus;
-import com.ssafy.backend.user.repository.UserRepository;
 import com.ssafy.backend.whiteBoard.dto.request.*;
 import com.ssafy.backend.whiteBoard.dto.response.*;
 import com.ssafy.backend.whiteBoard.entity.ObjectType;
 import com.ssafy.backend.whiteBoard.entity.WhiteBoardObject;
 import com.ssafy.backend.whiteBoard.exception.WhiteBoardObjectNotExistException;
 import com.ssafy.backend.whiteBoard.exception.WhiteBoardObjectPlanMismatchException;
+import com.ssafy.backend.whiteBoard.exception.WhiteBoardStrokeLimitExceededException;
+import com.ssafy.backend.whiteBoard.exception.WhiteBoardStrokeNotExistException;
 import com.ssafy.backend.whiteBoard.repository.WhiteBoardRepository;
+import com.ssafy.backend.whiteBoard.util.PointsCodec;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import com.fasterxml.jackson.core.type.TypeReference;
-import java.util.Collections;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class WhiteBoardService {
-    private final UserRepository userRepository;
     private final PlanRepository planRepository;
     private final WhiteBoardRepository whiteBoardRepository;
     private final PlaceRepository placeRepository;
-    private final UserPlanRepository userPlanRepository;
+    private final PlanMembershipCache planMembershipCache;
+    private final WhiteBoardWriteBehindBuffer whiteBoardWriteBehindBuffer;
+    private final WhiteBoardRoomStateStore whiteBoardRoomStateStore;
+    private final WhiteBoardStrokeAssembler whiteBoardStrokeAssembler;
 
     @Transactional
-    public Long createDiagram(Long planId, CreateDiagramRequestDTO createDiagramRequestDTO, Long userId) throws JsonProcessingException {
-        Plan plan = validatePlanExistence(planId);
-        User user = validateUserExistence(userId);
-        validateUserIsApprovedParticipant(plan, user);
+    public Long createDiagram(Long planId, CreateDiagramRequestDTO createDiagramRequestDTO, Long userId) {
+        validateApprovedParticipant(planId, userId);
+        Plan plan = planRepository.getReferenceById(planId);
 
         ObjectType objectType = ObjectType.valueOf(createDiagramRequestDTO.getType().toUpperCase());
-        String pointsJson = null;
-        if (createDiagramRequestDTO.getPoints() != null) {
-            pointsJson = new ObjectMapper().writeValueAsString(createDiagramRequestDTO.getPoints());
-        }
         //도형생성
         WhiteBoardObject whiteBoardObject = WhiteBoardObject.builder()
                 .plan(plan)
@@ -64,17 +58,17 @@ public class WhiteBoardService {
                 .width(createDiagramRequestDTO.getWidth())
                 .height(createDiagramRequestDTO.getHeight())
                 .text(createDiagramRequestDTO.getText())
-                .points(pointsJson)
+                .pointsPacked(PointsCodec.encode(createDiagramRequestDTO.getPoints()))
                 .build();
         whiteBoardRepository.save(whiteBoardObject);
+        whiteBoardRoomStateStore.upsertAfterCommit(planId, whiteBoardObject);
         return whiteBoardObject.getWhiteBoardObjectId();
     }
 
     @Transactional
     public CreateTravelResult  createTravel(Long planId, CreateTravelRequestDTO createTravelRequestDTO, Long userId) {
-        Plan plan = validatePlanExistence(planId);
-        User user = validateUserExistence(userId);
-        validateUserIsApprovedParticipant(plan, user);
+        validateApprovedParticipant(planId, userId);
+        Plan plan = planRepository.getReferenceById(planId);
 
         CreateTravelRequestDTO.WhiteBoardPlaceInfo placeInfo = createTravelRequestDTO.getWhiteBoardPlace();
         // 중복 방지용 조회 (google_place_id 기반)
@@ -108,115 +102,45 @@ public class WhiteBoardService {
                 .objectType(ObjectType.PLACE) // ENUM
                 .build();
         whiteBoardRepository.save(whiteBoardObject);
+        whiteBoardRoomStateStore.upsertAfterCommit(planId, whiteBoardObject);
         return new CreateTravelResult(whiteBoardObject.getWhiteBoardObjectId(), place.getPlaceId());
     }
 
     public RetrieveWhiteBoardObjectsResponseDTO retrieveWhiteBoardObjects(Long planId, Long userId) {
-        // 1. 플랜 존재 유효성 검사
-        Plan plan = validatePlanExistence(planId);
-        User user = validateUserExistence(userId);
-        validateUserIsApprovedParticipant(plan, user);
-        // 2. WhiteBoardObject + 연관된 Place를 Fetch Join으로 조회 (N+1 방지)
-        List<WhiteBoardObject> objects = whiteBoardRepository.findByPlanWithPlace(plan);
-
-        // 3. 도형류 (TEXT, CIRCLE, RECT, ...) 필터링 및 DTO 매핑
-        List<WhiteBoardDiagramDTO> diagrams = objects.stream()
-                .filter(obj -> obj.getObjectType() != ObjectType.PLACE)
-                .map(obj -> WhiteBoardDiagramDTO.builder()
-                        .whiteBoardObjectId(obj.getWhiteBoardObjectId())
-                        .type(obj.getObjectType().name())
-                        .x(obj.getX())
-                        .y(obj.getY())
-                        .scaleX(obj.getScaleX())
-                        .scaleY(obj.getScaleY())
-                        .rotation(obj.getRotation())
-                        .radius(obj.getRadius())
-                        .width(obj.getWidth())
-                        .height(obj.getHeight())
-                        .stroke(obj.getStroke())
-                        .fill(obj.getFill())
-                        .text(obj.getText())
-                        .points(parsePoints(obj.getPoints())) // JSON → List<Double>
-                        .build())
-                .toList();
-
-        // 4. 장소형 도형 (PLACE 타입) 필터링 및 DTO 매핑
-        List<WhiteBoardPlaceDTO> places = objects.stream()
-                .filter(obj -> obj.getObjectType() == ObjectType.PLACE && obj.getPlace() != null)
-                .map(obj -> WhiteBoardPlaceDTO.builder()
-                        .objectInfo(ObjectInfoDTO.builder()
-                                .whiteBoardObjectId(obj.getWhiteBoardObjectId())
-                                .x(obj.getX())
-                                .y(obj.getY())
-                                .build())
-                        .place(PlaceInfoDTO.builder()
-                                .placeId(obj.getPlace().getPlaceId())
-                                .googlePlaceId(obj.getPlace().getGooglePlaceId())
-                                .placeName(obj.getPlace().getPlaceName())
-                                .latitude(obj.getPlace().getLatitude())
-                                .longitude(obj.getPlace().getLongitude())
-                                .address(obj.getPlace().getAddress())
-                                .rating(obj.getPlace().getRating())
-                                .imageUrl(obj.getPlace().getImageUrl())
-                                .category(obj.getPlace().getCategory())
-                                .build())
-                        .build())
-                .toList();
-
-        // 5. 최종 응답 DTO 구성
-        return RetrieveWhiteBoardObjectsResponseDTO.builder()
-                .whiteBoardDiagrams(diagrams)
-                .whiteBoardPlaces(places)
-                .build();
+        // 1. 참여 여부 확인 (캐시 적중 시 조회 없음)
+        validateApprovedParticipant(planId, userId);
+        // 2. 메모리의 방 상태에서 스냅샷 반환 (방당 최초 1회만 DB 적재)
+        return whiteBoardRoomStateStore.snapshot(planId);
     }
 
-    @Transactional
-    public void modifyWhiteBoardObject(Long planId, Long whiteObjectId, ModifyWhiteBoardObjectRequestDTO modifyWhiteBoardObjectRequestDTO, Long userId) throws JsonProcessingException {
-        Plan plan = validatePlanExistence(planId);
-        User user = validateUserExistence(userId);
-        validateUserIsApprovedParticipant(plan, user);
-
-        WhiteBoardObject whiteBoardObject = validateWhiteBoardObject(whiteObjectId);
-
-        if (!whiteBoardObject.getPlan().equals(plan)) {
-            throw new WhiteBoardObjectPlanMismatchException("요청한 플랜에 속하지 않는 화이트보드 객체입니다.");
-        }
-
-        whiteBoardObject.setX(modifyWhiteBoardObjectRequestDTO.getX());
-        whiteBoardObject.setY(modifyWhiteBoardObjectRequestDTO.getY());
-        whiteBoardObject.setScaleX(modifyWhiteBoardObjectRequestDTO.getScaleX());
-        whiteBoardObject.setScaleY(modifyWhiteBoardObjectRequestDTO.getScaleY());
-        whiteBoardObject.setRotation(modifyWhiteBoardObjectRequestDTO.getRotation());
-        whiteBoardObject.setText(modifyWhiteBoardObjectRequestDTO.getText());
-
-        if (modifyWhiteBoardObjectRequestDTO.getPoints() != null) {
-            ObjectMapper mapper = new ObjectMapper();
-            whiteBoardObject.setPoints(mapper.writeValueAsString(modifyWhiteBoardObjectRequestDTO.getPoints()));
-        }
-
+    public void modifyWhiteBoardObject(Long planId, Long whiteObjectId, ModifyWhiteBoardObjectRequestDTO modifyWhiteBoardObjectRequestDTO, Long userId) {
+        // 참여 여부만 확인 (객체-플랜 일치는 batch UPDATE의 plan_id 조건으로 보장)
+        validateApprovedParticipant(planId, userId);
+        // 객체별 최종 상태만 버퍼에 남기고 주기적으로 batch UPDATE
+        whiteBoardWriteBehindBuffer.enqueue(planId, whiteObjectId, modifyWhiteBoardObjectRequestDTO);
+        whiteBoardRoomStateStore.applyModify(planId, whiteObjectId, modifyWhiteBoardObjectRequestDTO);
     }
 
     @Transactional
     public void deleteWhiteBoardObject(Long planId, Long whiteObjectId, Long userId) {
-        Plan plan = validatePlanExistence(planId);
-        User user = validateUserExistence(userId);
-        validateUserIsApprovedParticipant(plan, user);
+        validateApprovedParticipant(planId, userId);
 
         WhiteBoardObject whiteBoardObject = validateWhiteBoardObject(whiteObjectId);
 
-        if (!whiteBoardObject.getPlan().equals(plan)) {
+        if (!whiteBoardObject.getPlan().getPlanId().equals(planId)) {
             throw new WhiteBoardObjectPlanMismatchException("요청한 플랜에 속하지 않는 화이트보드 객체입니다.");
         }
+        // 삭제될 객체의 대기 중인 수정 사항 폐기
+        whiteBoardWriteBehindBuffer.discard(planId, whiteObjectId);
         // 부몬 삭제
         whiteBoardRepository.delete(whiteBoardObject);
+        whiteBoardRoomStateStore.removeAfterCommit(planId, whiteObjectId);
 
     }
     @Transactional
-    public Long createLine(Long planId, CreateLineRequestDTO createLineRequestDTO, Long userId) throws JsonProcessingException {
-        Plan plan = validatePlanExistence(planId);
-        User user = validateUserExistence(userId);
-        validateUserIsApprovedParticipant(plan, user);
-        String pointsJson = new ObjectMapper().writeValueAsString(createLineRequestDTO.getPoints());
+    public Long createLine(Long planId, CreateLineRequestDTO createLineRequestDTO, Long userId) {
+        validateApprovedParticipant(planId, userId);
+        Plan plan = planRepository.getReferenceById(planId);
         //도형생성
         WhiteBoardObject whiteBoardObject = WhiteBoardObject.builder()
                 .plan(plan)
@@ -224,18 +148,52 @@ public class WhiteBoardService {
                 .x(createLineRequestDTO.getX())
                 .y(createLineRequestDTO.getY())
                 .stroke(createLineRequestDTO.getStroke())
-                .points(pointsJson)
+                .pointsPacked(PointsCodec.encode(createLineRequestDTO.getPoints()))
                 .build();
         whiteBoardRepository.save(whiteBoardObject);
+        whiteBoardRoomStateStore.upsertAfterCommit(planId, whiteBoardObject);
         return whiteBoardObject.getWhiteBoardObjectId();
 
     }
-    private void validateUserIsApprovedParticipant(Plan plan, User user) {
-        if(!userPlanRepository.existsByPlanAndUser(plan, user)) {
-            throw new UserNotInPlanException("당신은 이 방의 참여자가 아닙니다.");
+    public void beginStroke(Long planId, String strokeId, CreateLineRequestDTO createLineRequestDTO, Long userId) {
+        validateApprovedParticipant(planId, userId);
+        if (!whiteBoardStrokeAssembler.begin(planId, strokeId, userId, createLineRequestDTO)) {
+            throw new WhiteBoardStrokeLimitExceededException("진행 중인 스트로크가 너무 많습니다. strokeId=" + strokeId);
+        }
+    }
+
+    // 좌표 조각은 메모리에만 쌓으므로 트랜잭션 없이 처리
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void appendStroke(Long planId, String strokeId, double[] points, Long userId) {
+        if (!whiteBoardStrokeAssembler.append(planId, strokeId, userId, points)) {
+            throw new WhiteBoardStrokeNotExistException("진행 중인 스트로크가 아닙니다. strokeId=" + strokeId);
+        }
+    }
+
+    @Transactional
+    public CreateLineRequestDTO endStroke(Long planId, String strokeId, double[] points, Long userId) {
+        // 단순화된 좌표로 한 번만 저장
+        CreateLineRequestDTO line = whiteBoardStrokeAssembler.end(planId, strokeId, userId, points);
+        if (line == null) {
+            throw new WhiteBoardStrokeNotExistException("진행 중인 스트로크가 아닙니다. strokeId=" + strokeId);
         }
-        UserPlan userPlan = userPlanRepository.getUserPlanByPlanAndUser(plan, user);
-        if (userPlan.getUserStatus() != UserStatus.APPROVED) {
+        // 저장이 커밋된 뒤에만 스트로크를 비우고, 롤백되면 같은 STROKE_END를 다시 받을 수 있게 되돌림
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                whiteBoardStrokeAssembler.complete(planId, strokeId, userId, status == STATUS_COMMITTED);
+            }
+        });
+        Long lineId = createLine(planId, line, userId);
+        line.setWhiteBoardObjectId(lineId);
+        line.setUserId(userId);
+        line.setAction("STROKE_END");
+        return line;
+    }
+
+    // 승인 대기 중인 사용자도 참여자가 아닌 것으로 처리
+    private void validateApprovedParticipant(Long planId, Long userId) {
+        if (planMembershipCache.getMembership(planId, userId).userStatus() != UserStatus.APPROVED) {
             throw new UserNotInPlanException("당신은 이 방의 참여자가 아닙니다.");
         }
     }
@@ -243,22 +201,5 @@ public class WhiteBoardService {
         return whiteBoardRepository.findById(whiteObjectId)
                 .orElseThrow(() -> new WhiteBoardObjectNotExistException("존재하지 않는 화이트보드 객체입니다. whiteObjectId=" + whiteObjectId));
     }
-    private Plan validatePlanExistence(Long planId) {
-        return planRepository.findById(planId)
-                .orElseThrow(() -> new PlanNotExistException("존재하지 않는 계획입니다. planId=" + planId));
-    }
-    private User validateUserExistence(Long userId) {
-        return userRepository.findById(userId)
-                .orElseThrow(() -> new UserNotExistException("존재하지 않는 사용자입니다. userId=" + userId));
-    }
-
-    private List<Double> parsePoints(String pointsJson) {
-        try {
-            ObjectMapper mapper = new ObjectMapper();
-            return mapper.readValue(pointsJson, new TypeReference<List<Double>>() {});
-        } catch (Exception e) {
-            return Collections.emptyList();
-        }
-    }
 
 }
@@ -0,0 +1,217 @@
+package com.ssafy.backend.whiteBoard.service;
+
+import com.ssafy.backend.whiteBoard.dto.request.CreateLineRequestDTO;
+import com.ssafy.backend.whiteBoard.util.StrokeSimplifier;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * STROKE_BEGIN / STROKE_APPEND / STROKE_END로 나뉘어 들어오는 펜 좌표를 조립하는 버퍼
+ * 조각은 들어오는 즉시 중계하고, 여기서는 STROKE_END 시점에 단순화된 좌표 한 벌만 만들어 저장하게 함
+ * 스트로크는 저장이 커밋된 뒤에만 버퍼에서 제거하므로, 저장에 실패하면 같은 STROKE_END를 다시 처리할 수 있음
+ */
+@Slf4j
+@Component
+public class WhiteBoardStrokeAssembler {
+
+    private final double simplifyTolerance;
+    private final int maxPoints;
+    private final long staleMillis;
+    private final int maxActiveStrokes;
+
+    // planId:userId:strokeId -> 조립 중인 스트로크
+    private final Map<String, Stroke> strokes = new ConcurrentHashMap<>();
+
+    private final Counter receivedPointsCounter;
+    private final Counter storedPointsCounter;
+
+    public WhiteBoardStrokeAssembler(MeterRegistry meterRegistry,
+                                     @Value("${whiteboard.stroke.simplify-tolerance:0.5}") double simplifyTolerance,
+                                     @Value("${whiteboard.stroke.max-points:10000}") int maxPoints,
+                                     @Value("${whiteboard.stroke.stale-ms:30000}") long staleMillis,
+                                     @Value("${whiteboard.stroke.max-active:2000}") int maxActiveStrokes) {
+        this.simplifyTolerance = simplifyTolerance;
+        this.maxPoints = maxPoints;
+        this.staleMillis = staleMillis;
+        this.maxActiveStrokes = maxActiveStrokes;
+
+        Gauge.builder("whiteboard.stroke.active", strokes, Map::size)
+                .description("조립 중인 스트로크 수")
+                .register(meterRegistry);
+        this.receivedPointsCounter = Counter.builder("whiteboard.stroke.points.received")
+                .description("스트리밍으로 받은 점 수")
+                .register(meterRegistry);
+        this.storedPointsCounter = Counter.builder("whiteboard.stroke.points.stored")
+                .description("단순화 후 저장한 점 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 스트로크 시작 (같은 사용자가 같은 strokeId로 다시 시작하면 기존 조립 내용은 버림)
+     *
+     * @return 조립 중인 스트로크 수가 최대치에 도달해 시작할 수 없으면 false
+     */
+    public boolean begin(Long planId, String strokeId, Long userId, CreateLineRequestDTO header) {
+        String key = key(planId, userId, strokeId);
+        if (!strokes.containsKey(key) && strokes.size() >= maxActiveStrokes) {
+            evictStaleStrokes();
+            if (strokes.size() >= maxActiveStrokes) {
+                log.warn("[WhiteBoard] 조립 중인 스트로크 수 최대치({}) 도달로 스트로크 시작 거부 planId={}", maxActiveStrokes, planId);
+                return false;
+            }
+        }
+        Stroke stroke = new Stroke(header);
+        stroke.append(header.getPoints(), maxPoints);
+        strokes.put(key, stroke);
+        return true;
+    }
+
+    /**
+     * 좌표 조각 추가
+     *
+     * @return 시작한 사용자의 진행 중인 스트로크면 true
+     */
+    public boolean append(Long planId, String strokeId, Long userId, double[] points) {
+        Stroke stroke = strokes.get(key(planId, userId, strokeId));
+        if (stroke == null) {
+            return false;
+        }
+        return stroke.append(points, maxPoints);
+    }
+
+    /**
+     * 스트로크 종료 후 단순화된 좌표로 저장용 DTO 생성
+     * 스트로크는 버퍼에 남겨두고 종료 중으로만 표시하며, 저장 결과에 따라 {@link #complete}에서 제거하거나 되돌림
+     *
+     * @return 진행 중인 스트로크가 없거나 이미 종료 중이면 null
+     */
+    public CreateLineRequestDTO end(Long planId, String strokeId, Long userId, double[] points) {
+        Stroke stroke = strokes.get(key(planId, userId, strokeId));
+        if (stroke == null || !stroke.beginEnding()) {
+            return null;
+        }
+
+        // 마지막 조각은 스트로크에 넣지 않고 합치기만 함 (저장 실패 후 같은 STROKE_END가 다시 와도 중복되지 않음)
+        double[] collected = stroke.toPoints(points, maxPoints);
+        double[] simplified = StrokeSimplifier.simplify(collected, simplifyTolerance);
+        receivedPointsCounter.increment(collected.length / 2.0);
+        storedPointsCounter.increment(simplified.length / 2.0);
+
+        CreateLineRequestDTO header = stroke.header;
+        return CreateLineRequestDTO.builder()
+                .strokeId(strokeId)
+                .type(header.getType())
+                .x(header.getX())
+                .y(header.getY())
+                .stroke(header.getStroke())
+                .points(simplified)
+                .build();
+    }
+
+    /**
+     * {@link #end} 이후 저장 결과 반영
+     *
+     * @param stored 저장이 커밋되었으면 true (스트로크 제거), 아니면 false (다시 종료할 수 있도록 되돌림)
+     */
+    public void complete(Long planId, String strokeId, Long userId, boolean stored) {
+        strokes.computeIfPresent(key(planId, userId, strokeId), (key, stroke) -> {
+            // 종료 중이 아닌 스트로크는 그 사이 같은 strokeId로 새로 시작된 것이므로 건드리지 않음
+            if (!stroke.ending) {
+                return stroke;
+            }
+            if (stored) {
+                return null;
+            }
+            stroke.ending = false;
+            return stroke;
+        });
+    }
+
+    /**
+     * STROKE_END 없이 끊긴 스트로크 정리 (저장 중인 스트로크는 제외)
+     */
+    @Scheduled(fixedDelayString = "${whiteboard.stroke.stale-ms:30000}")
+    public void evictStaleStrokes() {
+        long now = System.currentTimeMillis();
+        strokes.entrySet().removeIf(entry -> {
+            Stroke stroke = entry.getValue();
+            boolean stale = !stroke.ending && now - stroke.lastAppendedAt > staleMillis;
+            if (stale) {
+                log.debug("[WhiteBoard] 종료되지 않은 스트로크 폐기 key={}", entry.getKey());
+            }
+            return stale;
+        });
+    }
+
+    private static String key(Long planId, Long userId, String strokeId) {
+        return planId + ":" + userId + ":" + strokeId;
+    }
+
+    private static class Stroke {
+        private final CreateLineRequestDTO header;
+        private double[] values = new double[64];
+        private int size;
+        private boolean truncated;
+        private volatile boolean ending;
+        private volatile long lastAppendedAt = System.currentTimeMillis();
+
+        Stroke(CreateLineRequestDTO header) {
+            this.header = header;
+        }
+
+        synchronized boolean beginEnding() {
+            if (ending) {
+                return false;
+            }
+            ending = true;
+            return true;
+        }
+
+        synchronized boolean append(double[] points, int maxPoints) {
+            if (ending) {
+                return false;
+            }
+            lastAppendedAt = System.currentTimeMillis();
+            if (points == null || points.length == 0) {
+                return true;
+            }
+            // 최대 점 수를 넘는 좌표는 저장하지 않음 (중계는 그대로 진행)
+            int even = points.length & ~1;
+            int length = Math.min(even, maxPoints * 2 - size);
+            if (length < even) {
+                if (!truncated) {
+                    log.warn("[WhiteBoard] 스트로크 최대 점 수({}) 초과로 이후 좌표는 저장하지 않음", maxPoints);
+                }
+                truncated = true;
+            }
+            if (length <= 0) {
+                return true;
+            }
+            if (size + length > values.length) {
+                values = Arrays.copyOf(values, Math.max(values.length * 2, size + length));
+            }
+            System.arraycopy(points, 0, values, size, length);
+            size += length;
+            return true;
+        }
+
+        // 지금까지 모은 좌표 뒤에 마지막 조각을 붙인 사본 (최대 점 수까지만)
+        synchronized double[] toPoints(double[] tail, int maxPoints) {
+            int tailLength = tail == null ? 0 : Math.max(0, Math.min(tail.length & ~1, maxPoints * 2 - size));
+            double[] points = Arrays.copyOf(values, size + tailLength);
+            if (tailLength > 0) {
+                System.arraycopy(tail, 0, points, size, tailLength);
+            }
+            return points;
+        }
+    }
+}
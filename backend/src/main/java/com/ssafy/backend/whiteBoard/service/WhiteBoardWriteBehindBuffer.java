@@ -0,0 +1,200 @@
+package com.ssafy.backend.whiteBoard.service;
+
+import com.ssafy.backend.common.websocket.RoomClosedEvent;
+import com.ssafy.backend.common.websocket.StompSubscriptionRegistry;
+import com.ssafy.backend.whiteBoard.dto.request.ModifyWhiteBoardObjectRequestDTO;
+import com.ssafy.backend.whiteBoard.repository.WhiteBoardJdbcRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 화이트보드 MODIFY 이벤트용 write-behind 버퍼
+ * 플랜별로 객체당 마지막 상태만 보관하고, 주기적으로 또는 버퍼가 차면 batch UPDATE로 반영함
+ * 서버 종료 시, 방의 마지막 구독자가 나갈 때도 반드시 플러시함
+ */
+@Slf4j
+@Component
+public class WhiteBoardWriteBehindBuffer {
+
+    private static final String WHITEBOARD_TOPIC_PREFIX = "/topic/whiteboard/";
+
+    private final WhiteBoardJdbcRepository whiteBoardJdbcRepository;
+    private final int maxPendingPerPlan;
+
+    // planId -> 플랜별 대기 버퍼
+    private final Map<Long, PlanBuffer> buffers = new ConcurrentHashMap<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+
+    private final Timer flushTimer;
+    private final Counter flushedCounter;
+    private final Counter failedCounter;
+
+    public WhiteBoardWriteBehindBuffer(WhiteBoardJdbcRepository whiteBoardJdbcRepository,
+                                       MeterRegistry meterRegistry,
+                                       @Value("${whiteboard.write-behind.max-pending:256}") int maxPendingPerPlan) {
+        this.whiteBoardJdbcRepository = whiteBoardJdbcRepository;
+        this.maxPendingPerPlan = maxPendingPerPlan;
+
+        Gauge.builder("whiteboard.write_behind.pending", pendingCount, AtomicInteger::get)
+                .description("플러시 대기 중인 화이트보드 객체 수")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("whiteboard.write_behind.flush")
+                .description("플랜 단위 batch UPDATE 소요 시간")
+                .register(meterRegistry);
+        this.flushedCounter = Counter.builder("whiteboard.write_behind.flushed")
+                .description("batch UPDATE로 반영한 수정 건수")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("whiteboard.write_behind.failed")
+                .description("실패한 플러시 횟수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 수정 사항을 버퍼에 적재 (같은 객체는 마지막 상태로 덮어씀)
+     */
+    public void enqueue(Long planId, Long whiteBoardObjectId, ModifyWhiteBoardObjectRequestDTO dto) {
+        int[] size = {0};
+        // compute 안에서 적재해야 빈 버퍼 제거(release)와 경합하지 않음
+        buffers.compute(planId, (id, buffer) -> {
+            if (buffer == null) {
+                buffer = new PlanBuffer();
+            }
+            if (buffer.put(whiteBoardObjectId, dto)) {
+                pendingCount.incrementAndGet();
+            }
+            size[0] = buffer.size();
+            return buffer;
+        });
+
+        if (size[0] >= maxPendingPerPlan) {
+            flush(planId);
+        }
+    }
+
+    /**
+     * 삭제된 객체의 대기 중인 수정 사항 폐기
+     */
+    public void discard(Long planId, Long whiteBoardObjectId) {
+        PlanBuffer buffer = buffers.get(planId);
+        if (buffer != null && buffer.remove(whiteBoardObjectId)) {
+            pendingCount.decrementAndGet();
+        }
+    }
+
+    /**
+     * 해당 플랜의 대기 중인 수정 사항을 즉시 반영
+     * 플랜별 락으로 플러시 순서를 보장함
+     */
+    public void flush(Long planId) {
+        PlanBuffer buffer = buffers.get(planId);
+        if (buffer == null) {
+            return;
+        }
+
+        buffer.flushLock.lock();
+        try {
+            Map<Long, ModifyWhiteBoardObjectRequestDTO> drained = buffer.drain();
+            if (drained.isEmpty()) {
+                return;
+            }
+            pendingCount.addAndGet(-drained.size());
+
+            Timer.Sample sample = Timer.start();
+            try {
+                whiteBoardJdbcRepository.batchUpdateTransform(planId, drained);
+                flushedCounter.increment(drained.size());
+            } catch (Exception e) {
+                failedCounter.increment();
+                log.error("[WhiteBoard] write-behind 플러시 실패 planId={}, 건수={}", planId, drained.size(), e);
+                // 그 사이 들어온 더 최신 상태가 없는 항목만 되돌려 다음 주기에 재시도
+                pendingCount.addAndGet(buffer.restore(drained));
+            } finally {
+                sample.stop(flushTimer);
+            }
+        } finally {
+            buffer.flushLock.unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${whiteboard.write-behind.flush-interval-ms:200}")
+    public void flushAll() {
+        for (Long planId : buffers.keySet()) {
+            flush(planId);
+        }
+    }
+
+    /**
+     * 방의 마지막 구독자가 나가면 즉시 플러시 후 빈 버퍼 제거
+     */
+    @EventListener
+    public void onRoomClosed(RoomClosedEvent event) {
+        Long planId = StompSubscriptionRegistry.extractPlanId(event.getDestination(), WHITEBOARD_TOPIC_PREFIX);
+        if (planId == null) {
+            return;
+        }
+        flush(planId);
+        buffers.computeIfPresent(planId, (id, buffer) -> buffer.isEmpty() ? null : buffer);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        log.info("[WhiteBoard] 종료 전 write-behind 버퍼 플러시 (대기 {}건)", pendingCount.get());
+        flushAll();
+    }
+
+    private static class PlanBuffer {
+        private final ReentrantLock flushLock = new ReentrantLock();
+        private Map<Long, ModifyWhiteBoardObjectRequestDTO> pending = new LinkedHashMap<>();
+
+        // 새 객체면 true
+        synchronized boolean put(Long whiteBoardObjectId, ModifyWhiteBoardObjectRequestDTO dto) {
+            return pending.put(whiteBoardObjectId, dto) == null;
+        }
+
+        synchronized boolean remove(Long whiteBoardObjectId) {
+            return pending.remove(whiteBoardObjectId) != null;
+        }
+
+        synchronized int size() {
+            return pending.size();
+        }
+
+        synchronized boolean isEmpty() {
+            return pending.isEmpty();
+        }
+
+        synchronized Map<Long, ModifyWhiteBoardObjectRequestDTO> drain() {
+            if (pending.isEmpty()) {
+                return Map.of();
+            }
+            Map<Long, ModifyWhiteBoardObjectRequestDTO> drained = pending;
+            pending = new LinkedHashMap<>();
+            return drained;
+        }
+
+        // 되돌린 건수 반환
+        synchronized int restore(Map<Long, ModifyWhiteBoardObjectRequestDTO> failed) {
+            int restored = 0;
+            for (Map.Entry<Long, ModifyWhiteBoardObjectRequestDTO> entry : failed.entrySet()) {
+                if (pending.putIfAbsent(entry.getKey(), entry.getValue()) == null) {
+                    restored++;
+                }
+            }
+            return restored;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.ssafy.backend.whiteBoard.util;
+
+import java.io.ByteArrayOutputStream;
+
+/**
+ * 펜/화살표 좌표 배열([x0, y0, x1, y1, ...])의 바이너리 인코더/디코더
+ *
+ * 포맷: [버전 1byte][좌표 개수 varint][좌표별 zigzag varint]
+ * 각 좌표는 0.01 단위로 양자화한 뒤, 같은 축(x는 x끼리, y는 y끼리)의 직전 값과의 차이만 저장함
+ * 자유곡선은 인접 점 간 거리가 짧아 대부분 좌표가 1~2byte로 줄어듦
+ */
+public final class PointsCodec {
+
+    private static final byte VERSION = 1;
+    private static final double SCALE = 100.0;
+
+    private PointsCodec() {
+    }
+
+    public static byte[] encode(double[] points) {
+        if (points == null) {
+            return null;
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream(2 + points.length * 2);
+        out.write(VERSION);
+        writeVarint(out, points.length);
+
+        long prevX = 0;
+        long prevY = 0;
+        for (int i = 0; i < points.length; i++) {
+            long quantized = Math.round(points[i] * SCALE);
+            if ((i & 1) == 0) {
+                writeVarint(out, zigzag(quantized - prevX));
+                prevX = quantized;
+            } else {
+                writeVarint(out, zigzag(quantized - prevY));
+                prevY = quantized;
+            }
+        }
+        return out.toByteArray();
+    }
+
+    public static double[] decode(byte[] packed) {
+        if (packed == null) {
+            return null;
+        }
+        if (packed.length == 0 || packed[0] != VERSION) {
+            throw new IllegalArgumentException("지원하지 않는 좌표 포맷입니다.");
+        }
+        int[] position = {1};
+        long declaredCount = readVarint(packed, position);
+        // 좌표 1개는 최소 1byte이므로, 남은 바이트보다 많다고 적힌 손상된 데이터는 할당 전에 거부
+        if (declaredCount < 0 || declaredCount > packed.length - position[0]) {
+            throw new IllegalArgumentException("손상된 좌표 데이터입니다.");
+        }
+        int count = (int) declaredCount;
+        double[] points = new double[count];
+
+        long prevX = 0;
+        long prevY = 0;
+        for (int i = 0; i < count; i++) {
+            long delta = unzigzag(readVarint(packed, position));
+            if ((i & 1) == 0) {
+                prevX += delta;
+                points[i] = prevX / SCALE;
+            } else {
+                prevY += delta;
+                points[i] = prevY / SCALE;
+            }
+        }
+        return points;
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long readVarint(byte[] buffer, int[] position) {
+        long result = 0;
+        int shift = 0;
+        while (true) {
+            if (position[0] >= buffer.length || shift > 63) {
+                throw new IllegalArgumentException("손상된 좌표 데이터입니다.");
+            }
+            byte b = buffer[position[0]++];
+            result |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+            shift += 7;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.ssafy.backend.whiteBoard.util;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Ramer–Douglas–Peucker 알고리즘으로 자유곡선 좌표([x0, y0, x1, y1, ...])를 단순화
+ * 긴 스트로크에서도 스택 오버플로가 나지 않도록 반복문으로 구현함
+ */
+public final class StrokeSimplifier {
+
+    private StrokeSimplifier() {
+    }
+
+    /**
+     * @param tolerance 허용 오차(px), 0 이하이면 단순화하지 않음
+     */
+    public static double[] simplify(double[] points, double tolerance) {
+        int pointCount = points.length / 2;
+        if (tolerance <= 0 || pointCount < 3) {
+            return points;
+        }
+
+        boolean[] keep = new boolean[pointCount];
+        keep[0] = true;
+        keep[pointCount - 1] = true;
+
+        Deque<int[]> ranges = new ArrayDeque<>();
+        ranges.push(new int[]{0, pointCount - 1});
+        double toleranceSquared = tolerance * tolerance;
+
+        while (!ranges.isEmpty()) {
+            int[] range = ranges.pop();
+            int first = range[0];
+            int last = range[1];
+
+            double maxDistance = 0;
+            int farthest = -1;
+            for (int i = first + 1; i < last; i++) {
+                double distance = segmentDistanceSquared(points, i, first, last);
+                if (distance > maxDistance) {
+                    maxDistance = distance;
+                    farthest = i;
+                }
+            }
+
+            if (farthest != -1 && maxDistance > toleranceSquared) {
+                keep[farthest] = true;
+                ranges.push(new int[]{first, farthest});
+                ranges.push(new int[]{farthest, last});
+            }
+        }
+
+        int kept = 0;
+        for (boolean k : keep) {
+            if (k) {
+                kept++;
+            }
+        }
+        double[] simplified = new double[kept * 2];
+        int index = 0;
+        for (int i = 0; i < pointCount; i++) {
+            if (keep[i]) {
+                simplified[index++] = points[i * 2];
+                simplified[index++] = points[i * 2 + 1];
+            }
+        }
+        return simplified;
+    }
+
+    // 점 p에서 선분 (a, b)까지 거리의 제곱
+    private static double segmentDistanceSquared(double[] points, int p, int a, int b) {
+        double px = points[p * 2];
+        double py = points[p * 2 + 1];
+        double ax = points[a * 2];
+        double ay = points[a * 2 + 1];
+        double dx = points[b * 2] - ax;
+        double dy = points[b * 2 + 1] - ay;
+
+        double lengthSquared = dx * dx + dy * dy;
+        if (lengthSquared == 0) {
+            return (px - ax) * (px - ax) + (py - ay) * (py - ay);
+        }
+        double t = Math.max(0, Math.min(1, ((px - ax) * dx + (py - ay) * dy) / lengthSquared));
+        double cx = ax + t * dx;
+        double cy = ay + t * dy;
+        return (px - cx) * (px - cx) + (py - cy) * (py - cy);
+    }
+}
@@ -0,0 +1,177 @@
+package com.ssafy.backend.common.interceptor;
+
+import com.ssafy.backend.common.websocket.PlanSessionGrants;
+import com.ssafy.backend.plan.exception.UserNotExistException;
+import com.ssafy.backend.security.repository.TokenRepository;
+import com.ssafy.backend.security.util.AccessTokenRevocations;
+import com.ssafy.backend.security.util.JwtUtil;
+import com.ssafy.backend.user.service.UserProfileCache;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class StompConnectStormTest {
+
+    private static final String SECRET = "testSecretKeyWithAtLeast32BytesForHS256Algorithm";
+    private static final int USERS = 2_000;
+    private static final int THREADS = 32;
+
+    private final TokenRepository tokenRepository = mock(TokenRepository.class);
+    private final PlanSessionGrants planSessionGrants = mock(PlanSessionGrants.class);
+    private final MessageChannel channel = mock(MessageChannel.class);
+    private UserProfileCache userProfileCache;
+    private StompChannelInterceptor interceptor;
+    private SecretKey key;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        key = new SecretKeySpec(digest.digest(SECRET.getBytes(StandardCharsets.UTF_8)), Jwts.SIG.HS256.key().build().getAlgorithm());
+        userProfileCache = new UserProfileCache(3600, 100, new SimpleMeterRegistry());
+        interceptor = interceptor(userProfileCache);
+    }
+
+    @Test
+    @DisplayName("재연결이 몰려도 CONNECT는 DB를 조회하지 않고 claim으로 세션을 채움")
+    void reconnectStormDoesNotQueryDatabase() throws Exception {
+        // when
+        List<StompHeaderAccessor> sessions = connectAll(tokens());
+
+        // then
+        assertThat(sessions).hasSize(USERS);
+        for (int i = 0; i < USERS; i++) {
+            long userId = i + 1;
+            assertThat(sessions.get(i).getSessionAttributes())
+                    .containsEntry("userId", userId)
+                    .containsEntry("userName", "user" + userId)
+                    .containsEntry("email", "user" + userId + "@gmail.com");
+        }
+        verifyNoInteractions(tokenRepository);
+        verify(planSessionGrants, times(USERS)).bind(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("토큰 발급 이후 이름을 바꾸면 바뀐 이름, 탈퇴했으면 CONNECT가 거부됨")
+    void profileChangesOverrideClaims() {
+        // given
+        userProfileCache.updateUserName(1L, "새이름");
+        userProfileCache.markDeleted(2L);
+
+        // when
+        StompHeaderAccessor renamed = connect(token(1L));
+
+        // then
+        assertThat(renamed.getSessionAttributes().get("userName")).isEqualTo("새이름");
+        assertThatThrownBy(() -> connect(token(2L))).isInstanceOf(UserNotExistException.class);
+    }
+
+    @Test
+    @DisplayName("캐시가 가득 차도 탈퇴 표시는 이름 변경에 밀려나지 않음")
+    void deletedMarksSurviveFullCache() {
+        // given: 최대 2개짜리 캐시에 탈퇴 표시 2개
+        UserProfileCache small = new UserProfileCache(3600, 2, new SimpleMeterRegistry());
+        StompChannelInterceptor smallInterceptor = interceptor(small);
+        small.markDeleted(1L);
+        small.markDeleted(2L);
+
+        // when
+        for (long userId = 3; userId <= 100; userId++) {
+            small.updateUserName(userId, "새이름" + userId);
+        }
+
+        // then
+        assertThatThrownBy(() -> connect(smallInterceptor, token(1L))).isInstanceOf(UserNotExistException.class);
+        assertThatThrownBy(() -> connect(smallInterceptor, token(2L))).isInstanceOf(UserNotExistException.class);
+        assertThat(connect(smallInterceptor, token(3L)).getSessionAttributes().get("userName")).isEqualTo("user3");
+    }
+
+    private List<StompHeaderAccessor> connectAll(List<String> tokens) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Callable<StompHeaderAccessor>> tasks = new ArrayList<>();
+            for (String token : tokens) {
+                tasks.add(() -> connect(token));
+            }
+            List<StompHeaderAccessor> sessions = new ArrayList<>();
+            for (Future<StompHeaderAccessor> future : executor.invokeAll(tasks)) {
+                sessions.add(future.get());
+            }
+            return sessions;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private StompChannelInterceptor interceptor(UserProfileCache cache) {
+        try {
+            JwtUtil jwtUtil = new JwtUtil(SECRET, 3600, 86400, 100, tokenRepository, new AccessTokenRevocations(100),
+                    new SimpleMeterRegistry());
+            return new StompChannelInterceptor(jwtUtil, cache, planSessionGrants);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private StompHeaderAccessor connect(String token) {
+        return connect(interceptor, token);
+    }
+
+    private StompHeaderAccessor connect(StompChannelInterceptor target, String token) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.CONNECT);
+        accessor.setSessionId("session-" + token.hashCode());
+        accessor.setSessionAttributes(new HashMap<>());
+        accessor.setNativeHeader("Authorization", "Bearer " + token);
+        accessor.setLeaveMutable(true);
+        Message<byte[]> message = MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+        target.preSend(message, channel);
+        return accessor;
+    }
+
+    private List<String> tokens() {
+        List<String> tokens = new ArrayList<>();
+        for (long userId = 1; userId <= USERS; userId++) {
+            tokens.add(token(userId));
+        }
+        return tokens;
+    }
+
+    private String token(Long userId) {
+        return Jwts.builder()
+                .subject(String.valueOf(userId))
+                .claim("userId", userId)
+                .claim("googleEmail", "user" + userId + "@gmail.com")
+                .claim("userName", "user" + userId)
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + 3_600_000))
+                .signWith(key)
+                .compact();
+    }
+}
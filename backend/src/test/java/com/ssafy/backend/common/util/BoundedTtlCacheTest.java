@@ -0,0 +1,142 @@
+package com.ssafy.backend.common.util;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BoundedTtlCacheTest {
+
+    private static final long LATER = Long.MAX_VALUE;
+
+    @Test
+    @DisplayName("만료된 항목은 조회되지 않고, 적중/미적중 지표가 남음")
+    void expiredEntryIsMiss() {
+        // given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        BoundedTtlCache<String, String> cache = new BoundedTtlCache<String, String>(10)
+                .registerMetrics(meterRegistry, "test_cache", "size", "requests");
+        cache.put("alive", "a", LATER);
+        cache.put("expired", "b", System.currentTimeMillis() - 1);
+
+        // when
+        String alive = cache.get("alive");
+        String expired = cache.get("expired");
+
+        // then
+        assertThat(alive).isEqualTo("a");
+        assertThat(expired).isNull();
+        assertThat(meterRegistry.get("test_cache.requests").tag("result", "hit").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("test_cache.requests").tag("result", "miss").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("최대 개수에 도달하면 만료된 항목을 먼저 지움")
+    void evictsExpiredFirst() {
+        // given
+        BoundedTtlCache<String, String> cache = new BoundedTtlCache<>(2);
+        cache.put("expired", "a", System.currentTimeMillis() - 1);
+        cache.put("alive", "b", LATER);
+
+        // when
+        boolean stored = cache.put("new", "c", LATER);
+
+        // then
+        assertThat(stored).isTrue();
+        assertThat(cache.peek("alive")).isEqualTo("b");
+        assertThat(cache.peek("new")).isEqualTo("c");
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("고정된 항목은 자리를 만들 때 지우지 않고, 모두 고정이면 새 항목을 거부")
+    void neverEvictsPinnedEntries() {
+        // given
+        BoundedTtlCache<String, String> cache = new BoundedTtlCache<>(2, value -> value.startsWith("pinned"));
+        cache.put("a", "pinned-a", LATER);
+        cache.put("b", "plain-b", LATER);
+
+        // when
+        boolean first = cache.put("c", "pinned-c", LATER);
+        boolean second = cache.put("d", "plain-d", LATER);
+
+        // then: 고정되지 않은 b만 자리를 내줌
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        assertThat(cache.peek("a")).isEqualTo("pinned-a");
+        assertThat(cache.peek("b")).isNull();
+        assertThat(cache.peek("c")).isEqualTo("pinned-c");
+    }
+
+    @Test
+    @DisplayName("적재를 시작한 뒤 같은 키나 전체에 invalidate/update가 있었으면 적재 결과를 저장하지 않음")
+    void putIfNotInvalidatedRejectsStaleLoad() {
+        // given
+        BoundedTtlCache<String, Long> cache = new BoundedTtlCache<>(10);
+        long beforeInvalidate = cache.loadStamp("key");
+        cache.invalidate("key");
+        long beforeUpdate = cache.loadStamp("key");
+        cache.update("key", value -> value + 1);
+        long beforeInvalidateAll = cache.loadStamp("key");
+        cache.invalidateAll();
+        long current = cache.loadStamp("key");
+
+        // when, then
+        assertThat(cache.putIfNotInvalidated("key", 1L, LATER, beforeInvalidate)).isFalse();
+        assertThat(cache.putIfNotInvalidated("key", 1L, LATER, beforeUpdate)).isFalse();
+        assertThat(cache.putIfNotInvalidated("key", 1L, LATER, beforeInvalidateAll)).isFalse();
+        assertThat(cache.putIfNotInvalidated("key", 1L, LATER, current)).isTrue();
+        assertThat(cache.peek("key")).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("다른 키가 무효화되어도 적재 중인 값은 저장됨")
+    void unrelatedInvalidateKeepsLoad() {
+        // given: 1L과 2L은 해시 하위 비트가 달라 서로 다른 버전 칸을 씀
+        BoundedTtlCache<Long, String> cache = new BoundedTtlCache<>(10);
+        cache.put(2L, "other", LATER);
+        long stamp = cache.loadStamp(1L);
+
+        // when
+        cache.invalidate(2L);
+        cache.update(2L, value -> value + "!");
+
+        // then
+        assertThat(cache.putIfNotInvalidated(1L, "loaded", LATER, stamp)).isTrue();
+        assertThat(cache.peek(1L)).isEqualTo("loaded");
+    }
+
+    @Test
+    @DisplayName("update는 캐시된 값만 바꾸고 없는 키는 만들지 않음")
+    void updateOnlyExistingEntries() {
+        // given
+        BoundedTtlCache<String, Long> cache = new BoundedTtlCache<>(10);
+        cache.put("key", 3L, LATER);
+
+        // when
+        cache.update("key", value -> value + 2);
+        cache.update("missing", value -> value + 2);
+
+        // then
+        assertThat(cache.peek("key")).isEqualTo(5L);
+        assertThat(cache.peek("missing")).isNull();
+    }
+
+    @Test
+    @DisplayName("조건에 맞는 항목만 지우고 지운 수를 반환")
+    void invalidateIfReturnsRemovedCount() {
+        // given
+        BoundedTtlCache<Integer, String> cache = new BoundedTtlCache<>(10);
+        for (int i = 0; i < 5; i++) {
+            cache.put(i, "v" + i, LATER);
+        }
+
+        // when
+        int removed = cache.invalidateIf((key, value) -> key % 2 == 0);
+
+        // then
+        assertThat(removed).isEqualTo(3);
+        assertThat(cache.size()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,178 @@
+package com.ssafy.backend.common.util;
+
+import com.ssafy.backend.plan.exception.ConflictException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PlanExecutionLanesTest {
+
+    private static final int EDITORS = 10;
+    private static final int EDITS_PER_EDITOR = 50;
+
+    private final PlanExecutionLanes lanes = new PlanExecutionLanes(new SimpleMeterRegistry(), 4, 1000);
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        lanes.shutdown();
+    }
+
+    @Test
+    @DisplayName("같은 plan의 작업은 제출한 순서대로 실행됨")
+    void runsTasksOfSamePlanInSubmissionOrder() throws Exception {
+        // given
+        List<Integer> executed = new CopyOnWriteArrayList<>();
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < 500; i++) {
+            int sequence = i;
+            futures.add(lanes.submit(1L, () -> {
+                executed.add(sequence);
+                return null;
+            }));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(10, TimeUnit.SECONDS);
+
+        // then
+        assertThat(executed).hasSize(500).isSorted();
+    }
+
+    @Test
+    @DisplayName("여러 사용자가 동시에 제출해도 같은 plan의 작업은 겹치지 않고, 사용자별 제출 순서가 유지됨")
+    void serializesConcurrentEditorsOfSamePlan() throws Exception {
+        // given: 동기화 없는 순서 목록 (indexOrder 재배치를 흉내 냄)
+        List<Integer> order = new ArrayList<>(List.of(1, 2, 3, 4, 5));
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        Map<Integer, List<Integer>> executedByEditor = new ConcurrentHashMap<>();
+        List<CompletableFuture<Void>> futures = new CopyOnWriteArrayList<>();
+
+        // when: 10명이 동시에 맨 앞 항목을 맨 뒤로 옮김
+        runEditors(editor -> {
+            for (int i = 0; i < EDITS_PER_EDITOR; i++) {
+                int sequence = i;
+                futures.add(lanes.submit(1L, () -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    order.add(order.remove(0));
+                    executedByEditor.computeIfAbsent(editor, key -> new ArrayList<>()).add(sequence);
+                    running.decrementAndGet();
+                    return null;
+                }));
+            }
+        });
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(10, TimeUnit.SECONDS);
+
+        // then
+        assertThat(maxRunning.get()).isEqualTo(1);
+        assertThat(order).containsExactlyInAnyOrder(1, 2, 3, 4, 5);
+        assertThat(executedByEditor).hasSize(EDITORS);
+        assertThat(executedByEditor.values()).allSatisfy(sequences ->
+                assertThat(sequences).hasSize(EDITS_PER_EDITOR).isSorted());
+    }
+
+    @Test
+    @DisplayName("다른 plan의 작업은 막히지 않고 병렬로 실행됨")
+    void differentPlansRunInParallel() throws Exception {
+        // given: plan 1의 레인을 막아 둠
+        CountDownLatch release = new CountDownLatch(1);
+        lanes.execute(1L, () -> await(release));
+
+        // when
+        String result = lanes.submit(2L, () -> "done").get(1, TimeUnit.SECONDS);
+
+        // then
+        assertThat(result).isEqualTo("done");
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("앞선 작업이 실패해도 같은 plan의 다음 작업은 순서대로 실행됨")
+    void failedTaskDoesNotBreakLane() throws Exception {
+        // given
+        CompletableFuture<Object> failed = lanes.submit(1L, () -> {
+            throw new ConflictException("다른 사용자가 작업 중입니다.");
+        });
+
+        // when
+        String next = lanes.submit(1L, () -> "next").get(1, TimeUnit.SECONDS);
+
+        // then
+        assertThatThrownBy(failed::get)
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(ConflictException.class);
+        assertThat(next).isEqualTo("next");
+    }
+
+    @Test
+    @DisplayName("레인 큐가 가득 차면 제출을 거절")
+    void rejectsWhenQueueIsFull() throws InterruptedException {
+        // given: 큐 1칸짜리 레인을 실행 중인 작업과 대기 작업으로 채움
+        PlanExecutionLanes small = new PlanExecutionLanes(new SimpleMeterRegistry(), 1, 1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        small.execute(1L, () -> {
+            started.countDown();
+            await(release);
+        });
+        await(started);
+        small.execute(1L, () -> { });
+
+        // when, then
+        try {
+            assertThatThrownBy(() -> small.submit(1L, () -> null)).isInstanceOf(RejectedExecutionException.class);
+        } finally {
+            release.countDown();
+            small.shutdown();
+        }
+    }
+
+    private void runEditors(IntConsumer editor) throws Exception {
+        ExecutorService editors = Executors.newFixedThreadPool(EDITORS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int e = 0; e < EDITORS; e++) {
+                int editorId = e;
+                futures.add(editors.submit(() -> {
+                    await(start);
+                    editor.accept(editorId);
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(1, TimeUnit.MINUTES);
+            }
+        } finally {
+            editors.shutdownNow();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -2,16 +2,18 @@ package com.ssafy.backend.common.util;
 
 import io.awspring.cloud.s3.ObjectMetadata;
 import io.awspring.cloud.s3.S3Template;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.net.URL;
+import java.time.Duration;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -24,7 +26,7 @@ class S3UtilTest {
     @Mock
     private S3Template s3Template;
 
-    @InjectMocks
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
     private S3Util s3Util;
 
     private final String bucketName = "test-bucket";
@@ -33,7 +35,13 @@ class S3UtilTest {
 
     @BeforeEach
     void setUp() {
-        ReflectionTestUtils.setField(s3Util, "bucketName", bucketName);
+        s3Util = newS3Util(s3Template, 30);
+    }
+
+    private S3Util newS3Util(S3Template template, long reuseMinutes) {
+        S3Util util = new S3Util(template, meterRegistry, 60, reuseMinutes, 10000);
+        ReflectionTestUtils.setField(util, "bucketName", bucketName);
+        return util;
     }
 
     @Test
@@ -66,4 +74,86 @@ class S3UtilTest {
         assertThat(result).isFalse();
         verify(s3Template, times(1)).upload(eq(bucketName), eq(key), any(InputStream.class), any(ObjectMetadata.class));
     }
+
+    @Test
+    @DisplayName("같은 key의 presigned URL은 재사용 시간 동안 한 번만 서명")
+    void getUrl_reusesSignedUrl() throws Exception {
+        // given
+        when(s3Template.createSignedGetURL(bucketName, key, Duration.ofMinutes(60)))
+                .thenReturn(new URL("https://test-bucket.s3.amazonaws.com/test-key?sig=1"));
+
+        // when
+        String first = s3Util.getUrl(key);
+        String second = s3Util.getUrl(key);
+
+        // then
+        assertThat(second).isEqualTo(first);
+        verify(s3Template, times(1)).createSignedGetURL(bucketName, key, Duration.ofMinutes(60));
+        assertThat(meterRegistry.get("s3.presigned_url_cache.requests").tag("result", "hit").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("s3.presigned_url_cache.requests").tag("result", "miss").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("객체를 삭제하면 캐시된 URL도 제거")
+    void deleteObject_evictsSignedUrl() throws Exception {
+        // given
+        when(s3Template.createSignedGetURL(eq(bucketName), eq(key), any(Duration.class)))
+                .thenReturn(new URL("https://test-bucket.s3.amazonaws.com/test-key?sig=1"));
+        s3Util.getUrl(key);
+
+        // when
+        s3Util.deleteObject(key);
+        s3Util.getUrl(key);
+
+        // then
+        verify(s3Template, times(2)).createSignedGetURL(eq(bucketName), eq(key), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("플랜 50개 목록을 반복 렌더링해도 서로 다른 key마다 한 번만 서명")
+    void renderPlanList_signsEachKeyOnce() throws Exception {
+        // given: 플랜 이미지 50개(절반은 기본 이미지) + 방장 프로필 50개(방장 5명)
+        when(s3Template.createSignedGetURL(eq(bucketName), any(String.class), any(Duration.class)))
+                .thenAnswer(invocation -> new URL("https://test-bucket.s3.amazonaws.com/" + invocation.getArgument(1)));
+        String[] keys = new String[100];
+        for (int i = 0; i < 50; i++) {
+            keys[i] = i % 2 == 0 ? "placeholder.png" : "plans/" + i + ".png";
+            keys[50 + i] = "users/" + (i % 5) + ".png";
+        }
+        int renders = 100;
+
+        // when
+        render(s3Util, keys, renders);
+
+        // then: 기본 이미지 1개 + 플랜 이미지 25개 + 프로필 5개
+        int distinctKeys = 31;
+        verify(s3Template, times(distinctKeys)).createSignedGetURL(eq(bucketName), any(String.class), any(Duration.class));
+        assertThat(meterRegistry.get("s3.presigned_url_cache.requests").tag("result", "miss").counter().count())
+                .isEqualTo(distinctKeys);
+        assertThat(meterRegistry.get("s3.presigned_url_cache.requests").tag("result", "hit").counter().count())
+                .isEqualTo(renders * keys.length - distinctKeys);
+    }
+
+    @Test
+    @DisplayName("재사용 시간이 0이면 매번 서명하고 캐시하지 않음")
+    void getUrl_withoutReuse_signsEveryTime() throws Exception {
+        // given
+        S3Util uncached = newS3Util(s3Template, 0);
+        when(s3Template.createSignedGetURL(eq(bucketName), eq(key), any(Duration.class)))
+                .thenReturn(new URL("https://test-bucket.s3.amazonaws.com/test-key?sig=1"));
+
+        // when
+        render(uncached, new String[]{key}, 3);
+
+        // then
+        verify(s3Template, times(3)).createSignedGetURL(eq(bucketName), eq(key), any(Duration.class));
+    }
+
+    private void render(S3Util util, String[] keys, int renders) {
+        for (int r = 0; r < renders; r++) {
+            for (String objectKey : keys) {
+                util.getUrl(objectKey);
+            }
+        }
+    }
 }
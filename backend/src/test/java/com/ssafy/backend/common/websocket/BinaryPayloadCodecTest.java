@@ -0,0 +1,85 @@
+package com.ssafy.backend.common.websocket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
+import com.ssafy.backend.mouse.MousePositionDTO;
+import com.ssafy.backend.whiteBoard.dto.websocket.WhiteBoardSocketDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BinaryPayloadCodecTest {
+
+    // 운영 환경처럼 생성자 파라미터 이름으로 DTO를 역직렬화하도록 모듈 등록
+    private final BinaryPayloadCodec binaryPayloadCodec =
+            new BinaryPayloadCodec(Jackson2ObjectMapperBuilder.json().modulesToInstall(new ParameterNamesModule()));
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("MOVE 프레임은 CBOR가 JSON보다 작고 그대로 복원됨")
+    void moveFrameIsSmallerThanJson() throws Exception {
+        // given
+        WhiteBoardSocketDTO move = WhiteBoardSocketDTO.builder()
+                .action("MOVE")
+                .whiteBoardObjectId(1234L)
+                .x(512.25)
+                .y(384.5)
+                .build();
+
+        // when
+        byte[] json = objectMapper.writeValueAsBytes(move);
+        byte[] cbor = binaryPayloadCodec.encode(move);
+        WhiteBoardSocketDTO decoded = binaryPayloadCodec.decode(cbor, WhiteBoardSocketDTO.class);
+
+        // then: null 필드(objectInfo, whiteBoardPlace 등)가 빠지므로 절반 이하
+        assertThat(cbor.length).isLessThan(json.length / 2);
+        assertThat(decoded.getAction()).isEqualTo("MOVE");
+        assertThat(decoded.getWhiteBoardObjectId()).isEqualTo(1234L);
+        assertThat(decoded.getX()).isEqualTo(512.25);
+    }
+
+    @Test
+    @DisplayName("커서 묶음 프레임도 CBOR가 JSON보다 작음")
+    void cursorFrameIsSmallerThanJson() throws Exception {
+        // given
+        List<MousePositionDTO> cursors = List.of(
+                new MousePositionDTO("여행자1", 100.5, 200.5, 1L),
+                new MousePositionDTO("여행자2", 300.0, 400.0, 2L),
+                new MousePositionDTO("여행자3", 500.25, 600.75, 3L));
+
+        // when
+        byte[] json = objectMapper.writeValueAsBytes(cursors);
+        byte[] cbor = binaryPayloadCodec.encode(cursors);
+
+        // then
+        assertThat(cbor.length).isLessThan(json.length);
+    }
+
+    @Test
+    @DisplayName("content-type이 application/cbor일 때만 CBOR 컨버터가 변환")
+    void converterRequiresCborContentType() {
+        // given
+        CborMessageConverter converter = new CborMessageConverter(binaryPayloadCodec);
+        byte[] body = binaryPayloadCodec.encode(Map.of("action", "MOVE", "whiteBoardObjectId", 7));
+
+        Message<byte[]> cborMessage = MessageBuilder.withPayload(body)
+                .setHeader(MessageHeaders.CONTENT_TYPE, BinaryPayloadCodec.CBOR)
+                .build();
+        Message<byte[]> plainMessage = MessageBuilder.withPayload(body).build();
+
+        // when
+        WhiteBoardSocketDTO converted = (WhiteBoardSocketDTO) converter.fromMessage(cborMessage, WhiteBoardSocketDTO.class);
+
+        // then
+        assertThat(converted.getWhiteBoardObjectId()).isEqualTo(7L);
+        assertThat(converter.fromMessage(plainMessage, WhiteBoardSocketDTO.class)).isNull();
+    }
+}
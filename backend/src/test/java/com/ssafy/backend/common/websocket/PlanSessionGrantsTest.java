@@ -0,0 +1,181 @@
+package com.ssafy.backend.common.websocket;
+
+import com.ssafy.backend.plan.exception.UserNotInPlanException;
+import com.ssafy.backend.plan.service.PlanMembershipCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class PlanSessionGrantsTest {
+
+    private static final String SESSION_ID = "session-1";
+    private static final Long PLAN_ID = 1L;
+    private static final Long USER_ID = 10L;
+
+    private final PlanMembershipCache planMembershipCache = mock(PlanMembershipCache.class);
+    private final SimpMessagingTemplate messagingTemplate = mock(SimpMessagingTemplate.class);
+    private final MessageChannel brokerChannel = mock(MessageChannel.class);
+    private final StompSubscriptionRegistry registry = new StompSubscriptionRegistry(mock(ApplicationEventPublisher.class));
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final Map<String, Object> sessionAttributes = new HashMap<>();
+    private PlanSessionGrants grants;
+
+    @BeforeEach
+    void setUp() {
+        grants = new PlanSessionGrants(planMembershipCache, registry, messagingTemplate, meterRegistry);
+        given(messagingTemplate.getMessageChannel()).willReturn(brokerChannel);
+        grants.bind(SESSION_ID, USER_ID, sessionAttributes);
+    }
+
+    @Test
+    @DisplayName("한 번 확인된 플랜은 이후 구독/전송에서 다시 확인하지 않음")
+    void authorizesOncePerSession() {
+        // when
+        for (int i = 0; i < 10; i++) {
+            grants.authorize(sessionAttributes, USER_ID, PLAN_ID);
+        }
+
+        // then
+        verify(planMembershipCache, times(1)).validateApprovedParticipant(PLAN_ID, USER_ID);
+    }
+
+    @Test
+    @DisplayName("참여자가 아니면 거부되고 권한이 보관되지 않음")
+    void rejectsNonParticipant() {
+        // given
+        willThrow(new UserNotInPlanException("당신은 이 방의 참여자가 아닙니다."))
+                .given(planMembershipCache).validateApprovedParticipant(PLAN_ID, USER_ID);
+
+        // when & then
+        assertThatThrownBy(() -> grants.authorize(sessionAttributes, USER_ID, PLAN_ID))
+                .isInstanceOf(UserNotInPlanException.class);
+        assertThat((Iterable<?>) sessionAttributes.get(PlanSessionGrants.GRANTS_ATTRIBUTE)).isEmpty();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "/topic/**", "/topic/*", "/topic/whiteboard/*", "/topic/whiteboard/**", "/topic/whiteboard/{planId}",
+            "/topic/whiteboard/abc", "/topic/whiteboard/", "/topic/whiteboard/-1", "/topic/whiteboard/+1",
+            "/topic/whiteboard/1/extra", "/topic/whiteboard/1.json", "/topic/other/1",
+            "/queue/**", "/queue/notifications", "/queue/notifications-usersession-2", "/user/queue/**"})
+    @DisplayName("정확한 플랜 topic이나 사용자 큐가 아닌 구독은 참여 여부 확인 없이 거부")
+    void rejectsNonPlanSubscriptions(String destination) {
+        // when & then
+        assertThatThrownBy(() -> grants.authorizeSubscription(sessionAttributes, USER_ID, destination))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(planMembershipCache);
+    }
+
+    @Test
+    @DisplayName("null destination 구독/전송은 거부")
+    void rejectsMissingDestination() {
+        assertThatThrownBy(() -> grants.authorizeSubscription(sessionAttributes, USER_ID, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> grants.authorizeSend(sessionAttributes, USER_ID, null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/topic/whiteboard/1", "/topic/whiteboard/1.cbor", "/topic/mouse/1"})
+    @DisplayName("플랜 topic 구독은 참여 여부를 확인한 뒤 허용")
+    void authorizesPlanSubscription(String destination) {
+        // when
+        grants.authorizeSubscription(sessionAttributes, USER_ID, destination);
+
+        // then
+        verify(planMembershipCache).validateApprovedParticipant(PLAN_ID, USER_ID);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/user/queue/notifications", "/user/queue/plan-access"})
+    @DisplayName("사용자 큐 구독은 플랜 권한 없이 허용")
+    void allowsUserQueues(String destination) {
+        // when
+        grants.authorizeSubscription(sessionAttributes, USER_ID, destination);
+
+        // then
+        verifyNoInteractions(planMembershipCache);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "/topic/whiteboard/1", "/queue/plan-access", "/app/whiteboard/abc", "/app/whiteboard/*",
+            "/app/whiteboard/1/extra", "/app/mouse/1", "/app/unknown/1"})
+    @DisplayName("플랜 destination이 아닌 전송(브로커 직접 전송 포함)은 거부")
+    void rejectsNonPlanSends(String destination) {
+        // when & then
+        assertThatThrownBy(() -> grants.authorizeSend(sessionAttributes, USER_ID, destination))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(planMembershipCache);
+    }
+
+    @Test
+    @DisplayName("플랜 destination 전송은 참여 여부를 확인한 뒤 허용")
+    void authorizesPlanSend() {
+        // when
+        grants.authorizeSend(sessionAttributes, USER_ID, "/app/mouse/move/" + PLAN_ID);
+
+        // then
+        verify(planMembershipCache).validateApprovedParticipant(PLAN_ID, USER_ID);
+    }
+
+    @Test
+    @DisplayName("권한이 회수되면 그 플랜 구독이 해제되고 사용자 큐로 알림이 감")
+    void revocationUnsubscribesAndNotifies() {
+        // given
+        grants.authorize(sessionAttributes, USER_ID, PLAN_ID);
+        subscribe("sub-1", "/topic/whiteboard/" + PLAN_ID);
+        subscribe("sub-2", "/topic/dayPlace/" + PLAN_ID + ".cbor");
+        subscribe("sub-3", "/topic/whiteboard/2");
+
+        // when
+        grants.onRevoked(new PlanAccessRevokedEvent(PLAN_ID, USER_ID));
+
+        // then
+        ArgumentCaptor<Message<?>> captor = ArgumentCaptor.forClass(Message.class);
+        verify(brokerChannel, times(2)).send(captor.capture());
+        assertThat(captor.getAllValues())
+                .allSatisfy(message -> assertThat(SimpMessageHeaderAccessor.getMessageType(message.getHeaders()))
+                        .isEqualTo(SimpMessageType.UNSUBSCRIBE));
+        assertThat(registry.subscriptionsOf(SESSION_ID)).containsOnlyKeys("sub-3");
+        verify(messagingTemplate).convertAndSendToUser(eq(String.valueOf(USER_ID)), eq(PlanSessionGrants.PLAN_ACCESS_QUEUE), any(Object.class));
+
+        // 다음 구독은 다시 확인함
+        grants.authorize(sessionAttributes, USER_ID, PLAN_ID);
+        verify(planMembershipCache, times(2)).validateApprovedParticipant(PLAN_ID, USER_ID);
+    }
+
+    private void subscribe(String subscriptionId, String destination) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.SUBSCRIBE);
+        accessor.setSessionId(SESSION_ID);
+        accessor.setSubscriptionId(subscriptionId);
+        accessor.setDestination(destination);
+        registry.onSubscribe(new SessionSubscribeEvent(this, MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders())));
+    }
+}
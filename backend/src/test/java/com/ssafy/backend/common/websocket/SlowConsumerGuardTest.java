@@ -0,0 +1,127 @@
+package com.ssafy.backend.common.websocket;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class SlowConsumerGuardTest {
+
+    private static final String SESSION_ID = "session-1";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MessageChannel channel = mock(MessageChannel.class);
+    private SlowConsumerGuard guard;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        // drop: 대기 2개 이상, resync: 대기 4개 이상 (정체 시간 기준은 테스트에서 사용하지 않도록 크게 설정)
+        guard = new SlowConsumerGuard(meterRegistry, 2, 4, 60_000, 60_000);
+
+        WebSocketSession session = mock(WebSocketSession.class);
+        given(session.getId()).willReturn(SESSION_ID);
+        guard.decorate(mock(WebSocketHandler.class)).afterConnectionEstablished(session);
+    }
+
+    @Test
+    @DisplayName("대기 프레임이 drop 기준을 넘으면 droppable 메시지만 버림")
+    void dropsOnlyDroppableFrames() {
+        // given: 처리되지 않은 프레임 2개
+        guard.preSend(message("/topic/whiteboard/1", false), channel);
+        guard.preSend(message("/topic/whiteboard/1", false), channel);
+
+        // when
+        Message<?> cursor = guard.preSend(message("/topic/mouse/1", true), channel);
+        Message<?> create = guard.preSend(message("/topic/whiteboard/1", false), channel);
+
+        // then
+        assertThat(cursor).isNull();
+        assertThat(create).isNotNull();
+        assertThat(meterRegistry.get("websocket.outbound.dropped").tag("destination", "mouse").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("대기 프레임이 resync 기준을 넘으면 ERROR(resync)로 바꾸고 이후 프레임은 모두 버림")
+    void requestsResyncWhenPendingExceedsLimit() {
+        // given: 처리되지 않은 프레임 4개
+        for (int i = 0; i < 4; i++) {
+            guard.preSend(message("/topic/whiteboard/1", false), channel);
+        }
+
+        // when
+        Message<?> resync = guard.preSend(message("/topic/whiteboard/1", false), channel);
+        Message<?> after = guard.preSend(message("/topic/whiteboard/1", false), channel);
+
+        // then
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(resync);
+        assertThat(accessor.getCommand()).isEqualTo(StompCommand.ERROR);
+        assertThat(accessor.getFirstNativeHeader(SlowConsumerGuard.RESYNC_HEADER)).isEqualTo("true");
+        assertThat(after).isNull();
+    }
+
+    @Test
+    @DisplayName("outbound 처리가 끝난 프레임은 대기 수에서 빠짐")
+    void handledFramesAreNotPending() {
+        // given: 프레임을 보낼 때마다 바로 처리됨
+        for (int i = 0; i < 10; i++) {
+            Message<?> sent = guard.preSend(message("/topic/whiteboard/1", false), channel);
+            guard.afterMessageHandled(sent, channel, m -> { }, null);
+        }
+
+        // when
+        Message<?> cursor = guard.preSend(message("/topic/mouse/1", true), channel);
+
+        // then
+        assertThat(cursor).isNotNull();
+    }
+
+    @Test
+    @DisplayName("outbound 실행기가 거절한 프레임은 대기 수에 남지 않음")
+    void rejectedFramesAreNotPending() {
+        // given: 작업을 항상 거절하는 실행기 (큐가 가득 찬 AbortPolicy와 같음)
+        ExecutorSubscribableChannel outbound = new ExecutorSubscribableChannel(task -> {
+            throw new RejectedExecutionException("queue full");
+        });
+        outbound.subscribe(m -> { });
+        outbound.addInterceptor(guard);
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            assertThatThrownBy(() -> outbound.send(message("/topic/whiteboard/1", false)))
+                    .isInstanceOf(MessageDeliveryException.class);
+        }
+        Message<?> cursor = guard.preSend(message("/topic/mouse/1", true), channel);
+
+        // then
+        assertThat(cursor).isNotNull();
+        assertThat(meterRegistry.get("websocket.outbound.pending").gauge().value()).isEqualTo(1);
+    }
+
+    private static Message<byte[]> message(String destination, boolean droppable) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setSessionId(SESSION_ID);
+        accessor.setDestination(destination);
+        if (droppable) {
+            accessor.setHeader(SocketBroadcaster.DROPPABLE_HEADER, true);
+        }
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
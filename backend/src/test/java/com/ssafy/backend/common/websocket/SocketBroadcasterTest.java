@@ -0,0 +1,156 @@
+package com.ssafy.backend.common.websocket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.backend.whiteBoard.dto.websocket.WhiteBoardSocketDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assumptions.assumeThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 실제 SimpleBroker에 N개 세션을 구독시킨 뒤 브로드캐스트 1건이 어떻게 팬아웃되는지 검증
+ * (동기 채널을 사용하므로 브로드캐스트 전 과정이 테스트 스레드에서 실행되어 스레드 단위 할당량 측정 가능)
+ * 세션별 STOMP 프레임 인코딩은 clientOutboundChannel 뒤에서 일어나므로 이 테스트의 범위가 아님
+ */
+class SocketBroadcasterTest {
+
+    private static final String DESTINATION = "/topic/whiteboard/1";
+    private static final int WARMUP = 50;
+    private static final int ITERATIONS = 200;
+
+    private final List<Message<?>> delivered = new CopyOnWriteArrayList<>();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ExecutorSubscribableChannel clientInboundChannel;
+    private SimpleBrokerMessageHandler broker;
+    private SocketBroadcaster socketBroadcaster;
+
+    private void setUp(int subscribers) {
+        clientInboundChannel = new ExecutorSubscribableChannel();
+        ExecutorSubscribableChannel brokerChannel = new ExecutorSubscribableChannel();
+        MessageChannel clientOutboundChannel = (message, timeout) -> delivered.add(message);
+
+        broker = new SimpleBrokerMessageHandler(clientInboundChannel, clientOutboundChannel, brokerChannel, List.of("/topic"));
+        broker.start();
+
+        for (int i = 0; i < subscribers; i++) {
+            clientInboundChannel.send(subscribe("session-" + i, DESTINATION));
+        }
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        socketBroadcaster = new SocketBroadcaster(
+                new SimpMessagingTemplate(brokerChannel),
+                mock(StompSubscriptionRegistry.class),
+                new BinaryPayloadCodec(Jackson2ObjectMapperBuilder.json()),
+                objectMapper,
+                meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        broker.stop();
+    }
+
+    @ParameterizedTest(name = "구독자 {0}명")
+    @ValueSource(ints = {2, 10, 50})
+    @DisplayName("브로드캐스트 1건은 한 번만 직렬화되고 모든 구독 세션이 같은 byte[]를 공유함")
+    void payloadIsEncodedOnceAndShared(int subscribers) {
+        // given
+        setUp(subscribers);
+        WhiteBoardSocketDTO move = WhiteBoardSocketDTO.builder()
+                .action("MOVE")
+                .whiteBoardObjectId(1L)
+                .x(10.5)
+                .y(20.25)
+                .build();
+
+        // when
+        socketBroadcaster.send(DESTINATION, move);
+
+        // then
+        assertThat(delivered).hasSize(subscribers);
+        Object shared = delivered.get(0).getPayload();
+        assertThat(shared).isInstanceOf(byte[].class);
+        assertThat(delivered).allSatisfy(message -> assertThat(message.getPayload()).isSameAs(shared));
+        assertThat(meterRegistry.get("websocket.broadcast.encode").tag("format", "json").timer().count()).isEqualTo(1);
+    }
+
+    @ParameterizedTest(name = "구독자 {0}명")
+    @ValueSource(ints = {2, 10, 50})
+    @DisplayName("브로커 단계의 브로드캐스트당 할당량은 구독자 수만큼 페이로드를 복사하는 양보다 훨씬 작음")
+    void allocationPerBroadcast(int subscribers) throws Exception {
+        // given: 직렬화 결과가 100KB 이상인 긴 펜 스트로크
+        setUp(subscribers);
+        WhiteBoardSocketDTO stroke = longStroke(10_000);
+        ObjectMapper objectMapper = new ObjectMapper();
+        int payloadBytes = objectMapper.writeValueAsBytes(stroke).length;
+        com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeThat(threadMXBean.isThreadAllocatedMemorySupported()).isTrue();
+        long threadId = Thread.currentThread().getId();
+
+        for (int i = 0; i < WARMUP; i++) {
+            objectMapper.writeValueAsBytes(stroke);
+            socketBroadcaster.send(DESTINATION, stroke);
+            delivered.clear();
+        }
+
+        // when: 직렬화만 했을 때와 브로드캐스트 전체의 할당량을 각각 측정
+        long before = threadMXBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < ITERATIONS; i++) {
+            objectMapper.writeValueAsBytes(stroke);
+        }
+        long perEncode = (threadMXBean.getThreadAllocatedBytes(threadId) - before) / ITERATIONS;
+
+        before = threadMXBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < ITERATIONS; i++) {
+            socketBroadcaster.send(DESTINATION, stroke);
+            delivered.clear();
+        }
+        long perBroadcast = (threadMXBean.getThreadAllocatedBytes(threadId) - before) / ITERATIONS;
+
+        // then: 직렬화를 뺀 나머지는 세션별 메시지 헤더뿐이라 세션당 페이로드의 1/10에도 못 미침 (페이로드를 복사하면 세션당 payloadBytes 이상)
+        long perSession = (perBroadcast - perEncode) / subscribers;
+        assertThat(payloadBytes).isGreaterThan(100_000);
+        assertThat(perSession).isLessThan(payloadBytes / 10);
+        assertThat(meterRegistry.get("websocket.broadcast.encode").tag("format", "json").timer().count())
+                .isEqualTo(WARMUP + ITERATIONS);
+    }
+
+    private static WhiteBoardSocketDTO longStroke(int pointCount) {
+        double[] points = new double[pointCount * 2];
+        for (int i = 0; i < points.length; i++) {
+            points[i] = 1000 + i * 0.37;
+        }
+        return WhiteBoardSocketDTO.builder()
+                .action("MODIFY_LINE")
+                .whiteBoardObjectId(1L)
+                .points(points)
+                .build();
+    }
+
+    private static Message<byte[]> subscribe(String sessionId, String destination) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.SUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId("sub-0");
+        accessor.setDestination(destination);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
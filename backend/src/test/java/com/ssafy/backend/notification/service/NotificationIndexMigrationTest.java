@@ -0,0 +1,46 @@
+package com.ssafy.backend.notification.service;
+
+import com.ssafy.backend.common.config.QuerydslTestConfig;
+import com.ssafy.backend.notification.repository.NotificationJdbcRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// DDL은 트랜잭션을 커밋하므로 테스트 트랜잭션 없이 실행함
+@DataJpaTest
+@Import({QuerydslTestConfig.class, NotificationJdbcRepository.class, NotificationIndexMigration.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class NotificationIndexMigrationTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private NotificationJdbcRepository notificationJdbcRepository;
+
+    @Autowired
+    private NotificationIndexMigration migration;
+
+    @Test
+    @DisplayName("선언된 인덱스가 없으면 만들고, 이미 있으면 아무것도 하지 않음")
+    void createsOnlyMissingIndexes() {
+        // given: ddl-auto가 인덱스를 만들지 않은 스키마
+        jdbcTemplate.execute("DROP INDEX IF EXISTS idx_notification_user_created");
+
+        // when
+        int created = migration.migrate();
+
+        // then
+        assertThat(created).isEqualTo(1);
+        assertThat(notificationJdbcRepository.hasIndex("idx_notification_user_created")).isTrue();
+        assertThat(notificationJdbcRepository.hasIndex("idx_notification_user_read")).isTrue();
+        assertThat(migration.migrate()).isZero();
+    }
+}
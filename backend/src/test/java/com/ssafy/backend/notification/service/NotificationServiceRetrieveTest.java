@@ -0,0 +1,153 @@
+package com.ssafy.backend.notification.service;
+
+import com.ssafy.backend.common.config.QuerydslTestConfig;
+import com.ssafy.backend.common.util.S3Util;
+import com.ssafy.backend.notification.dto.NotificationResponseDTO;
+import com.ssafy.backend.notification.entity.Notification;
+import com.ssafy.backend.notification.repository.NotificationRepository;
+import com.ssafy.backend.user.entity.User;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DataJpaTest
+@Import(QuerydslTestConfig.class)
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class NotificationServiceRetrieveTest {
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    private final S3Util s3Util = mock(S3Util.class);
+    private NotificationService notificationService;
+    private Statistics statistics;
+    private Long receiverId;
+
+    @BeforeEach
+    void setUp() {
+        notificationService = new NotificationService(notificationRepository, s3Util,
+                mock(NotificationWriteQueue.class), mock(NotificationUnreadCounter.class));
+        statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        given(s3Util.getUrl(anyString())).willAnswer(invocation -> "https://signed/" + invocation.getArgument(0));
+
+        User receiver = user("receiver", "receiver.png");
+        receiverId = receiver.getUserId();
+
+        // 이미지 사용자 5명(그중 3명은 같은 placeholder), 알림 40개
+        List<User> imageUsers = new ArrayList<>();
+        imageUsers.add(user("a", "placeholder.png"));
+        imageUsers.add(user("b", "placeholder.png"));
+        imageUsers.add(user("c", "placeholder.png"));
+        imageUsers.add(user("d", "users/d.png"));
+        imageUsers.add(user("e", "users/e.png"));
+        for (int i = 0; i < 40; i++) {
+            em.persist(Notification.builder()
+                    .user(receiver)
+                    .imageUserId(imageUsers.get(i % imageUsers.size()).getUserId())
+                    .message("알림 " + i)
+                    .build());
+        }
+        // 탈퇴한 이미지 사용자의 알림
+        em.persist(Notification.builder().user(receiver).imageUserId(-1L).message("탈퇴한 사용자").build());
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    @DisplayName("알림 수와 상관없이 쿼리 1회, URL 서명은 이미지 키별 1회")
+    void retrievesWithSingleQuery() {
+        // when
+        statistics.clear();
+        List<NotificationResponseDTO> result = notificationService.retrieveMessage(receiverId, null, null, 50);
+
+        // then
+        assertThat(result).hasSize(41);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        verify(s3Util, times(1)).getUrl("placeholder.png");
+        verify(s3Util, times(1)).getUrl("users/d.png");
+        verify(s3Util, times(1)).getUrl("users/e.png");
+        assertThat(result).filteredOn(n -> n.getMessage().equals("탈퇴한 사용자"))
+                .singleElement()
+                .satisfies(n -> assertThat(n.getUserImgUrl()).isNull());
+    }
+
+    @Test
+    @DisplayName("커서로 이어서 조회하면 created_at이 같은 알림도 빠짐없이 한 번씩 최신순으로 조회됨")
+    void pagesWithKeysetCursor() {
+        // given
+        List<NotificationResponseDTO> all = new ArrayList<>();
+        NotificationResponseDTO last = null;
+
+        // when
+        do {
+            List<NotificationResponseDTO> page = last == null
+                    ? notificationService.retrieveMessage(receiverId, null, null, 15)
+                    : notificationService.retrieveMessage(receiverId, last.getCreatedAt(), last.getNotificationId(), 15);
+            if (page.isEmpty()) {
+                break;
+            }
+            all.addAll(page);
+            last = page.get(page.size() - 1);
+        } while (true);
+
+        // then
+        Set<Long> ids = new HashSet<>();
+        all.forEach(n -> ids.add(n.getNotificationId()));
+        assertThat(all).hasSize(41);
+        assertThat(ids).hasSize(41);
+        for (int i = 1; i < all.size(); i++) {
+            NotificationResponseDTO prev = all.get(i - 1);
+            NotificationResponseDTO cur = all.get(i);
+            assertThat(prev.getCreatedAt()).isAfterOrEqualTo(cur.getCreatedAt());
+            if (prev.getCreatedAt().equals(cur.getCreatedAt())) {
+                assertThat(prev.getNotificationId()).isGreaterThan(cur.getNotificationId());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("모두 읽음은 UPDATE 한 번으로 처리됨")
+    void marksAllReadWithSingleUpdate() {
+        // when
+        statistics.clear();
+        notificationService.updateAllRead(receiverId);
+
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        em.clear();
+        assertThat(notificationService.retrieveMessage(receiverId, null, null, 100))
+                .allSatisfy(n -> assertThat(n.getIsRead()).isTrue());
+    }
+
+    private User user(String name, String profileImage) {
+        User user = User.builder()
+                .userName(name)
+                .googleEmail(name + "@test.com")
+                .profileImage(profileImage)
+                .build();
+        em.persist(user);
+        return user;
+    }
+}
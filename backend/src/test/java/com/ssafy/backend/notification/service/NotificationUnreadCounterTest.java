@@ -0,0 +1,134 @@
+package com.ssafy.backend.notification.service;
+
+import com.ssafy.backend.notification.repository.NotificationRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class NotificationUnreadCounterTest {
+
+    private static final Long USER_ID = 1L;
+
+    private final NotificationRepository notificationRepository = mock(NotificationRepository.class);
+    private final NotificationUnreadCounter counter =
+            new NotificationUnreadCounter(notificationRepository, new SimpleMeterRegistry(), 60_000, 100);
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("바뀌지 않는 동안은 COUNT 쿼리를 다시 실행하지 않음")
+    void countsWithoutRequerying() {
+        // given
+        given(notificationRepository.countByUser_UserIdAndIsReadFalse(USER_ID)).willReturn(3L);
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            counter.get(USER_ID);
+        }
+
+        // then
+        assertThat(counter.get(USER_ID)).isEqualTo(3);
+        verify(notificationRepository, times(1)).countByUser_UserIdAndIsReadFalse(USER_ID);
+    }
+
+    @Test
+    @DisplayName("알림이 저장/읽음 처리되면 그 사용자의 값만 다시 셈")
+    void recountsChangedUserOnly() {
+        // given
+        given(notificationRepository.countByUser_UserIdAndIsReadFalse(USER_ID)).willReturn(3L, 5L);
+        given(notificationRepository.countByUser_UserIdAndIsReadFalse(2L)).willReturn(1L);
+        counter.get(USER_ID);
+        counter.get(2L);
+
+        // when
+        counter.changed(USER_ID);
+
+        // then
+        assertThat(counter.get(USER_ID)).isEqualTo(5);
+        assertThat(counter.get(2L)).isEqualTo(1);
+        verify(notificationRepository, times(2)).countByUser_UserIdAndIsReadFalse(USER_ID);
+        verify(notificationRepository, times(1)).countByUser_UserIdAndIsReadFalse(2L);
+    }
+
+    @Test
+    @DisplayName("읽음 처리는 커밋된 뒤에만 반영됨")
+    void invalidatesAfterCommit() {
+        // given
+        given(notificationRepository.countByUser_UserIdAndIsReadFalse(USER_ID)).willReturn(3L, 2L);
+        counter.get(USER_ID);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        counter.changed(USER_ID);
+
+        // then
+        assertThat(counter.get(USER_ID)).isEqualTo(3);
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCommit();
+        }
+        assertThat(counter.get(USER_ID)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("적재와 알림 저장이 동시에 일어나도 캐시된 값이 DB의 읽지 않은 알림 수와 같음")
+    void concurrentLoadAndChange() throws Exception {
+        // given: 다른 스레드에서도 안전하게 바꿀 수 있도록 DB 상태를 참조로 둠
+        AtomicLong stored = new AtomicLong();
+        given(notificationRepository.countByUser_UserIdAndIsReadFalse(USER_ID))
+                .willAnswer(invocation -> stored.get());
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        CyclicBarrier start = new CyclicBarrier(3);
+
+        try {
+            for (int i = 0; i < 500; i++) {
+                counter.changed(USER_ID);
+
+                // when: 두 스레드는 조회(적재), 다른 스레드는 알림 저장(DB 반영 후 changed)
+                List<Future<?>> futures = new ArrayList<>();
+                for (int reader = 0; reader < 2; reader++) {
+                    futures.add(executor.submit(() -> {
+                        start.await();
+                        return counter.get(USER_ID);
+                    }));
+                }
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    stored.incrementAndGet();
+                    counter.changed(USER_ID);
+                    return null;
+                }));
+                for (Future<?> future : futures) {
+                    future.get(5, TimeUnit.SECONDS);
+                }
+
+                // then
+                assertThat(counter.get(USER_ID)).isEqualTo(stored.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
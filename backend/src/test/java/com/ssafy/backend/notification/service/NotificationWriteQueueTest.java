@@ -0,0 +1,189 @@
+package com.ssafy.backend.notification.service;
+
+import com.ssafy.backend.notification.entity.NotificationType;
+import com.ssafy.backend.notification.repository.NotificationJdbcRepository;
+import com.ssafy.backend.notification.service.NotificationWriteQueue.PendingNotification;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class NotificationWriteQueueTest {
+
+    private final NotificationJdbcRepository notificationJdbcRepository = mock(NotificationJdbcRepository.class);
+    private final NotificationPusher notificationPusher = mock(NotificationPusher.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("트랜잭션이 커밋된 뒤에만 적재되고, 롤백되면 저장되지 않음")
+    void enqueuesOnlyAfterCommit() {
+        // given
+        NotificationWriteQueue queue = queue(100, 50);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when: 커밋 전
+        queue.enqueueAfterCommit(1L, 2L, NotificationType.JOIN_REQUEST, "참여 요청");
+        queue.flush();
+
+        // then
+        verify(notificationJdbcRepository, never()).batchInsert(anyList());
+
+        // when: 커밋
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCommit();
+        }
+        queue.flush();
+
+        // then
+        verify(notificationJdbcRepository, times(1)).batchInsert(argThat(batch -> batch.size() == 1));
+    }
+
+    @Test
+    @DisplayName("참여 요청이 몰려도 batch-size 단위로 묶어서 저장함")
+    void batchesBurst() {
+        // given
+        NotificationWriteQueue queue = queue(1000, 100);
+        for (long i = 0; i < 250; i++) {
+            queue.enqueueAfterCommit(1L, i, NotificationType.JOIN_REQUEST, "참여 요청 " + i);
+        }
+
+        // when
+        queue.flush();
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<PendingNotification>> captor = ArgumentCaptor.forClass(List.class);
+        verify(notificationJdbcRepository, times(3)).batchInsert(captor.capture());
+        assertThat(captor.getAllValues()).extracting(List::size).containsExactly(100, 100, 50);
+        assertThat(meterRegistry.get("notification.write.inserted").counter().count()).isEqualTo(250);
+    }
+
+    @Test
+    @DisplayName("묶음 저장이 실패하면 한 건씩 다시 저장하고, 실패한 알림만 다음 주기에 재시도함")
+    void isolatesFailedNotification() {
+        // given: receiverUserId=99 는 저장 실패 (탈퇴한 사용자 등)
+        NotificationWriteQueue queue = queue(100, 50);
+        willThrow(new RuntimeException("FK 위반")).given(notificationJdbcRepository)
+                .batchInsert(argThat(batch -> batch.stream().anyMatch(n -> n.receiverUserId().equals(99L))));
+        queue.enqueueAfterCommit(1L, 2L, NotificationType.JOIN_ACCEPT, "수락");
+        queue.enqueueAfterCommit(99L, 2L, NotificationType.JOIN_ACCEPT, "수락");
+        queue.enqueueAfterCommit(3L, 2L, NotificationType.JOIN_ACCEPT, "수락");
+
+        // when: max-attempts(3)번 플러시
+        queue.flush();
+        queue.flush();
+        queue.flush();
+
+        // then
+        assertThat(meterRegistry.get("notification.write.inserted").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("notification.write.retried").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("notification.write.failed").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("notification.write.pending").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 호출한 스레드에서 바로 저장함")
+    void writesDirectlyOnOverflow() {
+        // given
+        NotificationWriteQueue queue = queue(1, 50);
+        queue.enqueueAfterCommit(1L, 2L, NotificationType.JOIN_REQUEST, "첫 번째");
+
+        // when
+        queue.enqueueAfterCommit(1L, 3L, NotificationType.JOIN_REQUEST, "두 번째");
+
+        // then
+        verify(notificationJdbcRepository, times(1)).batchInsert(argThat(batch -> batch.get(0).message().equals("두 번째")));
+        assertThat(meterRegistry.get("notification.write.overflow").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("저장에 성공한 알림만 생성된 id와 함께 사용자 큐로 전송함")
+    void pushesOnlyStoredNotifications() {
+        // given
+        NotificationWriteQueue queue = queue(100, 50);
+        given(notificationJdbcRepository.batchInsert(argThat(batch -> batch.size() == 1 && batch.get(0).receiverUserId().equals(1L))))
+                .willReturn(List.of(10L));
+        willThrow(new RuntimeException("FK 위반")).given(notificationJdbcRepository)
+                .batchInsert(argThat(batch -> batch.stream().anyMatch(n -> n.receiverUserId().equals(99L))));
+        queue.enqueueAfterCommit(1L, 2L, NotificationType.JOIN_REQUEST, "참여 요청");
+        queue.enqueueAfterCommit(99L, 2L, NotificationType.JOIN_REQUEST, "참여 요청");
+
+        // when
+        queue.flush();
+
+        // then
+        verify(notificationPusher, times(1)).push(argThat(batch -> batch.size() == 1 && batch.get(0).receiverUserId().equals(1L)), eq(List.of(10L)));
+        verify(notificationPusher, never()).push(argThat(batch -> batch.stream().anyMatch(n -> n.receiverUserId().equals(99L))), anyList());
+    }
+
+    @Test
+    @DisplayName("종료 시 첫 저장이 실패해도 큐가 빌 때까지 다시 저장함")
+    void shutdownRetriesUntilEmpty() {
+        // given: 첫 batch INSERT만 실패 (일시적인 연결 끊김)
+        NotificationWriteQueue queue = queue(100, 50);
+        given(notificationJdbcRepository.batchInsert(anyList()))
+                .willThrow(new RuntimeException("연결 끊김"))
+                .willThrow(new RuntimeException("연결 끊김"))
+                .willReturn(List.of(10L));
+        queue.enqueueAfterCommit(1L, 2L, NotificationType.JOIN_ACCEPT, "수락");
+        queue.enqueueAfterCommit(3L, 2L, NotificationType.JOIN_ACCEPT, "수락");
+
+        // when
+        queue.shutdown();
+
+        // then: 묶음 실패 → 한 건씩 저장 (첫 건은 실패 후 재시도로 저장)
+        assertThat(meterRegistry.get("notification.write.inserted").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("notification.write.retried").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("notification.write.failed").counter().count()).isZero();
+        assertThat(meterRegistry.get("notification.write.abandoned").counter().count()).isZero();
+        assertThat(meterRegistry.get("notification.write.pending").gauge().value()).isZero();
+        verify(notificationPusher, times(2)).push(anyList(), eq(List.of(10L)));
+    }
+
+    @Test
+    @DisplayName("종료 시간 안에 저장하지 못한 알림은 버린 건수로 집계하고, 종료 뒤 들어온 알림은 바로 저장함")
+    void countsAbandonedAfterDeadline() {
+        // given
+        NotificationWriteQueue queue = new NotificationWriteQueue(
+                notificationJdbcRepository, notificationPusher, meterRegistry, 100, 50, 3, 0);
+        queue.enqueueAfterCommit(1L, 2L, NotificationType.JOIN_REQUEST, "참여 요청");
+        queue.enqueueAfterCommit(3L, 2L, NotificationType.JOIN_REQUEST, "참여 요청");
+
+        // when
+        queue.shutdown();
+        queue.enqueueAfterCommit(4L, 2L, NotificationType.JOIN_REQUEST, "종료 후");
+
+        // then
+        assertThat(meterRegistry.get("notification.write.abandoned").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("notification.write.pending").gauge().value()).isZero();
+        verify(notificationJdbcRepository, times(1)).batchInsert(argThat(batch -> batch.get(0).message().equals("종료 후")));
+        verify(notificationJdbcRepository, times(1)).batchInsert(anyList());
+    }
+
+    private NotificationWriteQueue queue(int capacity, int batchSize) {
+        return new NotificationWriteQueue(notificationJdbcRepository, notificationPusher, meterRegistry, capacity, batchSize, 3, 10_000);
+    }
+}
@@ -0,0 +1,211 @@
+package com.ssafy.backend.plan.service;
+
+import com.ssafy.backend.common.config.QuerydslTestConfig;
+import com.ssafy.backend.place.entity.Place;
+import com.ssafy.backend.plan.dto.request.CreateDayPlaceRequestDTO;
+import com.ssafy.backend.plan.dto.request.UpdateInnerPositionRequestDTO;
+import com.ssafy.backend.plan.entity.DayPlace;
+import com.ssafy.backend.plan.entity.DaySchedule;
+import com.ssafy.backend.plan.entity.Plan;
+import com.ssafy.backend.plan.repository.DayPlaceRepository;
+import com.ssafy.backend.plan.util.SparseOrder;
+import com.ssafy.backend.user.entity.User;
+import com.ssafy.backend.user.entity.UserPlan;
+import com.ssafy.backend.user.entity.UserStatus;
+import com.ssafy.backend.user.entity.UserType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({QuerydslTestConfig.class, DayPlaceService.class, PlanMembershipCache.class, SparseOrderRebalanceQueue.class,
+        SimpleMeterRegistry.class})
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class DayPlaceServiceOrderTest {
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private DayPlaceService dayPlaceService;
+
+    @Autowired
+    private DayPlaceRepository dayPlaceRepository;
+
+    @Autowired
+    private PlanMembershipCache planMembershipCache;
+
+    @Autowired
+    private SparseOrderRebalanceQueue sparseOrderRebalanceQueue;
+
+    private Statistics statistics;
+    private Long userId;
+    private Long planId;
+
+    @BeforeEach
+    void setUp() {
+        statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+
+        User user = User.builder().userName("tester").googleEmail("tester@test.com").build();
+        Plan plan = Plan.builder().planName("plan").build();
+        em.persist(user);
+        em.persist(plan);
+        em.persist(UserPlan.builder().user(user).plan(plan).userType(UserType.CREATOR).userStatus(UserStatus.APPROVED).build());
+
+        userId = user.getUserId();
+        planId = plan.getPlanId();
+    }
+
+    @Test
+    @DisplayName("기존 연속 키(1..50) 일정에서 순서 변경/삽입을 반복해도 순서가 기대값과 같음")
+    void reorderKeepsExpectedOrder() {
+        // given: 밀기가 필요한 연속 키로 저장된 50개 여행지
+        DaySchedule daySchedule = daySchedule(50);
+        Long dayScheduleId = daySchedule.getDayScheduleId();
+        List<Long> expected = new ArrayList<>(orderedIds(dayScheduleId));
+        Random random = new Random(7);
+
+        // when
+        for (int step = 0; step < 200; step++) {
+            if (step % 5 == 0) {
+                int position = 1 + random.nextInt(expected.size() + 1);
+                Long created = dayPlaceService.createDayPlace(planId, dayScheduleId,
+                        CreateDayPlaceRequestDTO.builder().placeId(place().getPlaceId()).indexOrder(position).build(), userId);
+                expected.add(position - 1, created);
+            } else {
+                int from = 1 + random.nextInt(expected.size());
+                int to = 1 + random.nextInt(expected.size());
+                moveInner(dayScheduleId, expected.get(from - 1), from, to);
+                expected.add(to - 1, expected.remove(from - 1));
+            }
+            em.flush();
+            em.clear();
+        }
+
+        // then
+        assertThat(orderedIds(dayScheduleId)).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("뒤 여행지를 밀어야 하는 순서 변경도 일정 크기와 상관없이 SQL 수가 같음")
+    void shiftStatementCountIsConstant() {
+        // given: 연속 키라 맨 뒤 -> 두 번째 이동 시 항상 밀기가 필요함 (참여 상태는 미리 캐시)
+        planMembershipCache.getMembership(planId, userId);
+
+        // when
+        long small = statementsForMoveToSecond(daySchedule(5));
+        long large = statementsForMoveToSecond(daySchedule(50));
+
+        // then
+        assertThat(small).isPositive();
+        assertThat(large).isEqualTo(small);
+    }
+
+    @Test
+    @DisplayName("연속 키 일정은 재배정 대상으로 조회/등록되고, 재배정하면 순서는 그대로 GAP 배수 키가 되어 이후 이동은 한 행만 수정함")
+    void rebalanceSpreadsLegacyKeys() {
+        // given: 예전 방식의 연속 키 50개
+        DaySchedule daySchedule = daySchedule(50);
+        Long dayScheduleId = daySchedule.getDayScheduleId();
+        List<Long> ids = orderedIds(dayScheduleId);
+        assertThat(dayPlaceRepository.findPlanIdsWithCrowdedIndexOrders(SparseOrder.MIN_GAP)).containsExactly(planId);
+
+        moveInner(dayScheduleId, ids.get(49), 50, 2);
+        em.flush();
+        em.clear();
+        assertThat(sparseOrderRebalanceQueue.drain(10)).containsExactly(planId);
+        List<Long> expected = new ArrayList<>(ids);
+        expected.add(1, expected.remove(49));
+
+        // when
+        int updated = dayPlaceService.rebalanceIndexOrders(planId);
+        em.flush();
+        em.clear();
+
+        // then
+        assertThat(updated).isEqualTo(50);
+        assertThat(orderedIds(dayScheduleId)).isEqualTo(expected);
+        assertThat(dayPlaceRepository.getDayScheduleByDayScheduleIdAndPlanId(dayScheduleId, planId).stream()
+                .map(DayPlace::getIndexOrder).sorted().toList())
+                .isEqualTo(IntStream.rangeClosed(1, 50).mapToObj(SparseOrder::rebalancedKey).toList());
+        assertThat(dayPlaceRepository.findPlanIdsWithCrowdedIndexOrders(SparseOrder.MIN_GAP)).isEmpty();
+        assertThat(dayPlaceService.rebalanceIndexOrders(planId)).isZero();
+
+        // 펼친 뒤에는 맨 뒤 -> 두 번째 이동이 밀기 없이 옮긴 행만 수정
+        em.clear();
+        statistics.clear();
+        moveInner(dayScheduleId, expected.get(49), 50, 2);
+        em.flush();
+        assertThat(statistics.getEntityUpdateCount()).isEqualTo(1);
+        assertThat(sparseOrderRebalanceQueue.size()).isZero();
+    }
+
+    private long statementsForMoveToSecond(DaySchedule daySchedule) {
+        Long dayScheduleId = daySchedule.getDayScheduleId();
+        List<Long> ids = orderedIds(dayScheduleId);
+        em.clear();
+
+        statistics.clear();
+        moveInner(dayScheduleId, ids.get(ids.size() - 1), ids.size(), 2);
+        em.flush();
+        long statements = statistics.getPrepareStatementCount();
+        em.clear();
+
+        List<Long> expected = new ArrayList<>(ids);
+        expected.add(1, expected.remove(ids.size() - 1));
+        assertThat(orderedIds(dayScheduleId)).isEqualTo(expected);
+        return statements;
+    }
+
+    private void moveInner(Long dayScheduleId, Long dayPlaceId, int from, int to) {
+        dayPlaceService.updateInnerPosition(planId, dayScheduleId, UpdateInnerPositionRequestDTO.builder()
+                .dayPlaceId(dayPlaceId)
+                .indexOrder(from)
+                .modifiedIndexOrder(to)
+                .build(), userId);
+    }
+
+    // 예전 방식처럼 indexOrder를 1부터 연속으로 저장한 일정
+    private DaySchedule daySchedule(int stops) {
+        DaySchedule daySchedule = DaySchedule.builder()
+                .plan(em.find(Plan.class, planId))
+                .dayOrder(1)
+                .title("day")
+                .build();
+        em.persist(daySchedule);
+        for (int i = 1; i <= stops; i++) {
+            em.persist(DayPlace.builder().daySchedule(daySchedule).place(place()).indexOrder(i).build());
+        }
+        em.flush();
+        return daySchedule;
+    }
+
+    private Place place() {
+        Place place = Place.builder().placeName("place").build();
+        em.persist(place);
+        return place;
+    }
+
+    private List<Long> orderedIds(Long dayScheduleId) {
+        return dayPlaceRepository.getDayScheduleByDayScheduleIdAndPlanId(dayScheduleId, planId).stream()
+                .sorted(Comparator.comparingInt(DayPlace::getIndexOrder))
+                .map(DayPlace::getDayPlaceId)
+                .toList();
+    }
+}
@@ -0,0 +1,239 @@
+package com.ssafy.backend.plan.service;
+
+import com.ssafy.backend.common.websocket.PlanAccessRevokedEvent;
+import com.ssafy.backend.plan.exception.PendingUserException;
+import com.ssafy.backend.plan.exception.PlanNotExistException;
+import com.ssafy.backend.plan.exception.UserNotInPlanException;
+import com.ssafy.backend.plan.repository.PlanRepository;
+import com.ssafy.backend.plan.repository.UserPlanRepository;
+import com.ssafy.backend.user.entity.UserPlan;
+import com.ssafy.backend.user.entity.UserStatus;
+import com.ssafy.backend.user.entity.UserType;
+import com.ssafy.backend.user.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class PlanMembershipCacheTest {
+
+    private static final Long PLAN_ID = 1L;
+    private static final Long USER_ID = 10L;
+
+    private final UserPlanRepository userPlanRepository = mock(UserPlanRepository.class);
+    private final PlanRepository planRepository = mock(PlanRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private PlanMembershipCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new PlanMembershipCache(userPlanRepository, planRepository, userRepository, eventPublisher, meterRegistry, 60_000, 100);
+        given(planRepository.existsById(PLAN_ID)).willReturn(true);
+        given(userRepository.existsById(USER_ID)).willReturn(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("캐시 적중 시 DB를 조회하지 않고 적중률 지표가 남음")
+    void hitSkipsRepository() {
+        // given
+        givenMembership(UserStatus.APPROVED);
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            cache.validateApprovedParticipant(PLAN_ID, USER_ID);
+        }
+
+        // then
+        verify(userPlanRepository, times(1)).findByPlan_PlanIdAndUser_UserId(PLAN_ID, USER_ID);
+        assertThat(meterRegistry.get("plan.membership_cache.requests").tag("result", "hit").counter().count()).isEqualTo(4);
+        assertThat(meterRegistry.get("plan.membership_cache.requests").tag("result", "miss").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("강퇴/나가기 후 evict하면 다음 요청부터 바로 거부됨")
+    void revocationTakesEffectImmediately() {
+        // given
+        givenMembership(UserStatus.APPROVED);
+        cache.validateApprovedParticipant(PLAN_ID, USER_ID);
+
+        // when
+        given(userPlanRepository.findByPlan_PlanIdAndUser_UserId(PLAN_ID, USER_ID)).willReturn(Optional.empty());
+        cache.evict(PLAN_ID, USER_ID);
+
+        // then
+        assertThatThrownBy(() -> cache.validateApprovedParticipant(PLAN_ID, USER_ID))
+                .isInstanceOf(UserNotInPlanException.class);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 중 커밋 전 값으로 다시 적재되어도 커밋 이후 한 번 더 제거됨")
+    void evictsAgainAfterCommit() {
+        // given
+        givenMembership(UserStatus.APPROVED);
+        cache.validateApprovedParticipant(PLAN_ID, USER_ID);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when: 커밋 전에 다른 요청이 기존 값(APPROVED)을 다시 적재
+        cache.evict(PLAN_ID, USER_ID);
+        cache.validateApprovedParticipant(PLAN_ID, USER_ID);
+        given(userPlanRepository.findByPlan_PlanIdAndUser_UserId(PLAN_ID, USER_ID)).willReturn(Optional.empty());
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        }
+
+        // then
+        assertThatThrownBy(() -> cache.validateApprovedParticipant(PLAN_ID, USER_ID))
+                .isInstanceOf(UserNotInPlanException.class);
+    }
+
+    @Test
+    @DisplayName("승인 대기 상태는 거부되고, 승인 후 evict하면 바로 허용됨")
+    void approvalTakesEffectImmediately() {
+        // given
+        givenMembership(UserStatus.PENDING);
+        assertThatThrownBy(() -> cache.validateApprovedParticipant(PLAN_ID, USER_ID))
+                .isInstanceOf(PendingUserException.class);
+
+        // when
+        givenMembership(UserStatus.APPROVED);
+        cache.evict(PLAN_ID, USER_ID);
+
+        // then
+        assertThat(cache.validateApprovedParticipant(PLAN_ID, USER_ID).userStatus()).isEqualTo(UserStatus.APPROVED);
+    }
+
+    @Test
+    @DisplayName("플랜 삭제 시 그 플랜의 참여 상태가 모두 제거됨")
+    void evictPlanRemovesAllMembers() {
+        // given
+        givenMembership(UserStatus.APPROVED);
+        cache.getMembership(PLAN_ID, USER_ID);
+
+        // when
+        given(userPlanRepository.findByPlan_PlanIdAndUser_UserId(PLAN_ID, USER_ID)).willReturn(Optional.empty());
+        given(planRepository.existsById(PLAN_ID)).willReturn(false);
+        cache.evictPlan(PLAN_ID);
+
+        // then
+        assertThatThrownBy(() -> cache.getMembership(PLAN_ID, USER_ID))
+                .isInstanceOf(PlanNotExistException.class);
+    }
+
+    @Test
+    @DisplayName("권한 회수 이벤트는 커밋된 경우에만 캐시 제거 이후 발행됨")
+    void revokePublishesAfterCommit() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        cache.revoke(PLAN_ID, USER_ID);
+
+        // then
+        verify(eventPublisher, never()).publishEvent(any(PlanAccessRevokedEvent.class));
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        }
+        verify(eventPublisher).publishEvent(any(PlanAccessRevokedEvent.class));
+    }
+
+    @Test
+    @DisplayName("DB 조회 도중 evict되면 조회한 값은 반환만 하고 캐시에 남기지 않음")
+    void evictDuringLoadIsNotOverwritten() {
+        // given: 조회 결과를 받은 직후, 저장 전에 강퇴가 커밋되고 evict됨
+        UserPlan approved = UserPlan.builder().userStatus(UserStatus.APPROVED).userType(UserType.USER).build();
+        given(userPlanRepository.findByPlan_PlanIdAndUser_UserId(PLAN_ID, USER_ID)).willAnswer(invocation -> {
+            cache.evict(PLAN_ID, USER_ID);
+            return Optional.of(approved);
+        });
+
+        // when
+        UserStatus loaded = cache.getMembership(PLAN_ID, USER_ID).userStatus();
+        given(userPlanRepository.findByPlan_PlanIdAndUser_UserId(PLAN_ID, USER_ID)).willReturn(Optional.empty());
+
+        // then
+        assertThat(loaded).isEqualTo(UserStatus.APPROVED);
+        assertThatThrownBy(() -> cache.getMembership(PLAN_ID, USER_ID))
+                .isInstanceOf(UserNotInPlanException.class);
+    }
+
+    @Test
+    @DisplayName("적재와 evict가 동시에 일어나도 evict 이후에는 이전 참여 상태가 캐시에 남지 않음")
+    void concurrentLoadAndEvict() throws Exception {
+        // given: 다른 스레드에서도 안전하게 바꿀 수 있도록 DB 상태를 참조로 둠
+        UserPlan approved = UserPlan.builder().userStatus(UserStatus.APPROVED).userType(UserType.USER).build();
+        AtomicReference<UserPlan> stored = new AtomicReference<>();
+        given(userPlanRepository.findByPlan_PlanIdAndUser_UserId(PLAN_ID, USER_ID))
+                .willAnswer(invocation -> Optional.ofNullable(stored.get()));
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        CyclicBarrier start = new CyclicBarrier(2);
+
+        try {
+            for (int i = 0; i < 500; i++) {
+                stored.set(approved);
+                cache.evict(PLAN_ID, USER_ID);
+
+                // when: 한 스레드는 적재, 다른 스레드는 강퇴(DB 반영 후 evict)
+                Future<?> load = executor.submit(() -> {
+                    start.await();
+                    return cache.getMembership(PLAN_ID, USER_ID);
+                });
+                Future<?> revoke = executor.submit(() -> {
+                    start.await();
+                    stored.set(null);
+                    cache.evict(PLAN_ID, USER_ID);
+                    return null;
+                });
+                try {
+                    load.get(5, TimeUnit.SECONDS);
+                } catch (Exception ignored) {
+                    // 강퇴가 먼저 반영되면 적재 쪽은 참여자가 아니라는 예외를 받음
+                }
+                revoke.get(5, TimeUnit.SECONDS);
+
+                // then
+                assertThatThrownBy(() -> cache.getMembership(PLAN_ID, USER_ID))
+                        .isInstanceOf(UserNotInPlanException.class);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void givenMembership(UserStatus userStatus) {
+        UserPlan userPlan = UserPlan.builder()
+                .userStatus(userStatus)
+                .userType(UserType.USER)
+                .build();
+        given(userPlanRepository.findByPlan_PlanIdAndUser_UserId(PLAN_ID, USER_ID)).willReturn(Optional.of(userPlan));
+    }
+}
@@ -0,0 +1,141 @@
+package com.ssafy.backend.plan.service;
+
+import com.ssafy.backend.common.config.QuerydslTestConfig;
+import com.ssafy.backend.common.util.S3Util;
+import com.ssafy.backend.plan.dto.response.RetrievePlanResponse;
+import com.ssafy.backend.plan.entity.Plan;
+import com.ssafy.backend.plan.repository.PlanRepository;
+import com.ssafy.backend.plan.repository.UserPlanRepository;
+import com.ssafy.backend.user.entity.User;
+import com.ssafy.backend.user.entity.UserPlan;
+import com.ssafy.backend.user.entity.UserStatus;
+import com.ssafy.backend.user.entity.UserType;
+import com.ssafy.backend.user.repository.UserRepository;
+import com.ssafy.backend.user.util.ImageValidatorUtil;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+@DataJpaTest
+@Import(QuerydslTestConfig.class)
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class PlanServiceListTest {
+
+    private static final int PLAN_COUNT = 40;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private PlanRepository planRepository;
+
+    private final S3Util s3Util = mock(S3Util.class);
+    private PlanService planService;
+    private Statistics statistics;
+    private Long memberId;
+
+    @BeforeEach
+    void setUp() {
+        planService = new PlanService(s3Util, planRepository, mock(UserPlanRepository.class), mock(UserRepository.class),
+                mock(ImageValidatorUtil.class), mock(PlanMembershipCache.class));
+        statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        given(s3Util.getUrl(anyString())).willAnswer(invocation -> "https://signed/" + invocation.getArgument(0));
+
+        // 방장 4명이 만든 플랜 40개에 한 사용자가 참여
+        User member = user("member");
+        memberId = member.getUserId();
+        List<User> hosts = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            hosts.add(user("host" + i));
+        }
+        for (int i = 0; i < PLAN_COUNT; i++) {
+            Plan plan = Plan.builder()
+                    .planName("플랜 " + i)
+                    .planDescription("설명 " + i)
+                    .startDate(LocalDate.now())
+                    .endDate(LocalDate.now().plusDays(2))
+                    .planImage(i % 2 == 0 ? "placeholder.png" : "plans/" + i + ".png")
+                    .build();
+            em.persist(plan);
+            em.persist(UserPlan.builder().plan(plan).user(hosts.get(i % hosts.size()))
+                    .userType(UserType.CREATOR).userStatus(UserStatus.APPROVED).build());
+            em.persist(UserPlan.builder().plan(plan).user(member)
+                    .userType(UserType.USER).userStatus(UserStatus.APPROVED).build());
+        }
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    @DisplayName("플랜 수와 상관없이 방장 정보까지 쿼리 1회로 조회됨")
+    void retrievesWithSingleQuery() {
+        // when
+        statistics.clear();
+        List<RetrievePlanResponse> plans = planService.retrievePlanList(memberId, null, null, null);
+
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(plans).hasSize(PLAN_COUNT);
+        assertThat(plans).allSatisfy(plan -> {
+            assertThat(plan.getHostName()).startsWith("host");
+            assertThat(plan.getHostImageUrl()).isEqualTo("https://signed/" + plan.getHostName() + ".png");
+        });
+    }
+
+    @Test
+    @DisplayName("커서로 이어서 조회하면 모든 플랜이 한 번씩 최근 수정순으로 조회됨")
+    void pagesWithKeysetCursor() {
+        // given
+        List<RetrievePlanResponse> all = new ArrayList<>();
+        RetrievePlanResponse last = null;
+
+        // when
+        do {
+            List<RetrievePlanResponse> page = last == null
+                    ? planService.retrievePlanList(memberId, null, null, 15)
+                    : planService.retrievePlanList(memberId, last.getUpdatedTime(), last.getPlanId(), 15);
+            if (page.isEmpty()) {
+                break;
+            }
+            all.addAll(page);
+            last = page.get(page.size() - 1);
+        } while (true);
+
+        // then
+        Set<Long> planIds = new HashSet<>();
+        all.forEach(plan -> planIds.add(plan.getPlanId()));
+        assertThat(planIds).hasSize(PLAN_COUNT);
+        assertThat(all).hasSize(PLAN_COUNT);
+        for (int i = 1; i < all.size(); i++) {
+            assertThat(all.get(i - 1).getUpdatedTime()).isAfterOrEqualTo(all.get(i).getUpdatedTime());
+        }
+    }
+
+    private User user(String name) {
+        User user = User.builder()
+                .userName(name)
+                .googleEmail(name + "@test.com")
+                .profileImage(name + ".png")
+                .build();
+        em.persist(user);
+        return user;
+    }
+}
@@ -0,0 +1,152 @@
+package com.ssafy.backend.plan.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SparseOrderTest {
+
+    private static final int EDITS = 5_000;
+
+    @Test
+    @DisplayName("빈 목록, 맨 앞, 맨 뒤, 중간 위치의 키")
+    void keyAtPositions() {
+        List<Integer> keys = List.of(1024, 2048, 3072);
+
+        assertThat(SparseOrder.keyAt(List.of(), 1)).isEqualTo(1024);
+        assertThat(SparseOrder.keyAt(keys, 1)).isEqualTo(0);
+        assertThat(SparseOrder.keyAt(keys, 4)).isEqualTo(4096);
+        assertThat(SparseOrder.keyAt(keys, 2)).isEqualTo(1536);
+    }
+
+    @Test
+    @DisplayName("앞뒤 키 사이에 빈 값이 없으면 null (기존 연속 키 1, 2, 3 포함)")
+    void noRoomBetweenAdjacentKeys() {
+        assertThat(SparseOrder.keyAt(List.of(1, 2, 3), 2)).isNull();
+        assertThat(SparseOrder.keyAt(List.of(1, 2, 3), 4)).isEqualTo(1027);
+    }
+
+    @Test
+    @DisplayName("공간이 없으면 그 위치부터 뒤 키를 GAP만큼 민 뒤 사이 값을 씀")
+    void keyAfterShift() {
+        List<Integer> keys = List.of(1, 2, 3);
+
+        assertThat(SparseOrder.shiftFrom(keys, 2)).isEqualTo(2);
+        assertThat(SparseOrder.keyAfterShift(keys, 2)).isEqualTo(1 + (2 + SparseOrder.GAP - 1) / 2);
+    }
+
+    @Test
+    @DisplayName("인접 키 간격이 좁거나 키가 int 범위 끝에 가까우면 재배정 대상")
+    void needsRebalance() {
+        assertThat(SparseOrder.needsRebalance(List.of())).isFalse();
+        assertThat(SparseOrder.needsRebalance(List.of(1024, 2048, 3072))).isFalse();
+        assertThat(SparseOrder.needsRebalance(List.of(1, 2, 3))).isTrue();
+        assertThat(SparseOrder.needsRebalance(List.of(1024, 1024 + SparseOrder.MIN_GAP - 1))).isTrue();
+        assertThat(SparseOrder.needsRebalance(List.of(Integer.MIN_VALUE + 1))).isTrue();
+        assertThat(SparseOrder.needsRebalance(List.of(1024, Integer.MAX_VALUE - 1))).isTrue();
+    }
+
+    @Test
+    @DisplayName("같은 자리에 계속 삽입해도 재배정을 거치면 순서가 유지되고 키 간격이 다시 GAP이 됨")
+    void rebalanceRestoresGaps() {
+        // given: 같은 자리(두 번째)에 반복 삽입해 간격을 소진
+        List<Item> items = new ArrayList<>();
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            place(items, new Item("p" + i), i + 1);
+            expected.add("p" + i);
+        }
+        int inserted = 3;
+        while (!SparseOrder.needsRebalance(sorted(items).stream().map(it -> it.key).toList())) {
+            String id = "p" + inserted++;
+            place(items, new Item(id), 2);
+            expected.add(1, id);
+        }
+
+        // when: 서비스의 재배정과 같은 방식으로 정렬 순서대로 다시 매김
+        List<Item> ordered = sorted(items);
+        for (int i = 0; i < ordered.size(); i++) {
+            ordered.get(i).key = SparseOrder.rebalancedKey(i + 1);
+        }
+
+        // then
+        assertThat(sorted(items).stream().map(item -> item.id).toList()).isEqualTo(expected);
+        assertThat(SparseOrder.needsRebalance(sorted(items).stream().map(it -> it.key).toList())).isFalse();
+        assertThat(SparseOrder.keyAt(sorted(items).stream().map(it -> it.key).toList(), 2)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("무작위 이동/삽입/삭제를 반복해도 연속 위치 기준 순서가 기대값과 같고, 뒤 키를 미는 경우는 드묾")
+    void randomEditsKeepExpectedOrder() {
+        // given
+        Random random = new Random(42);
+        List<String> expected = new ArrayList<>();
+        List<Item> items = new ArrayList<>();
+        int nextId = 0;
+        int shifts = 0;
+
+        // when
+        for (int step = 0; step < EDITS; step++) {
+            int op = random.nextInt(10);
+            if (items.isEmpty() || op < 3) {
+                String id = "p" + nextId++;
+                int position = 1 + random.nextInt(items.size() + 1);
+                shifts += place(items, new Item(id), position) ? 1 : 0;
+                expected.add(position - 1, id);
+            } else if (op < 9) {
+                int from = random.nextInt(items.size());
+                int position = 1 + random.nextInt(items.size());
+                Item moved = sorted(items).get(from);
+                items.remove(moved);
+                shifts += place(items, moved, position) ? 1 : 0;
+                expected.add(position - 1, expected.remove(from));
+            } else {
+                int from = random.nextInt(items.size());
+                items.remove(sorted(items).get(from));
+                expected.remove(from);
+            }
+        }
+
+        // then
+        assertThat(sorted(items).stream().map(item -> item.id).toList()).isEqualTo(expected);
+        // 연속 키였다면 맨 뒤가 아닌 삽입/이동마다 밀어야 하지만, 간격 키는 중간값이 바닥날 때만 밈
+        assertThat(shifts).isLessThan(EDITS / 20);
+    }
+
+    // 서비스와 같은 방식으로 키를 배정하고, 뒤 키들을 밀었으면 true
+    private static boolean place(List<Item> items, Item item, int position) {
+        List<Integer> keys = sorted(items).stream().map(it -> it.key).toList();
+        Integer key = SparseOrder.keyAt(keys, position);
+        boolean shifted = key == null;
+        if (shifted) {
+            // UPDATE ... SET key = key + GAP WHERE key >= from
+            int from = SparseOrder.shiftFrom(keys, position);
+            items.stream().filter(it -> it.key >= from).forEach(it -> it.key += SparseOrder.GAP);
+            key = SparseOrder.keyAfterShift(keys, position);
+        }
+        item.key = key;
+        items.add(item);
+        return shifted;
+    }
+
+    private static List<Item> sorted(List<Item> items) {
+        List<Item> sorted = new ArrayList<>(items);
+        sorted.sort(Comparator.comparingInt(it -> it.key));
+        return sorted;
+    }
+
+    private static class Item {
+        private final String id;
+        private int key;
+
+        Item(String id) {
+            this.id = id;
+        }
+    }
+}
@@ -2,8 +2,11 @@ package com.ssafy.backend.security.filter;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ssafy.backend.security.dto.JwtUserInfo;
-import com.ssafy.backend.security.entity.TokenType;
+import com.ssafy.backend.security.repository.TokenRepository;
+import com.ssafy.backend.security.util.AccessTokenRevocations;
 import com.ssafy.backend.security.util.JwtUtil;
+import com.ssafy.backend.user.entity.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -19,6 +22,7 @@ import org.springframework.security.core.context.SecurityContextHolder;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -82,7 +86,7 @@ class JwtAuthenticationFilterTest {
         // given
         String token = "invalid.token.value";
         when(request.getHeader("Authorization")).thenReturn("Bearer " + token);
-        when(jwtUtil.validateToken(token, TokenType.ACCESS)).thenReturn(false);
+        when(jwtUtil.verifyAccessToken(token)).thenReturn(Optional.empty());
 
         StringWriter stringWriter = new StringWriter();
         PrintWriter printWriter = new PrintWriter(stringWriter);
@@ -107,16 +111,15 @@ class JwtAuthenticationFilterTest {
         // given
         String token = "valid.token.value";
         when(request.getHeader("Authorization")).thenReturn("Bearer " + token);
-        when(jwtUtil.validateToken(token, TokenType.ACCESS)).thenReturn(true);
-
         JwtUserInfo userInfo = new JwtUserInfo(1L, "test@example.com", "");
-        when(jwtUtil.getUserInfoFromToken(token)).thenReturn(userInfo);
+        when(jwtUtil.verifyAccessToken(token)).thenReturn(Optional.of(userInfo));
 
         // when
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
 
         // then
         verify(filterChain, times(1)).doFilter(request, response);
+        verify(jwtUtil, never()).getUserInfoFromToken(token);
 
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         assertNotNull(authentication);
@@ -124,4 +127,37 @@ class JwtAuthenticationFilterTest {
         assertTrue(authentication.getAuthorities().stream()
                 .anyMatch(a -> a.getAuthority().equals("ROLE_USER")));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("리프레시 토큰으로 요청하면 401 응답을 반환하고 인증 정보를 설정하지 않는다")
+    void refreshTokenIsRejected() throws Exception {
+        // given: 실제 서명 검증을 하는 JwtUtil로 발급한 리프레시 토큰
+        JwtUtil realJwtUtil = new JwtUtil("testSecretKeyWithAtLeast32BytesForHS256Algorithm", 3600, 86400, 100,
+                mock(TokenRepository.class), new AccessTokenRevocations(100), new SimpleMeterRegistry());
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(realJwtUtil);
+        User user = new User();
+        user.setUserId(1L);
+        user.setGoogleEmail("test@example.com");
+        user.setUserName("테스트유저");
+        String refreshToken = realJwtUtil.generateRefreshToken(user.getUserId()).getTokenString();
+        String accessToken = realJwtUtil.generateAccessToken(user).getTokenString();
+        when(request.getHeader("Authorization")).thenReturn("Bearer " + refreshToken, "Bearer " + accessToken);
+
+        StringWriter stringWriter = new StringWriter();
+        when(response.getWriter()).thenReturn(new PrintWriter(stringWriter));
+
+        // when
+        filter.doFilterInternal(request, response, filterChain);
+
+        // then
+        verify(response).setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+        verify(filterChain, never()).doFilter(request, response);
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        assertTrue(stringWriter.toString().contains("TOKEN-01"));
+
+        // 같은 사용자의 액세스 토큰은 통과함
+        filter.doFilterInternal(request, response, filterChain);
+        verify(filterChain, times(1)).doFilter(request, response);
+        assertEquals(1L, ((JwtUserInfo) SecurityContextHolder.getContext().getAuthentication().getPrincipal()).getUserId());
+    }
+}
@@ -0,0 +1,23 @@
+package com.ssafy.backend.security.repository;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * H2에 없는 MySQL GET_LOCK / RELEASE_LOCK을 흉내 내는 함수 (CREATE ALIAS로 등록)
+ */
+public final class H2NamedLocks {
+
+    static final Set<String> HELD = ConcurrentHashMap.newKeySet();
+
+    private H2NamedLocks() {
+    }
+
+    public static int getLock(String name, int timeoutSeconds) {
+        return HELD.add(name) ? 1 : 0;
+    }
+
+    public static int releaseLock(String name) {
+        return HELD.remove(name) ? 1 : 0;
+    }
+}
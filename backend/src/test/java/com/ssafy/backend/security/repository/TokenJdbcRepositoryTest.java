@@ -0,0 +1,118 @@
+package com.ssafy.backend.security.repository;
+
+import com.ssafy.backend.common.config.QuerydslTestConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 묶음마다 커밋되는 동작을 확인하므로 테스트 트랜잭션 없이 실행하고 직접 정리함
+@DataJpaTest
+@Import({QuerydslTestConfig.class, TokenJdbcRepository.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TokenJdbcRepositoryTest {
+
+    private static final String PURGE_LOCK_NAME = "onboard.token_purge";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TokenJdbcRepository tokenJdbcRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final LocalDateTime now = LocalDateTime.now();
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("CREATE ALIAS IF NOT EXISTS GET_LOCK FOR '" + H2NamedLocks.class.getName() + ".getLock'");
+        jdbcTemplate.execute("CREATE ALIAS IF NOT EXISTS RELEASE_LOCK FOR '" + H2NamedLocks.class.getName() + ".releaseLock'");
+        H2NamedLocks.HELD.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM token");
+        H2NamedLocks.HELD.clear();
+    }
+
+    @Test
+    @DisplayName("만료된 토큰만 batchSize씩 나눠 지우고 잠금을 해제함")
+    void purgesOnlyExpiredTokensInBatches() {
+        // given
+        insertTokens(25, now.minusMinutes(1));
+        insertTokens(5, now.plusDays(1));
+
+        // when
+        Integer purged = tokenJdbcRepository.purgeExpired(now, 10, 100, 0);
+
+        // then
+        assertThat(purged).isEqualTo(25);
+        assertThat(countTokens()).isEqualTo(5);
+        assertThat(H2NamedLocks.HELD).isEmpty();
+    }
+
+    @Test
+    @DisplayName("최대 묶음 수만큼만 지우고 남은 행은 다음 실행으로 넘김")
+    void stopsAtMaxBatches() {
+        // given
+        insertTokens(25, now.minusMinutes(1));
+
+        // when
+        Integer purged = tokenJdbcRepository.purgeExpired(now, 10, 2, 0);
+
+        // then
+        assertThat(purged).isEqualTo(20);
+        assertThat(countTokens()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 잠금을 잡고 있으면 지우지 않고 null 반환")
+    void skipsWhenLockedElsewhere() {
+        // given
+        insertTokens(3, now.minusMinutes(1));
+        H2NamedLocks.HELD.add(PURGE_LOCK_NAME);
+
+        // when
+        Integer purged = tokenJdbcRepository.purgeExpired(now, 10, 100, 0);
+
+        // then
+        assertThat(purged).isNull();
+        assertThat(countTokens()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 호출하면 바깥 트랜잭션을 커밋하지 않도록 거부함")
+    void rejectsCallInsideTransaction() {
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status ->
+                tokenJdbcRepository.purgeExpired(now, 10, 100, 0)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private void insertTokens(int count, LocalDateTime expireDate) {
+        for (int i = 0; i < count; i++) {
+            jdbcTemplate.update("INSERT INTO token (token_type, token_hash, expire_date) VALUES ('REFRESH', ?, ?)",
+                    UUID.randomUUID().toString().replace("-", ""), Timestamp.valueOf(expireDate));
+        }
+    }
+
+    private int countTokens() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM token", Integer.class);
+    }
+}
@@ -0,0 +1,86 @@
+package com.ssafy.backend.security.service;
+
+import com.ssafy.backend.security.repository.TokenJdbcRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class ExpiredTokenPurgeJobTest {
+
+    private final TokenJdbcRepository tokenJdbcRepository = mock(TokenJdbcRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ExpiredTokenPurgeJob job;
+
+    @BeforeEach
+    void setUp() {
+        job = new ExpiredTokenPurgeJob(tokenJdbcRepository, meterRegistry, 500, 10, 0);
+    }
+
+    @Test
+    @DisplayName("정리한 행 수와 소요 시간을 지표로 남김")
+    void recordsPurgedRows() {
+        // given
+        given(tokenJdbcRepository.purgeExpired(any(LocalDateTime.class), eq(500), eq(10), eq(0L))).willReturn(1234);
+
+        // when
+        job.purge();
+
+        // then
+        assertThat(meterRegistry.get("token.purge.rows").counter().count()).isEqualTo(1234);
+        assertThat(meterRegistry.get("token.purge.duration").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 잠금을 잡고 있으면 건너뜀")
+    void skipsWhenLockedElsewhere() {
+        // given
+        given(tokenJdbcRepository.purgeExpired(any(LocalDateTime.class), anyInt(), anyInt(), anyLong())).willReturn(null);
+
+        // when
+        job.purge();
+
+        // then
+        assertThat(meterRegistry.get("token.purge.rows").counter().count()).isZero();
+        assertThat(meterRegistry.get("token.purge.skipped").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 인스턴스에서 이전 실행이 끝나지 않았으면 겹쳐 실행하지 않음")
+    void doesNotOverlapInProcess() throws Exception {
+        // given: 첫 실행이 삭제 도중 멈춰 있음
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(tokenJdbcRepository.purgeExpired(any(LocalDateTime.class), anyInt(), anyInt(), anyLong())).willAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return 0;
+        });
+        Thread first = new Thread(job::purge);
+        first.start();
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        job.purge();
+        release.countDown();
+        first.join();
+
+        // then
+        verify(tokenJdbcRepository, times(1)).purgeExpired(any(LocalDateTime.class), anyInt(), anyInt(), anyLong());
+        assertThat(meterRegistry.get("token.purge.skipped").counter().count()).isEqualTo(1);
+    }
+}
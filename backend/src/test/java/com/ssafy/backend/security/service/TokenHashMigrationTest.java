@@ -0,0 +1,114 @@
+package com.ssafy.backend.security.service;
+
+import com.ssafy.backend.common.config.QuerydslTestConfig;
+import com.ssafy.backend.security.repository.TokenJdbcRepository;
+import com.ssafy.backend.security.repository.TokenRepository;
+import com.ssafy.backend.security.util.JwtUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// ALTER TABLE은 트랜잭션을 커밋하므로 테스트 트랜잭션 없이 실행하고 직접 정리함
+@DataJpaTest
+@Import({QuerydslTestConfig.class, TokenJdbcRepository.class, TokenHashMigration.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TokenHashMigrationTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TokenJdbcRepository tokenJdbcRepository;
+
+    @Autowired
+    private TokenRepository tokenRepository;
+
+    @Autowired
+    private TokenHashMigration migration;
+
+    @BeforeEach
+    void setUp() {
+        // 이관 전 스키마: 원문 컬럼이 남아 있고 해시는 비어 있음
+        jdbcTemplate.execute("ALTER TABLE token ADD COLUMN token_string VARCHAR(512)");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM token");
+        jdbcTemplate.execute("ALTER TABLE token DROP COLUMN IF EXISTS token_string");
+    }
+
+    @Test
+    @DisplayName("원문 리프레시 토큰은 해시로 이관되어 계속 검증되고, 원문 행과 컬럼은 이전 버전 인스턴스를 위해 남겨 둠")
+    void backfillsHashesWithoutDeleting() {
+        // given
+        for (int i = 0; i < 1_200; i++) {
+            insertLegacy("REFRESH", "refresh-" + i);
+        }
+        insertLegacy("ACCESS", "access-1");
+        insertLegacy("REFRESH", "refresh-7"); // 같은 초에 발급된 같은 원문
+
+        // when
+        int migrated = migration.migrate();
+
+        // then
+        assertThat(migrated).isEqualTo(1_200);
+        assertThat(tokenJdbcRepository.hasLegacyTokenStringColumn()).isTrue();
+        assertThat(tokenRepository.count()).isEqualTo(1_202);
+        assertThat(tokenRepository.existsByTokenHash(JwtUtil.digest("refresh-0"))).isTrue();
+        assertThat(tokenRepository.existsByTokenHash(JwtUtil.digest("refresh-1199"))).isTrue();
+        assertThat(tokenRepository.existsByTokenHash(JwtUtil.digest("access-1"))).isFalse();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM token WHERE token_string IS NOT NULL", Integer.class))
+                .isEqualTo(1_202);
+    }
+
+    @Test
+    @DisplayName("다시 실행하면 그 사이 이전 버전 인스턴스가 저장한 원문만 이관하고 이미 이관된 원문의 중복 행은 건너뜀")
+    void catchesUpRowsWrittenByOldInstances() {
+        // given
+        insertLegacy("REFRESH", "refresh-1");
+        migration.migrate();
+        insertLegacy("REFRESH", "refresh-1"); // 이전 버전 인스턴스가 같은 원문을 다시 저장
+        insertLegacy("REFRESH", "refresh-2");
+
+        // when
+        int migrated = migration.migrate();
+
+        // then
+        assertThat(migrated).isEqualTo(1);
+        assertThat(tokenRepository.existsByTokenHash(JwtUtil.digest("refresh-1"))).isTrue();
+        assertThat(tokenRepository.existsByTokenHash(JwtUtil.digest("refresh-2"))).isTrue();
+        assertThat(tokenRepository.count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("원문 컬럼이 없는 스키마면 아무것도 하지 않음")
+    void skipsWithoutLegacyColumn() {
+        // given
+        jdbcTemplate.execute("ALTER TABLE token DROP COLUMN token_string");
+
+        // when
+        migration.catchUp();
+
+        // then
+        assertThat(migration.migrate()).isZero();
+        assertThat(tokenRepository.count()).isZero();
+    }
+
+    private void insertLegacy(String tokenType, String tokenString) {
+        jdbcTemplate.update("INSERT INTO token (token_type, token_string, expire_date) VALUES (?, ?, ?)",
+                tokenType, tokenString, Timestamp.valueOf(LocalDateTime.now().plusDays(7)));
+    }
+}
@@ -0,0 +1,42 @@
+package com.ssafy.backend.security.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AccessTokenRevocationsTest {
+
+    @Test
+    @DisplayName("가득 차도 만료 전의 폐기는 지우지 않고 새 폐기를 거절함")
+    void neverEvictsUnexpiredRevocations() {
+        // given
+        AccessTokenRevocations revocations = new AccessTokenRevocations(2);
+        long expiresAt = System.currentTimeMillis() + 60_000;
+        revocations.revoke("jti-1", expiresAt);
+        revocations.revoke("jti-2", expiresAt + 1_000);
+
+        // when
+        boolean recorded = revocations.revoke("jti-3", expiresAt + 2_000);
+
+        // then
+        assertThat(recorded).isFalse();
+        assertThat(revocations.isRevoked("jti-1")).isTrue();
+        assertThat(revocations.isRevoked("jti-2")).isTrue();
+        assertThat(revocations.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("이미 만료된 토큰은 기록하지 않음")
+    void ignoresExpiredTokens() {
+        // given
+        AccessTokenRevocations revocations = new AccessTokenRevocations(1);
+
+        // when
+        boolean recorded = revocations.revoke("jti-1", System.currentTimeMillis() - 1);
+
+        // then
+        assertThat(recorded).isTrue();
+        assertThat(revocations.size()).isZero();
+    }
+}
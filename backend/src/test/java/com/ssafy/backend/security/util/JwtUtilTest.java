@@ -7,6 +7,7 @@ import com.ssafy.backend.security.entity.TokenType;
 import com.ssafy.backend.security.repository.TokenRepository;
 import com.ssafy.backend.user.entity.User;
 import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -22,8 +23,9 @@ import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
-import java.time.LocalDateTime;
 import java.util.Date;
+import java.util.HexFormat;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -38,15 +40,14 @@ class JwtUtilTest {
     @Mock
     private TokenRepository tokenRepository;
 
+    private AccessTokenRevocations accessTokenRevocations;
+    private SimpleMeterRegistry meterRegistry;
     private User testUser;
-    private TokenDTO accessTokenDTO;
-    private TokenDTO refreshTokenDTO;
-    private Token accessToken;
-    private Token refreshToken;
 
     private final String secretKey = "testSecretKeyWithAtLeast32BytesForHS256Algorithm";
     private final int accessExpirationTime = 3600;
     private final int refreshExpirationTime = 86400;
+    private final int verifiedCacheMaxEntries = 100;
     private SecretKey key;
 
     @BeforeEach
@@ -55,84 +56,52 @@ class JwtUtilTest {
         MessageDigest digest = MessageDigest.getInstance("SHA-256");
         byte[] hashBytes = digest.digest(secretKey.getBytes(StandardCharsets.UTF_8));
         key = new SecretKeySpec(hashBytes, Jwts.SIG.HS256.key().build().getAlgorithm());
-        jwtUtil = new JwtUtil(secretKey, accessExpirationTime, refreshExpirationTime, tokenRepository);
+        accessTokenRevocations = new AccessTokenRevocations(100);
+        meterRegistry = new SimpleMeterRegistry();
+        jwtUtil = new JwtUtil(secretKey, accessExpirationTime, refreshExpirationTime, verifiedCacheMaxEntries,
+                tokenRepository, accessTokenRevocations, meterRegistry);
 
         // 테스트 유저 생성
         testUser = new User();
         testUser.setUserId(1L);
         testUser.setGoogleEmail("test@gmail.com");
         testUser.setUserName("테스트유저");
-
-        // 토큰 엔티티 생성
-        accessToken = new Token();
-        accessToken.setTokenType(TokenType.ACCESS);
-        accessToken.setTokenString("mock-access-token");
-        accessToken.setExpireDate(LocalDateTime.now().plusHours(1));
-
-        refreshToken = new Token();
-        refreshToken.setTokenType(TokenType.REFRESH);
-        refreshToken.setTokenString("mock-refresh-token");
-        refreshToken.setExpireDate(LocalDateTime.now().plusDays(1));
-
-        // 토큰 DTO 생성
-        accessTokenDTO = TokenDTO.builder()
-                .tokenString(accessToken.getTokenString())
-                .tokenType(accessToken.getTokenType())
-                .expireDate(accessToken.getExpireDate())
-                .build();
-
-        refreshTokenDTO = TokenDTO.builder()
-                .tokenString(refreshToken.getTokenString())
-                .tokenType(refreshToken.getTokenType())
-                .expireDate(refreshToken.getExpireDate())
-                .build();
     }
 
     @Test
-    @DisplayName("액세스 토큰 생성 테스트")
+    @DisplayName("액세스 토큰 생성 테스트 (DB에 저장하지 않음)")
     void generateAccessToken() {
-        // Given
-        when(tokenRepository.save(any(Token.class))).thenReturn(accessToken);
-
         // When
         TokenDTO result = jwtUtil.generateAccessToken(testUser);
 
         // Then
         assertNotNull(result);
         assertEquals(TokenType.ACCESS, result.getTokenType());
-        assertEquals(accessToken.getTokenString(), result.getTokenString());
-
-        ArgumentCaptor<Token> tokenCaptor = ArgumentCaptor.forClass(Token.class);
-        verify(tokenRepository).save(tokenCaptor.capture());
-        assertEquals(TokenType.ACCESS, tokenCaptor.getValue().getTokenType());
+        assertNotNull(result.getTokenString());
+        assertNotNull(result.getExpireDate());
+        verifyNoInteractions(tokenRepository);
     }
 
     @Test
-    @DisplayName("리프레시 토큰 생성 테스트")
+    @DisplayName("리프레시 토큰 생성 테스트 (원문 대신 해시만 저장)")
     void generateRefreshToken() {
-        // Given
-        when(tokenRepository.save(any(Token.class))).thenReturn(refreshToken);
-
         // When
         TokenDTO result = jwtUtil.generateRefreshToken(testUser.getUserId());
 
         // Then
         assertNotNull(result);
         assertEquals(TokenType.REFRESH, result.getTokenType());
-        assertEquals(refreshToken.getTokenString(), result.getTokenString());
 
         ArgumentCaptor<Token> tokenCaptor = ArgumentCaptor.forClass(Token.class);
         verify(tokenRepository).save(tokenCaptor.capture());
         assertEquals(TokenType.REFRESH, tokenCaptor.getValue().getTokenType());
+        assertEquals(sha256(result.getTokenString()), tokenCaptor.getValue().getTokenHash());
+        assertNotEquals(result.getTokenString(), tokenCaptor.getValue().getTokenHash());
     }
 
     @Test
     @DisplayName("실제 토큰 생성 및 검증 테스트")
     void generateAndValidateRealToken() {
-        // Given
-        when(tokenRepository.save(any(Token.class))).thenAnswer(invocation -> invocation.getArgument(0));
-        when(tokenRepository.existsByTokenTypeAndTokenString(any(TokenType.class), anyString())).thenReturn(true);
-
         // When
         TokenDTO realAccessToken = jwtUtil.generateAccessToken(testUser);
 
@@ -227,73 +196,152 @@ class JwtUtilTest {
         String token = Jwts.builder()
                 .subject("1")
                 .claim("userId", 1L)
+                .claim("typ", "access")
                 .signWith(key)
                 .expiration(new Date(System.currentTimeMillis() + 3600 * 1000))
                 .compact();
 
-        when(tokenRepository.existsByTokenTypeAndTokenString(TokenType.ACCESS, token)).thenReturn(true);
-        when(tokenRepository.existsByTokenTypeAndTokenString(TokenType.REFRESH, token)).thenReturn(false);
-
         // When & Then
         assertTrue(jwtUtil.validateToken(token, TokenType.ACCESS));
+        // 액세스 토큰은 저장소를 조회하지 않고 리프레시 토큰으로 거부
         assertFalse(jwtUtil.validateToken(token, TokenType.REFRESH));
+        verify(tokenRepository, never()).existsByTokenHash(any());
 
         // 잘못된 형식의 토큰
         assertFalse(jwtUtil.validateToken("invalid.token", TokenType.ACCESS));
     }
 
     @Test
-    @DisplayName("토큰 화이트리스트 추가 테스트")
-    void addToWhitelist() {
+    @DisplayName("리프레시 토큰은 액세스 토큰으로, 액세스 토큰은 리프레시 토큰으로 인정하지 않는다")
+    void rejectsMismatchedTokenType() {
+        // Given
+        String refreshToken = jwtUtil.generateRefreshToken(testUser.getUserId()).getTokenString();
+        String accessToken = jwtUtil.generateAccessToken(testUser).getTokenString();
+        when(tokenRepository.existsByTokenHash(any())).thenReturn(true);
+
+        // When & Then
+        assertTrue(jwtUtil.verifyAccessToken(refreshToken).isEmpty());
+        assertFalse(jwtUtil.validateToken(refreshToken, TokenType.ACCESS));
+        assertTrue(jwtUtil.validateToken(refreshToken, TokenType.REFRESH));
+        assertFalse(jwtUtil.validateToken(accessToken, TokenType.REFRESH));
+
+        // 종류 클레임이 없는 토큰은 액세스 토큰으로 인정하지 않고, 클레임 도입 전에 발급되어 해시가 저장된 리프레시 토큰으로만 인정
+        String untypedToken = Jwts.builder()
+                .subject("1")
+                .claim("userId", 1L)
+                .signWith(key)
+                .expiration(new Date(System.currentTimeMillis() + 3600 * 1000))
+                .compact();
+        assertTrue(jwtUtil.verifyAccessToken(untypedToken).isEmpty());
+        assertFalse(jwtUtil.validateToken(untypedToken, TokenType.ACCESS));
+        assertTrue(jwtUtil.validateToken(untypedToken, TokenType.REFRESH));
+    }
+
+    @Test
+    @DisplayName("액세스 토큰 검증과 사용자 정보 추출을 한 번에 처리하고, 만료/위조 토큰은 거부한다")
+    void verifyAccessToken() {
         // Given
-        TokenDTO validToken = TokenDTO.builder()
-                .tokenString("valid-token")
-                .tokenType(TokenType.ACCESS)
-                .expireDate(LocalDateTime.now().plusHours(1))
-                .build();
+        String token = userToken(new Date(System.currentTimeMillis() + 3600 * 1000), key);
+        String expiredToken = userToken(new Date(System.currentTimeMillis() - 1000), key);
+        SecretKey otherKey = Jwts.SIG.HS256.key().build();
+        String forgedToken = userToken(new Date(System.currentTimeMillis() + 3600 * 1000), otherKey);
 
         // When
-        jwtUtil.addToWhitelist(validToken);
+        Optional<JwtUserInfo> first = jwtUtil.verifyAccessToken(token);
+        Optional<JwtUserInfo> cached = jwtUtil.verifyAccessToken(token);
 
         // Then
-        ArgumentCaptor<Token> tokenCaptor = ArgumentCaptor.forClass(Token.class);
-        verify(tokenRepository).save(tokenCaptor.capture());
-        assertEquals(validToken.getTokenString(), tokenCaptor.getValue().getTokenString());
-        assertEquals(validToken.getTokenType(), tokenCaptor.getValue().getTokenType());
+        assertTrue(first.isPresent());
+        assertEquals(1L, first.get().getUserId());
+        assertEquals("테스트유저", first.get().getUserName());
+        assertSame(first.get(), cached.get());
+        assertTrue(jwtUtil.verifyAccessToken(expiredToken).isEmpty());
+        assertTrue(jwtUtil.verifyAccessToken(forgedToken).isEmpty());
+        assertTrue(jwtUtil.verifyAccessToken("invalid.token").isEmpty());
     }
 
     @Test
-    @DisplayName("토큰 화이트리스트에서 제거 테스트")
-    void addToWhiteList() {
-        // Given
-        TokenDTO validToken = TokenDTO.builder()
-                .tokenString("valid-token")
-                .tokenType(TokenType.ACCESS)
-                .expireDate(LocalDateTime.now().plusHours(1))
-                .build();
+    @DisplayName("같은 토큰이 반복되면 서명 검증은 처음 한 번만 한다")
+    void verifiesSignatureOncePerToken() {
+        // Given: 폴링처럼 같은 토큰이 반복되는 요청
+        String token = userToken(new Date(System.currentTimeMillis() + 3600 * 1000), key);
+        int requests = 1_000;
 
         // When
-        jwtUtil.deleteFromWhiteList(validToken.getTokenString());
+        for (int i = 0; i < requests; i++) {
+            assertTrue(jwtUtil.verifyAccessToken(token).isPresent());
+        }
+
+        // Then: miss 한 번만 파싱하고 나머지는 캐시 적중
+        assertEquals(1.0, cacheRequests("miss"));
+        assertEquals(requests - 1.0, cacheRequests("hit"));
+    }
+
+    @Test
+    @DisplayName("검증 캐시가 가득 차도 새 토큰은 검증되고 캐시 크기는 최대 개수를 넘지 않는다")
+    void verifiedCacheIsBounded() {
+        // When
+        for (int i = 0; i < verifiedCacheMaxEntries * 3; i++) {
+            String token = Jwts.builder()
+                    .subject("1")
+                    .claim("userId", (long) i)
+                    .claim("typ", "access")
+                    .signWith(key)
+                    .expiration(new Date(System.currentTimeMillis() + 3600 * 1000))
+                    .compact();
+            assertTrue(jwtUtil.verifyAccessToken(token).isPresent());
+        }
 
         // Then
-        verify(tokenRepository).deleteByTokenString(validToken.getTokenString());
+        assertTrue(meterRegistry.get("jwt.verified_cache.size").gauge().value() <= verifiedCacheMaxEntries);
+    }
+
+    private double cacheRequests(String result) {
+        return meterRegistry.get("jwt.verified_cache.requests").tag("result", result).counter().count();
+    }
+
+    private String userToken(Date expiration, SecretKey signingKey) {
+        return Jwts.builder()
+                .subject("1")
+                .claim("userId", 1L)
+                .claim("googleEmail", "test@gmail.com")
+                .claim("userName", "테스트유저")
+                .claim("typ", "access")
+                .signWith(signingKey)
+                .expiration(expiration)
+                .compact();
     }
 
     @Test
-    @DisplayName("토큰 화이트리스트 추가 실패 테스트 (null 또는 빈 토큰)")
-    void addToWhitelistWithNullOrEmptyToken() {
+    @DisplayName("로그아웃한 액세스 토큰은 만료 전이라도 거부된다 (DB 조회 없음)")
+    void revokeAccessToken() {
+        // Given
+        String token = jwtUtil.generateAccessToken(testUser).getTokenString();
+        assertTrue(jwtUtil.verifyAccessToken(token).isPresent());
+
         // When
-        jwtUtil.addToWhitelist(null);
+        jwtUtil.revokeAccessToken("Bearer " + token);
+
+        // Then
+        assertTrue(jwtUtil.verifyAccessToken(token).isEmpty());
+        assertFalse(jwtUtil.validateToken(token, TokenType.ACCESS));
+        assertTrue(jwtUtil.verifyAccessToken(jwtUtil.generateAccessToken(testUser).getTokenString()).isPresent());
+        assertEquals(1, accessTokenRevocations.size());
+        verifyNoInteractions(tokenRepository);
+    }
 
-        TokenDTO emptyToken = TokenDTO.builder()
-                .tokenString("")
-                .tokenType(TokenType.ACCESS)
-                .expireDate(LocalDateTime.now().plusHours(1))
-                .build();
-        jwtUtil.addToWhitelist(emptyToken);
+    @Test
+    @DisplayName("리프레시 토큰 삭제는 해시로 찾아서 지운다")
+    void deleteRefreshToken() {
+        // Given
+        String token = "refresh-token";
+
+        // When
+        jwtUtil.deleteRefreshToken(token);
+        jwtUtil.deleteRefreshToken(null);
 
         // Then
-        verify(tokenRepository, never()).save(any(Token.class));
+        verify(tokenRepository, times(1)).deleteByTokenHash(sha256(token));
     }
 
     @Test
@@ -316,12 +364,21 @@ class JwtUtilTest {
     }
 
     @Test
-    @DisplayName("만료된 토큰 정리 테스트")
+    @DisplayName("메모리 캐시 정리는 DB를 조회하지 않는다")
     void cleanUpExpiredTokens() {
         // When
         jwtUtil.cleanUpExpiredTokens();
 
         // Then
-        verify(tokenRepository).deleteAllByExpireDateBefore(any(LocalDateTime.class));
+        verifyNoInteractions(tokenRepository);
+    }
+
+    private static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
 }
\ No newline at end of file
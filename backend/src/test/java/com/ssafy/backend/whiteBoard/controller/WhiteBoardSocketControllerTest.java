@@ -0,0 +1,81 @@
+package com.ssafy.backend.whiteBoard.controller;
+
+import com.ssafy.backend.common.util.PlanExecutionLanes;
+import com.ssafy.backend.common.websocket.SocketBroadcaster;
+import com.ssafy.backend.whiteBoard.dto.request.CreateDiagramRequestDTO;
+import com.ssafy.backend.whiteBoard.dto.websocket.WhiteBoardSocketDTO;
+import com.ssafy.backend.whiteBoard.service.WhiteBoardService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class WhiteBoardSocketControllerTest {
+
+    private static final Long PLAN_ID = 1L;
+    private static final Long USER_ID = 10L;
+    private static final String TOPIC = "/topic/whiteboard/1";
+
+    private final SocketBroadcaster socketBroadcaster = mock(SocketBroadcaster.class);
+    private final WhiteBoardService whiteBoardService = mock(WhiteBoardService.class);
+    private final PlanExecutionLanes planExecutionLanes = new PlanExecutionLanes(new SimpleMeterRegistry(), 2, 100);
+    private final WhiteBoardSocketController controller =
+            new WhiteBoardSocketController(socketBroadcaster, whiteBoardService, planExecutionLanes);
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        planExecutionLanes.shutdown();
+    }
+
+    @Test
+    @DisplayName("CREATE 저장이 끝나기 전에 들어온 MOVE는 CREATE 브로드캐스트 뒤에 중계됨")
+    void moveIsRelayedAfterPrecedingCreate() throws Exception {
+        // given: CREATE 저장이 느린 상황
+        CountDownLatch saving = new CountDownLatch(1);
+        given(whiteBoardService.createDiagram(eq(PLAN_ID), any(CreateDiagramRequestDTO.class), eq(USER_ID)))
+                .willAnswer(invocation -> {
+                    saving.await(5, TimeUnit.SECONDS);
+                    return 100L;
+                });
+        WhiteBoardSocketDTO create = WhiteBoardSocketDTO.builder().action("CREATE").type("RECT").build();
+        WhiteBoardSocketDTO move = WhiteBoardSocketDTO.builder().action("MOVE").whiteBoardObjectId(100L).x(1.0).y(2.0).build();
+
+        // when
+        controller.handleWhiteBoardSocket(PLAN_ID, create, accessor());
+        controller.handleWhiteBoardSocket(PLAN_ID, move, accessor());
+
+        // then: 저장 중에는 MOVE도 내보내지 않음
+        verify(socketBroadcaster, never()).broadcast(anyString(), any());
+
+        saving.countDown();
+        planExecutionLanes.submit(PLAN_ID, () -> null).get(5, TimeUnit.SECONDS);
+
+        InOrder inOrder = inOrder(socketBroadcaster);
+        inOrder.verify(socketBroadcaster).broadcast(TOPIC, create);
+        inOrder.verify(socketBroadcaster).broadcast(TOPIC, move);
+    }
+
+    private static SimpMessageHeaderAccessor accessor() {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create();
+        Map<String, Object> sessionAttributes = new HashMap<>();
+        sessionAttributes.put("userId", USER_ID);
+        accessor.setSessionAttributes(sessionAttributes);
+        return accessor;
+    }
+}
@@ -0,0 +1,193 @@
+package com.ssafy.backend.whiteBoard.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.backend.common.websocket.RoomClosedEvent;
+import com.ssafy.backend.common.websocket.RoomOpenedEvent;
+import com.ssafy.backend.common.websocket.StompSubscriptionRegistry;
+import com.ssafy.backend.whiteBoard.dto.request.ModifyWhiteBoardObjectRequestDTO;
+import com.ssafy.backend.whiteBoard.dto.response.RetrieveWhiteBoardObjectsResponseDTO;
+import com.ssafy.backend.whiteBoard.dto.response.WhiteBoardDiagramDTO;
+import com.ssafy.backend.whiteBoard.entity.ObjectType;
+import com.ssafy.backend.whiteBoard.entity.WhiteBoardObject;
+import com.ssafy.backend.whiteBoard.repository.WhiteBoardRepository;
+import com.ssafy.backend.whiteBoard.util.PointsCodec;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class WhiteBoardRoomStateStoreTest {
+
+    private static final Long PLAN_ID = 1L;
+    private static final String TOPIC = "/topic/whiteboard/" + PLAN_ID;
+
+    private final WhiteBoardRepository whiteBoardRepository = mock(WhiteBoardRepository.class);
+    private final WhiteBoardWriteBehindBuffer whiteBoardWriteBehindBuffer = mock(WhiteBoardWriteBehindBuffer.class);
+    private final StompSubscriptionRegistry stompSubscriptionRegistry = mock(StompSubscriptionRegistry.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<WhiteBoardObject> stored = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        stored.add(diagram(10L, 1.0));
+        stored.add(diagram(20L, 2.0));
+        given(whiteBoardRepository.findByPlanIdWithPlace(PLAN_ID)).willAnswer(invocation -> new ArrayList<>(stored));
+    }
+
+    @Test
+    @DisplayName("첫 구독 시 한 번만 DB에서 적재하고, 이후 입장하는 사용자는 메모리 상태를 받음")
+    void loadsOnceOnFirstJoin() {
+        // given
+        WhiteBoardRoomStateStore store = store(60_000, Long.MAX_VALUE);
+
+        // when
+        store.onRoomOpened(new RoomOpenedEvent(TOPIC));
+        RetrieveWhiteBoardObjectsResponseDTO first = store.snapshot(PLAN_ID);
+        RetrieveWhiteBoardObjectsResponseDTO second = store.snapshot(PLAN_ID);
+
+        // then
+        verify(whiteBoardRepository, times(1)).findByPlanIdWithPlace(PLAN_ID);
+        assertThat(first.getWhiteBoardDiagrams()).extracting(WhiteBoardDiagramDTO::getWhiteBoardObjectId).containsExactly(10L, 20L);
+        assertThat(second.getWhiteBoardDiagrams()).extracting(WhiteBoardDiagramDTO::getWhiteBoardObjectId).containsExactly(10L, 20L);
+        assertThat(meterRegistry.get("whiteboard.room_state.loads").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("적재 전에 대기 중인 write-behind 수정 사항을 먼저 플러시함")
+    void flushesPendingModificationsBeforeLoad() {
+        // given
+        WhiteBoardRoomStateStore store = store(60_000, Long.MAX_VALUE);
+
+        // when
+        store.snapshot(PLAN_ID);
+
+        // then
+        var order = inOrder(whiteBoardWriteBehindBuffer, whiteBoardRepository);
+        order.verify(whiteBoardWriteBehindBuffer).flush(PLAN_ID);
+        order.verify(whiteBoardRepository).findByPlanIdWithPlace(PLAN_ID);
+    }
+
+    @Test
+    @DisplayName("생성/수정/삭제가 스냅샷에 바로 반영되고, 이미 받은 스냅샷은 바뀌지 않음")
+    void snapshotReflectsMutations() {
+        // given
+        WhiteBoardRoomStateStore store = store(60_000, Long.MAX_VALUE);
+        RetrieveWhiteBoardObjectsResponseDTO before = store.snapshot(PLAN_ID);
+
+        // when
+        store.upsertAfterCommit(PLAN_ID, diagram(30L, 3.0));
+        store.applyModify(PLAN_ID, 10L, ModifyWhiteBoardObjectRequestDTO.builder().x(100.0).y(200.0).build());
+        store.removeAfterCommit(PLAN_ID, 20L);
+        RetrieveWhiteBoardObjectsResponseDTO after = store.snapshot(PLAN_ID);
+
+        // then
+        assertThat(before.getWhiteBoardDiagrams()).extracting(WhiteBoardDiagramDTO::getWhiteBoardObjectId).containsExactly(10L, 20L);
+        assertThat(after.getWhiteBoardDiagrams()).extracting(WhiteBoardDiagramDTO::getWhiteBoardObjectId).containsExactly(10L, 30L);
+        assertThat(after.getWhiteBoardDiagrams().get(0).getX()).isEqualTo(100.0);
+        assertThat(after.getWhiteBoardDiagrams().get(0).getPoints()).containsExactly(1.0, 1.0);
+        verify(whiteBoardRepository, times(1)).findByPlanIdWithPlace(PLAN_ID);
+    }
+
+    @Test
+    @DisplayName("적재되지 않은 방의 변경은 무시하고, 나중에 적재할 때 DB의 최신 상태를 읽음")
+    void ignoresMutationsBeforeLoad() {
+        // given
+        WhiteBoardRoomStateStore store = store(60_000, Long.MAX_VALUE);
+
+        // when
+        store.upsertAfterCommit(PLAN_ID, diagram(30L, 3.0));
+        stored.add(diagram(30L, 3.0));
+        RetrieveWhiteBoardObjectsResponseDTO snapshot = store.snapshot(PLAN_ID);
+
+        // then
+        assertThat(snapshot.getWhiteBoardDiagrams()).extracting(WhiteBoardDiagramDTO::getWhiteBoardObjectId).containsExactly(10L, 20L, 30L);
+    }
+
+    @Test
+    @DisplayName("마지막 구독자가 나가고 idle TTL이 지나면 제거되고, 다시 입장하면 새로 적재함")
+    void evictsIdleRoomAfterLastLeave() {
+        // given
+        WhiteBoardRoomStateStore store = store(-1, Long.MAX_VALUE); // 즉시 idle 만료
+        store.onRoomOpened(new RoomOpenedEvent(TOPIC));
+
+        // when
+        store.onRoomClosed(new RoomClosedEvent(TOPIC));
+        store.evictIdleRooms();
+        store.snapshot(PLAN_ID);
+
+        // then
+        verify(whiteBoardRepository, times(2)).findByPlanIdWithPlace(PLAN_ID);
+        assertThat(meterRegistry.get("whiteboard.room_state.evictions").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("구독자가 남아 있는 방은 idle TTL이 지나도 제거하지 않음")
+    void keepsRoomWithSubscribers() {
+        // given
+        WhiteBoardRoomStateStore store = store(-1, Long.MAX_VALUE); // 즉시 idle 만료
+        given(stompSubscriptionRegistry.countSubscribers(TOPIC)).willReturn(1);
+        store.snapshot(PLAN_ID);
+
+        // when
+        store.evictIdleRooms();
+        store.snapshot(PLAN_ID);
+
+        // then
+        verify(whiteBoardRepository, times(1)).findByPlanIdWithPlace(PLAN_ID);
+    }
+
+    @Test
+    @DisplayName("메모리 예산을 넘으면 방을 제거하고 추정 사용량을 되돌림")
+    void enforcesMemoryBudget() {
+        // given: 객체 2개(약 512 bytes)보다 작은 예산
+        WhiteBoardRoomStateStore store = store(60_000, 100);
+
+        // when
+        store.snapshot(PLAN_ID);
+
+        // then
+        assertThat(meterRegistry.get("whiteboard.room_state.rooms").gauge().value()).isZero();
+        assertThat(meterRegistry.get("whiteboard.room_state.bytes").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("화이트보드가 아닌 destination의 입장 이벤트는 무시함")
+    void ignoresOtherDestinations() {
+        // given
+        WhiteBoardRoomStateStore store = store(60_000, Long.MAX_VALUE);
+
+        // when
+        store.onRoomOpened(new RoomOpenedEvent("/topic/mouse/" + PLAN_ID));
+
+        // then
+        verify(whiteBoardRepository, never()).findByPlanIdWithPlace(PLAN_ID);
+        verify(stompSubscriptionRegistry, never()).countSubscribers(anyString());
+    }
+
+    private WhiteBoardRoomStateStore store(long idleTtlMillis, long maxBytes) {
+        return new WhiteBoardRoomStateStore(whiteBoardRepository, whiteBoardWriteBehindBuffer, stompSubscriptionRegistry,
+                new ObjectMapper(), meterRegistry, idleTtlMillis, maxBytes);
+    }
+
+    private static WhiteBoardObject diagram(Long id, double coordinate) {
+        return WhiteBoardObject.builder()
+                .whiteBoardObjectId(id)
+                .objectType(ObjectType.PEN)
+                .x(coordinate)
+                .y(coordinate)
+                .pointsPacked(PointsCodec.encode(new double[]{coordinate, coordinate}))
+                .build();
+    }
+}
@@ -0,0 +1,154 @@
+package com.ssafy.backend.whiteBoard.service;
+
+import com.ssafy.backend.whiteBoard.dto.request.CreateLineRequestDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WhiteBoardStrokeAssemblerTest {
+
+    private static final Long PLAN_ID = 1L;
+    private static final Long USER_A = 10L;
+    private static final Long USER_B = 20L;
+
+    private WhiteBoardStrokeAssembler newAssembler(double tolerance, int maxPoints, int maxActive) {
+        return new WhiteBoardStrokeAssembler(new SimpleMeterRegistry(), tolerance, maxPoints, 30_000, maxActive);
+    }
+
+    @Test
+    @DisplayName("BEGIN/APPEND/END 조각을 순서대로 이어 붙이고 헤더를 유지")
+    void assemblesFragmentsInOrder() {
+        // given
+        WhiteBoardStrokeAssembler assembler = newAssembler(0, 10_000, 100);
+        assembler.begin(PLAN_ID, "s1", USER_A, header(0, 0, 1, 1));
+        assembler.append(PLAN_ID, "s1", USER_A, new double[]{2, 2, 3, 3});
+
+        // when
+        CreateLineRequestDTO line = assembler.end(PLAN_ID, "s1", USER_A, new double[]{4, 4});
+
+        // then
+        assertThat(line.getPoints()).containsExactly(0, 0, 1, 1, 2, 2, 3, 3, 4, 4);
+        assertThat(line.getStrokeId()).isEqualTo("s1");
+        assertThat(line.getStroke()).isEqualTo("#000000");
+    }
+
+    @Test
+    @DisplayName("END 시점에 허용 오차로 단순화한 좌표를 만듦")
+    void simplifiesOnEnd() {
+        // given: 직선 위의 점 5개
+        WhiteBoardStrokeAssembler assembler = newAssembler(0.5, 10_000, 100);
+        assembler.begin(PLAN_ID, "s1", USER_A, header(0, 0, 1, 0.1));
+        assembler.append(PLAN_ID, "s1", USER_A, new double[]{2, -0.1, 3, 0});
+
+        // when
+        CreateLineRequestDTO line = assembler.end(PLAN_ID, "s1", USER_A, new double[]{4, 0});
+
+        // then
+        assertThat(line.getPoints()).containsExactly(0, 0, 4, 0);
+    }
+
+    @Test
+    @DisplayName("다른 사용자가 같은 strokeId로 시작해도 서로의 스트로크를 덮어쓰지 않음")
+    void sameStrokeIdFromDifferentUsers() {
+        // given
+        WhiteBoardStrokeAssembler assembler = newAssembler(0, 10_000, 100);
+        assembler.begin(PLAN_ID, "s1", USER_A, header(0, 0));
+        assembler.begin(PLAN_ID, "s1", USER_B, header(9, 9));
+        assembler.append(PLAN_ID, "s1", USER_A, new double[]{1, 1});
+
+        // when
+        CreateLineRequestDTO lineA = assembler.end(PLAN_ID, "s1", USER_A, null);
+        CreateLineRequestDTO lineB = assembler.end(PLAN_ID, "s1", USER_B, null);
+
+        // then
+        assertThat(lineA.getPoints()).containsExactly(0, 0, 1, 1);
+        assertThat(lineB.getPoints()).containsExactly(9, 9);
+    }
+
+    @Test
+    @DisplayName("시작하지 않은 사용자의 APPEND/END는 거부")
+    void rejectsOtherUsersFragments() {
+        // given
+        WhiteBoardStrokeAssembler assembler = newAssembler(0, 10_000, 100);
+        assembler.begin(PLAN_ID, "s1", USER_A, header(0, 0));
+
+        // when, then
+        assertThat(assembler.append(PLAN_ID, "s1", USER_B, new double[]{1, 1})).isFalse();
+        assertThat(assembler.end(PLAN_ID, "s1", USER_B, null)).isNull();
+        assertThat(assembler.end(PLAN_ID, "s1", USER_A, null).getPoints()).containsExactly(0, 0);
+    }
+
+    @Test
+    @DisplayName("조립 중인 스트로크 수가 최대치면 새 스트로크 시작을 거부")
+    void rejectsBeginOverGlobalCap() {
+        // given
+        WhiteBoardStrokeAssembler assembler = newAssembler(0, 10_000, 2);
+        assertThat(assembler.begin(PLAN_ID, "s1", USER_A, header(0, 0))).isTrue();
+        assertThat(assembler.begin(PLAN_ID, "s2", USER_A, header(0, 0))).isTrue();
+
+        // when, then
+        assertThat(assembler.begin(2L, "s3", USER_B, header(0, 0))).isFalse();
+        // 이미 조립 중인 스트로크를 다시 시작하는 것은 허용
+        assertThat(assembler.begin(PLAN_ID, "s1", USER_A, header(1, 1))).isTrue();
+    }
+
+    @Test
+    @DisplayName("저장이 커밋되기 전에는 스트로크를 유지하고, 커밋되면 제거")
+    void removesOnlyAfterStored() {
+        // given
+        WhiteBoardStrokeAssembler assembler = newAssembler(0, 10_000, 100);
+        assembler.begin(PLAN_ID, "s1", USER_A, header(0, 0));
+        assembler.end(PLAN_ID, "s1", USER_A, new double[]{1, 1});
+
+        // when: 저장 중에는 같은 스트로크를 다시 종료할 수 없음
+        CreateLineRequestDTO duplicate = assembler.end(PLAN_ID, "s1", USER_A, new double[]{1, 1});
+        assembler.complete(PLAN_ID, "s1", USER_A, true);
+
+        // then
+        assertThat(duplicate).isNull();
+        assertThat(assembler.end(PLAN_ID, "s1", USER_A, null)).isNull();
+    }
+
+    @Test
+    @DisplayName("저장이 실패하면 스트로크를 되돌려 같은 STROKE_END로 다시 저장할 수 있음")
+    void retriesEndAfterFailedStore() {
+        // given
+        WhiteBoardStrokeAssembler assembler = newAssembler(0, 10_000, 100);
+        assembler.begin(PLAN_ID, "s1", USER_A, header(0, 0));
+        assembler.end(PLAN_ID, "s1", USER_A, new double[]{1, 1});
+
+        // when
+        assembler.complete(PLAN_ID, "s1", USER_A, false);
+        CreateLineRequestDTO retried = assembler.end(PLAN_ID, "s1", USER_A, new double[]{1, 1});
+
+        // then: 마지막 조각이 중복되지 않음
+        assertThat(retried.getPoints()).containsExactly(0, 0, 1, 1);
+    }
+
+    @Test
+    @DisplayName("최대 점 수를 넘는 좌표는 저장하지 않음")
+    void truncatesOverMaxPoints() {
+        // given
+        WhiteBoardStrokeAssembler assembler = newAssembler(0, 3, 100);
+        assembler.begin(PLAN_ID, "s1", USER_A, header(0, 0, 1, 1));
+        assembler.append(PLAN_ID, "s1", USER_A, new double[]{2, 2, 3, 3});
+
+        // when
+        CreateLineRequestDTO line = assembler.end(PLAN_ID, "s1", USER_A, new double[]{4, 4});
+
+        // then
+        assertThat(line.getPoints()).containsExactly(0, 0, 1, 1, 2, 2);
+    }
+
+    private static CreateLineRequestDTO header(double... points) {
+        return CreateLineRequestDTO.builder()
+                .type("PEN")
+                .x(0.0)
+                .y(0.0)
+                .stroke("#000000")
+                .points(points)
+                .build();
+    }
+}
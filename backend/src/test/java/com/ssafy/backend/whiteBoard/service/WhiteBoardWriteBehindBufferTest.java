@@ -0,0 +1,166 @@
+package com.ssafy.backend.whiteBoard.service;
+
+import com.ssafy.backend.common.websocket.RoomClosedEvent;
+import com.ssafy.backend.whiteBoard.dto.request.ModifyWhiteBoardObjectRequestDTO;
+import com.ssafy.backend.whiteBoard.repository.WhiteBoardJdbcRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class WhiteBoardWriteBehindBufferTest {
+
+    private static final Long PLAN_ID = 1L;
+
+    private final WhiteBoardJdbcRepository whiteBoardJdbcRepository = mock(WhiteBoardJdbcRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("같은 객체의 연속 수정은 마지막 상태 하나로 합쳐서 플러시함")
+    void coalescesModificationsPerObject() {
+        // given
+        WhiteBoardWriteBehindBuffer buffer = buffer(256);
+        for (int i = 0; i < 10; i++) {
+            buffer.enqueue(PLAN_ID, 100L, modify(i));
+        }
+        buffer.enqueue(PLAN_ID, 200L, modify(7));
+
+        // when
+        buffer.flushAll();
+
+        // then
+        Map<Long, ModifyWhiteBoardObjectRequestDTO> flushed = captureFlush(1);
+        assertThat(flushed).containsOnlyKeys(100L, 200L);
+        assertThat(flushed.get(100L).getX()).isEqualTo(9.0);
+        assertThat(pending()).isZero();
+    }
+
+    @Test
+    @DisplayName("플랜별 대기 객체 수가 max-pending에 도달하면 주기를 기다리지 않고 플러시함")
+    void flushesWhenPlanBufferIsFull() {
+        // given
+        WhiteBoardWriteBehindBuffer buffer = buffer(3);
+
+        // when
+        buffer.enqueue(PLAN_ID, 1L, modify(1));
+        buffer.enqueue(PLAN_ID, 2L, modify(2));
+        verify(whiteBoardJdbcRepository, never()).batchUpdateTransform(anyLong(), anyMap());
+        buffer.enqueue(PLAN_ID, 3L, modify(3));
+
+        // then
+        assertThat(captureFlush(1)).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("플러시가 실패하면 되돌려서 다음 주기에 재시도하고, 그 사이 들어온 최신 상태를 덮어쓰지 않음")
+    void restoresFailedFlushWithoutOverwritingNewerState() {
+        // given
+        WhiteBoardWriteBehindBuffer buffer = buffer(256);
+        buffer.enqueue(PLAN_ID, 100L, modify(1));
+        buffer.enqueue(PLAN_ID, 200L, modify(1));
+        // 플러시 도중 100번 객체가 새로 수정된 뒤 UPDATE 실패
+        willAnswer(invocation -> {
+            buffer.enqueue(PLAN_ID, 100L, modify(2));
+            throw new RuntimeException("DB 장애");
+        }).given(whiteBoardJdbcRepository).batchUpdateTransform(eq(PLAN_ID), anyMap());
+
+        // when
+        buffer.flushAll();
+        reset(whiteBoardJdbcRepository);
+        buffer.flushAll();
+
+        // then
+        Map<Long, ModifyWhiteBoardObjectRequestDTO> retried = captureFlush(1);
+        assertThat(retried).containsOnlyKeys(100L, 200L);
+        assertThat(retried.get(100L).getX()).isEqualTo(2.0);
+        assertThat(meterRegistry.get("whiteboard.write_behind.failed").counter().count()).isEqualTo(1);
+        assertThat(pending()).isZero();
+    }
+
+    @Test
+    @DisplayName("삭제된 객체의 대기 중인 수정은 폐기함")
+    void discardsDeletedObject() {
+        // given
+        WhiteBoardWriteBehindBuffer buffer = buffer(256);
+        buffer.enqueue(PLAN_ID, 100L, modify(1));
+        buffer.enqueue(PLAN_ID, 200L, modify(1));
+
+        // when
+        buffer.discard(PLAN_ID, 100L);
+        buffer.flushAll();
+
+        // then
+        assertThat(captureFlush(1)).containsOnlyKeys(200L);
+    }
+
+    @Test
+    @DisplayName("마지막 구독자가 나가면 그 방만 즉시 플러시함")
+    void flushesOnRoomClosed() {
+        // given
+        WhiteBoardWriteBehindBuffer buffer = buffer(256);
+        buffer.enqueue(PLAN_ID, 100L, modify(1));
+        buffer.enqueue(2L, 300L, modify(1));
+
+        // when
+        buffer.onRoomClosed(new RoomClosedEvent("/topic/whiteboard/" + PLAN_ID));
+
+        // then
+        verify(whiteBoardJdbcRepository, times(1)).batchUpdateTransform(eq(PLAN_ID), anyMap());
+        verify(whiteBoardJdbcRepository, never()).batchUpdateTransform(eq(2L), anyMap());
+        assertThat(pending()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("서버 종료 시 모든 플랜의 대기 중인 수정을 반영함")
+    void drainsAllPlansOnShutdown() {
+        // given
+        WhiteBoardWriteBehindBuffer buffer = buffer(256);
+        buffer.enqueue(1L, 100L, modify(1));
+        buffer.enqueue(2L, 200L, modify(1));
+        buffer.enqueue(3L, 300L, modify(1));
+
+        // when
+        buffer.shutdown();
+
+        // then
+        verify(whiteBoardJdbcRepository, times(3)).batchUpdateTransform(anyLong(), anyMap());
+        assertThat(meterRegistry.get("whiteboard.write_behind.flushed").counter().count()).isEqualTo(3);
+        assertThat(pending()).isZero();
+    }
+
+    private WhiteBoardWriteBehindBuffer buffer(int maxPendingPerPlan) {
+        return new WhiteBoardWriteBehindBuffer(whiteBoardJdbcRepository, meterRegistry, maxPendingPerPlan);
+    }
+
+    private double pending() {
+        return meterRegistry.get("whiteboard.write_behind.pending").gauge().value();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Long, ModifyWhiteBoardObjectRequestDTO> captureFlush(int times) {
+        ArgumentCaptor<Map<Long, ModifyWhiteBoardObjectRequestDTO>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(whiteBoardJdbcRepository, times(times)).batchUpdateTransform(eq(PLAN_ID), captor.capture());
+        return captor.getValue();
+    }
+
+    private static ModifyWhiteBoardObjectRequestDTO modify(double x) {
+        return ModifyWhiteBoardObjectRequestDTO.builder()
+                .type("CIRCLE")
+                .x(x)
+                .y(0.0)
+                .build();
+    }
+}
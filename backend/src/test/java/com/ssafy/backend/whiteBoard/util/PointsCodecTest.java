@@ -0,0 +1,91 @@
+package com.ssafy.backend.whiteBoard.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class PointsCodecTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("인코딩 후 디코딩하면 0.01 단위 오차 안에서 원래 좌표로 복원")
+    void roundTrip() {
+        // given
+        double[] points = {12.345, -7.5, 1024.0, 768.25, 0.0, 99999.99};
+
+        // when
+        double[] decoded = PointsCodec.decode(PointsCodec.encode(points));
+
+        // then
+        assertThat(decoded).hasSameSizeAs(points);
+        for (int i = 0; i < points.length; i++) {
+            assertThat(decoded[i]).isCloseTo(points[i], within(0.005));
+        }
+    }
+
+    @Test
+    @DisplayName("null과 빈 배열 처리")
+    void nullAndEmpty() {
+        assertThat(PointsCodec.encode(null)).isNull();
+        assertThat(PointsCodec.decode(null)).isNull();
+        assertThat(PointsCodec.decode(PointsCodec.encode(new double[0]))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("손상된 데이터는 IllegalArgumentException")
+    void corrupted() {
+        byte[] packed = PointsCodec.encode(new double[]{1.0, 2.0, 3.0, 4.0});
+        byte[] truncated = Arrays.copyOf(packed, packed.length - 1);
+
+        assertThatThrownBy(() -> PointsCodec.decode(truncated)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> PointsCodec.decode(new byte[]{9})).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("좌표 개수가 남은 바이트보다 많으면 배열을 할당하지 않고 거부")
+    void rejectsOversizedCount() {
+        // given: 버전 + 좌표 개수 varint(2^31 - 1) + 좌표 1byte
+        byte[] packed = {1, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07, 0};
+
+        // when, then
+        assertThatThrownBy(() -> PointsCodec.decode(packed)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("자유곡선은 JSON 배열의 1/4 이하 크기로 저장됨")
+    void smallerThanJson() throws Exception {
+        // given: 점 2,000개짜리 자유곡선
+        double[] points = freehandStroke(2_000);
+        String json = objectMapper.writeValueAsString(points);
+
+        // when
+        byte[] packed = PointsCodec.encode(points);
+
+        // then: 인접 점 간 차이가 작으므로 대부분 좌표가 1~2byte
+        assertThat(packed.length).isLessThan(json.getBytes(StandardCharsets.UTF_8).length / 4);
+        assertThat(packed.length).isLessThanOrEqualTo(2 + 3 + points.length * 2);
+    }
+
+    private static double[] freehandStroke(int pointCount) {
+        Random random = new Random(42);
+        double[] points = new double[pointCount * 2];
+        double x = 400;
+        double y = 300;
+        for (int i = 0; i < points.length; i += 2) {
+            x += random.nextDouble() * 6 - 3;
+            y += random.nextDouble() * 6 - 3;
+            points[i] = x;
+            points[i + 1] = y;
+        }
+        return points;
+    }
+}
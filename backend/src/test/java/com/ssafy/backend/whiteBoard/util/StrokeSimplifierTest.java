@@ -0,0 +1,75 @@
+package com.ssafy.backend.whiteBoard.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StrokeSimplifierTest {
+
+    @Test
+    @DisplayName("허용 오차 이내로 벗어난 점은 제거하고 양 끝점은 유지")
+    void dropsPointsWithinTolerance() {
+        // given: (0,0) → (10,0) 직선에서 최대 0.3px 벗어난 점들
+        double[] points = {0, 0, 2, 0.3, 5, -0.2, 8, 0.1, 10, 0};
+
+        // when
+        double[] simplified = StrokeSimplifier.simplify(points, 0.5);
+
+        // then
+        assertThat(simplified).containsExactly(0, 0, 10, 0);
+    }
+
+    @Test
+    @DisplayName("허용 오차보다 멀리 벗어난 점은 유지")
+    void keepsPointsBeyondTolerance() {
+        // given: 가운데 점이 5px 솟은 꺾인 선 (나머지 점은 각 변에서 0.1px 이내)
+        double[] points = {0, 0, 5, 2.6, 10, 5, 15, 2.4, 20, 0};
+
+        // when
+        double[] simplified = StrokeSimplifier.simplify(points, 0.5);
+
+        // then
+        assertThat(simplified).containsExactly(0, 0, 10, 5, 20, 0);
+    }
+
+    @Test
+    @DisplayName("허용 오차가 작을수록 더 많은 점을 유지")
+    void smallerToleranceKeepsMorePoints() {
+        // given
+        double[] points = {0, 0, 2, 0.3, 5, -0.2, 8, 0.1, 10, 0};
+
+        // when
+        double[] fine = StrokeSimplifier.simplify(points, 0.2);
+
+        // then: 0.2px보다 멀리 벗어난 (2,0.3), (5,-0.2)만 추가로 유지
+        assertThat(fine).containsExactly(0, 0, 2, 0.3, 5, -0.2, 10, 0);
+    }
+
+    @Test
+    @DisplayName("허용 오차가 0 이하이거나 점이 3개 미만이면 그대로 반환")
+    void returnsInputWhenNothingToSimplify() {
+        double[] line = {0, 0, 1, 1};
+        double[] curve = {0, 0, 1, 0.1, 2, 0};
+
+        assertThat(StrokeSimplifier.simplify(line, 0.5)).isSameAs(line);
+        assertThat(StrokeSimplifier.simplify(curve, 0)).isSameAs(curve);
+    }
+
+    @Test
+    @DisplayName("점이 많은 직선도 스택 오버플로 없이 양 끝점만 남김")
+    void longStraightStroke() {
+        // given: 점 100,000개짜리 직선
+        double[] points = new double[200_000];
+        for (int i = 0; i < points.length; i += 2) {
+            points[i] = i / 2.0;
+            points[i + 1] = i / 2.0;
+        }
+
+        // when
+        double[] simplified = StrokeSimplifier.simplify(points, 0.5);
+
+        // then
+        assertThat(simplified).containsExactly(0, 0, 99_999, 99_999);
+    }
+}
@@ -66,24 +66,33 @@ export function useMouseStomp({
             const raw = typeof message.body === 'string'
               ? message.body.replace('\u0000+$', '')
               : message.body;
-            const dto = JSON.parse(raw); // { userId, userName, x, y }
+            // 서버가 tick마다 변경된 커서만 배열로 묶어 보냄 (단일 객체도 호환)
+            const payload = JSON.parse(raw); // [{ userId, userName, x, y }, ...]
+            const dtos = (Array.isArray(payload) ? payload : [payload])
+              .filter((dto) => dto?.userId != null);
             setSubCount((n) => n + 1);
-            setLastDto(dto);
-
-            if (dto?.userId != null) {
-              const uid = String(dto.userId);
-              const now = Date.now();
-              setUsers((prev) => ({
-                ...prev,
-                [uid]: {
+            if (dtos.length === 0) return;
+            setLastDto(dtos[dtos.length - 1]);
+
+            const now = Date.now();
+            setUsers((prev) => {
+              const next = { ...prev };
+              dtos.forEach((dto) => {
+                next[String(dto.userId)] = {
                   state: { x: dto.x, y: dto.y },
                   displayName: dto.userName ?? '',
                   lastSeen: now,
                   active: true,
-                },
-              }));
-              setUserOrder((order) => (order.includes(uid) ? order : [...order, uid]));
-            }
+                };
+              });
+              return next;
+            });
+            setUserOrder((order) => {
+              const added = dtos
+                .map((dto) => String(dto.userId))
+                .filter((uid, i, arr) => !order.includes(uid) && arr.indexOf(uid) === i);
+              return added.length ? [...order, ...added] : order;
+            });
           } catch (e) {
             console.error("[STOMP] Invalid payload:", e, message.body);
           }